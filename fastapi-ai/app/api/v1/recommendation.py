@@ -1,10 +1,14 @@
 from fastapi import APIRouter, Depends, HTTPException
 from datetime import datetime
+import asyncio
 import logging
 
 from app.models.schemas import (
     RecommendationRequest,
     RecommendationResponse,
+    BatchRecommendationRequest,
+    BatchRecommendationResult,
+    BatchRecommendationResponse,
     APIResponse
 )
 from app.services.recommendation import get_recommendation_service, RecommendationService
@@ -43,6 +47,35 @@ async def get_recommendations(
         raise HTTPException(status_code=500, detail=str(e))
 
 
+@router.post("/batch", response_model=BatchRecommendationResponse)
+async def get_batch_recommendations(
+    request: BatchRecommendationRequest,
+    service: RecommendationService = Depends(get_recommendation_service)
+):
+    """
+    여러 사용자 추천을 한 번에 생성 (Spring Boot 마이크로 배칭용)
+
+    - 사용자 한 명의 실패가 배치 전체를 실패시키지 않도록 해당 사용자는 error를 채워 응답 (호출 측에서 폴백)
+    """
+    async def recommend(item):
+        try:
+            recommendations = await service.get_recommendations(user_id=item.user_id, limit=item.limit)
+            error = None
+        except Exception as e:
+            logger.error(f"추천 생성 실패 (user_id={item.user_id}): {e}")
+            recommendations = []
+            error = str(e) or type(e).__name__
+        return BatchRecommendationResult(
+            user_id=item.user_id,
+            recommendations=recommendations,
+            generated_at=datetime.now(),
+            error=error
+        )
+
+    results = await asyncio.gather(*(recommend(item) for item in request.requests))
+    return BatchRecommendationResponse(results=list(results))
+
+
 @router.post("/train", response_model=APIResponse)
 async def train_recommendation_model(
     force_retrain: bool = False, # true일 경우 기존 모델 무시하고 재학습
@@ -241,8 +241,9 @@ class AnomalyDetectionModel:
         
         # 4. IP 기반 특징 (동일 IP에서 여러 예약)
         if 'ip_address' in df.columns:
-            ip_counts = df.groupby('ip_address').size()
-            features['ip_reservation_count'] = df['ip_address'].map(ip_counts)
+            # IP를 모르는 예약(IP 저장 전 데이터 / 'unknown')은 한 IP로 묶지 않고 1건으로 취급
+            ip = df['ip_address'].where(~df['ip_address'].isin(['unknown', '']))
+            features['ip_reservation_count'] = ip.map(ip.value_counts()).fillna(1).astype(int)
         else:
             features['ip_reservation_count'] = 1
         
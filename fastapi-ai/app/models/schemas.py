@@ -28,6 +28,18 @@ class RecommendationResponse(BaseModel):
     generated_at: datetime
 
 
+class BatchRecommendationRequest(BaseModel):
+    requests: List[RecommendationRequest] = Field(..., max_length=200, description="사용자별 추천 요청")
+
+
+class BatchRecommendationResult(RecommendationResponse):
+    error: Optional[str] = None  # 해당 사용자 추천 생성 실패 사유 (실패 시 recommendations는 비어 있음)
+
+
+class BatchRecommendationResponse(BaseModel):
+    results: List[BatchRecommendationResult]
+
+
 # ==================== 이상 탐지 ====================
 class ReservationData(BaseModel):
     user_id: int
@@ -1,3 +1,4 @@
+import json
 import pandas as pd
 import httpx
 from typing import List
@@ -14,6 +15,8 @@ logger = logging.getLogger(__name__)
 
 
 class AnomalyDetectionService:
+    FETCH_MAX_RETRIES = 3
+
     def __init__(self):
         self.model: AnomalyDetectionModel = None
         self.model_path = Path(settings.ANOMALY_MODEL_PATH)
@@ -36,41 +39,53 @@ class AnomalyDetectionService:
             logger.info("새로운 이상 탐지 모델 초기화")
     
     async def fetch_training_data(self) -> pd.DataFrame:
-        """Spring Boot API에서 학습 데이터 가져오기"""
-        async with httpx.AsyncClient(timeout=30.0) as client:
-            try:
-                response = await client.get(
-                    f"{settings.SPRINGBOOT_API_URL}/api/v1/reservations/all"
-                )
-                response.raise_for_status()
-                reservations = response.json()['data']
-                
-                # DataFrame으로 변환
-                data = []
-                for r in reservations:
-                    data.append({
-                        'user_id': r['userId'],
-                        'event_id': r['ticket']['eventId'],
-                        'ticket_id': r['ticketId'],
-                        # 'price': r['price'],
-                        # 'purchase_time': r['createdAt'],
-                        'ip_address': r.get('ipAddress', 'unknown'),
-                        'user_agent': r.get('userAgent', 'unknown')
-                    })
-                
-                df = pd.DataFrame(data)
-                logger.info(f"학습 데이터 수집 완료: {len(df)}건")
-                return df
-                
-            except Exception as e:
-                logger.error(f"학습 데이터 수집 실패: {e}")
-                return self._generate_mock_data()
-            except httpx.RequestError as e:
-                logger.error(f"학습 데이터 API 연결 실패: {e}", exc_info=True)
-                return self._generate_mock_data()
-            except Exception as e:
-                logger.error(f"학습 데이터 수집 중 예상치 못한 오류: {e}", exc_info=True)
-                return self._generate_mock_data()
+        """Spring Boot API에서 학습 데이터 가져오기 (NDJSON 스트리밍, 끊기면 마지막 reservation_id부터 이어받기)"""
+        url = f"{settings.SPRINGBOOT_API_URL}/api/v1/recommendations/for-anomaly-detection/export"
+        data = []
+        last_id = 0
+        attempts = 0
+
+        # 전체를 한 번에 받지 않고 줄 단위로 읽음 (read 타임아웃은 줄 사이 간격 기준)
+        timeout = httpx.Timeout(30.0, read=60.0)
+        async with httpx.AsyncClient(timeout=timeout) as client:
+            while True:
+                try:
+                    async with client.stream(
+                        "GET", url, params={"format": "ndjson", "after": last_id}
+                    ) as response:
+                        response.raise_for_status()
+                        async for line in response.aiter_lines():
+                            if not line:
+                                continue
+                            r = json.loads(line)
+                            data.append({
+                                'user_id': r['user_id'],
+                                'event_id': r['event_id'],
+                                'ticket_id': r['ticket_id'],
+                                'ip_address': r.get('ip_address', 'unknown'),
+                                'user_agent': r.get('user_agent', 'unknown')
+                            })
+                            last_id = r['reservation_id']
+                    break
+                except (httpx.TransportError, json.JSONDecodeError) as e:
+                    attempts += 1
+                    if attempts > self.FETCH_MAX_RETRIES:
+                        logger.error(f"학습 데이터 스트림 재시도 초과: {e}", exc_info=True)
+                        break
+                    logger.warning(f"학습 데이터 스트림 끊김, reservation_id {last_id} 이후부터 재시도: {e}")
+                except httpx.HTTPStatusError as e:
+                    logger.error(f"학습 데이터 API 오류: {e}", exc_info=True)
+                    break
+                except Exception as e:
+                    logger.error(f"학습 데이터 수집 중 예상치 못한 오류: {e}", exc_info=True)
+                    break
+
+        if not data:
+            return self._generate_mock_data()
+
+        df = pd.DataFrame(data)
+        logger.info(f"학습 데이터 수집 완료: {len(df)}건 (마지막 reservation_id={last_id})")
+        return df
     
     def _generate_mock_data(self) -> pd.DataFrame:
         """Mock 데이터 생성"""
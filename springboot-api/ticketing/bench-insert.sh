@@ -0,0 +1,52 @@
+#!/bin/bash
+
+# 대량 INSERT 처리량 벤치마크
+# 실행: chmod +x bench-insert.sh && ./bench-insert.sh [count] [batchSize] [threadCount]
+#
+# 변경 전/후 브랜치에서 각각 실행해 비교한다.
+# - throughputPerSecond: 초당 INSERT 건수
+# - Com_insert 증가량: rewriteBatchedStatements가 적용되면 행 수가 아닌 배치 수만큼 증가
+# - Com_select 증가량: Persistable 적용 시 INSERT 전 SELECT가 사라져 0에 가까워야 함
+
+BASE_URL="http://localhost:8080/api/v1/test-data"
+COUNT=${1:-100000}
+BATCH_SIZE=${2:-500}
+THREAD_COUNT=${3:-10}
+
+mysql_status() {
+    docker-compose exec -T mysql mysql -uadmin -proot -N -e "SHOW GLOBAL STATUS LIKE '$1';" 2>/dev/null | awk '{print $2}'
+}
+
+run() {
+    local type=$1
+
+    local insert_before=$(mysql_status Com_insert)
+    local select_before=$(mysql_status Com_select)
+
+    local task_id=$(curl -s -X POST "${BASE_URL}/${type}" \
+        -H "Content-Type: application/json" \
+        -d "{\"count\": ${COUNT}, \"batchSize\": ${BATCH_SIZE}, \"threadCount\": ${THREAD_COUNT}}" \
+        | jq -r '.data.taskId')
+
+    local status="RUNNING"
+    local progress=""
+    while [ "$status" == "RUNNING" ]; do
+        sleep 1
+        progress=$(curl -s "${BASE_URL}/progress/${task_id}")
+        status=$(echo "$progress" | jq -r '.data.status')
+    done
+
+    local insert_after=$(mysql_status Com_insert)
+    local select_after=$(mysql_status Com_select)
+
+    echo "[${type}] status=${status}"
+    echo "$progress" | jq '.data | {completedCount, errorCount, elapsedSeconds, throughputPerSecond}'
+    echo "  Com_insert +$((insert_after - insert_before)), Com_select +$((select_after - select_before))"
+    echo ""
+}
+
+echo "INSERT 벤치마크: count=${COUNT}, batchSize=${BATCH_SIZE}, threads=${THREAD_COUNT}"
+echo "=================================="
+run users
+run events
+echo "=================================="
@@ -0,0 +1,99 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.global.enums.Category;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 카탈로그 페이지 조회 / 변경분 merge 비용 (이벤트 100만 건)
+ *
+ * 실행: ./gradlew jmh
+ * 로컬 측정 (JDK 17): 스냅샷 약 203MB, 20건 페이지 6~17µs, 신규 100건 merge 12~16ms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx2g"})
+public class EventCatalogBenchmark {
+
+    private static final int EVENT_COUNT = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    private EventCatalogSnapshot snapshot;
+    private List<EventResponse> appends;
+    private List<EventResponse> mixed;
+    private LocalDateTime now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.now().minusDays(180);
+        List<EventResponse> events = new ArrayList<>(EVENT_COUNT);
+        for (int i = 1; i <= EVENT_COUNT; i++) {
+            events.add(event(i, base.plusMinutes(ThreadLocalRandom.current().nextInt(525_600))));
+        }
+        snapshot = EventCatalogSnapshot.of(events);
+        now = LocalDateTime.now();
+
+        appends = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            appends.add(event(EVENT_COUNT + i, now.plusDays(i)));
+        }
+        mixed = new ArrayList<>(appends);
+        for (int i = 1; i <= 10; i++) {
+            mixed.add(event(i * 1000L, now.plusDays(30)));
+        }
+    }
+
+    @Benchmark
+    public List<EventResponse> pageByDate() {
+        return snapshot.pageByDate(randomOffset(snapshot.size()), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<EventResponse> pageByCategory() {
+        return snapshot.pageByCategory(Category.CONCERT,
+                randomOffset(snapshot.countByCategory(Category.CONCERT)), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<EventResponse> pageUpcoming() {
+        return snapshot.pageUpcoming(now, randomOffset(snapshot.countUpcoming(now)), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public EventCatalogSnapshot mergeAppends() {
+        return snapshot.merge(appends);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public EventCatalogSnapshot mergeMixed() {
+        return snapshot.merge(mixed);
+    }
+
+    private static int randomOffset(int count) {
+        return ThreadLocalRandom.current().nextInt(Math.max(1, count - PAGE_SIZE));
+    }
+
+    private static EventResponse event(long id, LocalDateTime eventDate) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        return EventResponse.builder()
+                .id(id)
+                .title("Event " + id)
+                .description("Benchmark event " + id)
+                .category(Category.values()[(int) (id % Category.values().length)])
+                .venue("Venue " + (id % 500))
+                .eventDate(eventDate)
+                .imageUrl("https://cdn.example.com/events/" + id + ".jpg")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
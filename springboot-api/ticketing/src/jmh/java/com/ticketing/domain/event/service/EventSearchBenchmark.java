@@ -0,0 +1,80 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * bigram 색인 검색 vs LIKE '%kw%'에 해당하는 전수 비교 (이벤트 100만 건)
+ *
+ * 실행: ./gradlew jmh
+ * scan은 DB I/O 없이 메모리의 문자열만 훑는 값이라 실제 LIKE 풀스캔보다 훨씬 빠른 하한이다.
+ * 로컬 측정 (JDK 17, 1 vCPU): 색인 약 110MB, 20건 페이지 0.8~7ms (일치 건수에 비례), scan 35~70ms
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xmx3g"})
+public class EventSearchBenchmark {
+
+    private static final int EVENT_COUNT = 1_000_000;
+
+    private static final String[] ARTISTS = {"아이유", "BTS", "뉴진스", "임영웅", "세븐틴", "블랙핑크", "성시경", "Coldplay"};
+    private static final String[] KINDS = {"전국투어", "단독 콘서트", "팬미팅", "월드투어", "앙코르 공연", "페스티벌"};
+    private static final String[] CITIES = {"서울", "부산", "대구", "광주", "인천", "대전"};
+    private static final String[] VENUES = {"올림픽체조경기장", "KSPO DOME", "고척스카이돔", "벡스코", "세종문화회관"};
+
+    @Param({"아이유 전국", "전국투어 부산", "#12345", "콘"})
+    private String keyword;
+
+    private EventSearchIndex index;
+    private String[] titles;
+    private String[] venues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(1);
+        List<EventResponse> events = new ArrayList<>(EVENT_COUNT);
+        titles = new String[EVENT_COUNT];
+        venues = new String[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            String title = ARTISTS[random.nextInt(ARTISTS.length)] + " " + KINDS[random.nextInt(KINDS.length)]
+                    + " " + CITIES[random.nextInt(CITIES.length)] + " #" + i;
+            String venue = VENUES[random.nextInt(VENUES.length)] + " " + CITIES[random.nextInt(CITIES.length)];
+            titles[i] = title.toLowerCase();
+            venues[i] = venue.toLowerCase();
+            events.add(EventResponse.builder()
+                    .id((long) i + 1)
+                    .title(title)
+                    .venue(venue)
+                    .build());
+        }
+        index = EventSearchIndex.of(events);
+    }
+
+    @Benchmark
+    public EventSearchIndex.Hits index() {
+        return index.search(keyword, 0, 20);
+    }
+
+    @Benchmark
+    public int scan() {
+        String query = keyword.toLowerCase();
+        int matched = 0;
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            if (titles[i].contains(query) || venues[i].contains(query)) {
+                matched++;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return index.suggest(keyword, 10);
+    }
+}
@@ -0,0 +1,142 @@
+package com.ticketing.global.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import com.ticketing.global.cache.CacheEnvelope;
+import com.ticketing.global.enums.Category;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 비교 (바이너리 코덱 vs 기존 default typing JSON)
+ *
+ * 실행: ./gradlew jmh
+ * 항목당 바이트 수는 setUp에서 출력한다. Redis 메모리 비교는 CacheCodecMemoryReport 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheCodecBenchmark {
+
+    private GenericJackson2JsonRedisSerializer json;
+    private BinaryCacheSerializer binary;
+
+    private CacheEnvelope<EventResponse> event;
+    private CacheEnvelope<RecommendationResponse> recommendation;
+
+    private byte[] eventJson;
+    private byte[] eventBinary;
+    private byte[] recommendationJson;
+    private byte[] recommendationBinary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = typedJsonSerializer();
+        binary = new BinaryCacheSerializer(json);
+
+        event = new CacheEnvelope<>(sampleEvent(1_234_567_890_123L), 12, System.currentTimeMillis() + 3_600_000);
+        recommendation = new CacheEnvelope<>(sampleRecommendation(), 85, System.currentTimeMillis() + 1_800_000);
+
+        eventJson = json.serialize(event);
+        eventBinary = binary.serialize(event);
+        recommendationJson = json.serialize(recommendation);
+        recommendationBinary = binary.serialize(recommendation);
+
+        System.out.printf("%nbytes/entry  event: json=%d, binary=%d  recommendation(10): json=%d, binary=%d%n",
+                eventJson.length, eventBinary.length, recommendationJson.length, recommendationBinary.length);
+    }
+
+    @Benchmark
+    public byte[] eventEncodeJson() {
+        return json.serialize(event);
+    }
+
+    @Benchmark
+    public byte[] eventEncodeBinary() {
+        return binary.serialize(event);
+    }
+
+    @Benchmark
+    public Object eventDecodeJson() {
+        return json.deserialize(eventJson);
+    }
+
+    @Benchmark
+    public Object eventDecodeBinary() {
+        return binary.deserialize(eventBinary);
+    }
+
+    @Benchmark
+    public byte[] recommendationEncodeJson() {
+        return json.serialize(recommendation);
+    }
+
+    @Benchmark
+    public byte[] recommendationEncodeBinary() {
+        return binary.serialize(recommendation);
+    }
+
+    @Benchmark
+    public Object recommendationDecodeJson() {
+        return json.deserialize(recommendationJson);
+    }
+
+    @Benchmark
+    public Object recommendationDecodeBinary() {
+        return binary.deserialize(recommendationBinary);
+    }
+
+    /**
+     * RedisConfig.binaryCacheSerializer의 fallback과 같은 설정 (변경 전 캐시 직렬화)
+     */
+    static GenericJackson2JsonRedisSerializer typedJsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder().allowIfSubType(Object.class).build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    static EventResponse sampleEvent(long id) {
+        return EventResponse.builder()
+                .id(id)
+                .title("아이유 콘서트 2025 - " + id)
+                .description("HEREH WORLD TOUR")
+                .category(Category.CONCERT)
+                .venue("KSPO DOME")
+                .eventDate(LocalDateTime.of(2025, 9, 21, 18, 0))
+                .imageUrl("https://cdn.example.com/events/" + id + ".jpg")
+                .totalStock(15_000L)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 10, 30, 15))
+                .build();
+    }
+
+    private static RecommendationResponse sampleRecommendation() {
+        List<EventRecommendation> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(EventRecommendation.builder()
+                    .eventId(1_234_567_890_000L + i)
+                    .title("추천 이벤트 " + i)
+                    .score(0.9 - i * 0.05)
+                    .reason("비슷한 사용자가 예매한 이벤트")
+                    .build());
+        }
+        return RecommendationResponse.builder()
+                .userId(987_654_321L)
+                .recommendations(items)
+                .generatedAt(LocalDateTime.of(2025, 6, 1, 10, 30))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.global.cache.CacheEnvelope;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이벤트 캐시 100만 건을 JSON/바이너리로 각각 Redis에 적재해 used_memory 증가량 비교
+ *
+ * 실행: ./gradlew cacheCodecMemory [-Predis.url=redis://localhost:6379/15] [-Pcount=1000000]
+ * 지정한 DB에 bench:codec:* 키를 쓰고, 측정이 끝나면 직접 쓴 키만 지운다.
+ */
+public class CacheCodecMemoryReport {
+
+    private static final int BATCH_SIZE = 1000;
+
+    public static void main(String[] args) {
+        String url = args.length > 0 ? args[0] : "redis://localhost:6379/15";
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        RedisSerializer<Object> json = CacheCodecBenchmark.typedJsonSerializer();
+        BinaryCacheSerializer binary = new BinaryCacheSerializer(json);
+
+        RedisClient client = RedisClient.create(url);
+        try (StatefulRedisConnection<byte[], byte[]> connection = client.connect(ByteArrayCodec.INSTANCE)) {
+            RedisAsyncCommands<byte[], byte[]> commands = connection.async();
+
+            report("json", commands, json, count);
+            report("binary", commands, binary, count);
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static void report(String format, RedisAsyncCommands<byte[], byte[]> commands,
+                               RedisSerializer<Object> serializer, int count) {
+        long before = usedMemory(commands);
+        long payloadBytes = 0;
+
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<RedisFuture<?>> futures = new ArrayList<>(BATCH_SIZE);
+            for (int id = from; id < Math.min(from + BATCH_SIZE, count); id++) {
+                byte[] value = serializer.serialize(new CacheEnvelope<>(
+                        CacheCodecBenchmark.sampleEvent(id), 12, System.currentTimeMillis() + 3_600_000));
+                payloadBytes += value.length;
+                futures.add(commands.setex(key(format, id), 3600, value));
+            }
+            LettuceFutures.awaitAll(Duration.ofSeconds(30), futures.toArray(new RedisFuture[0]));
+        }
+
+        long after = usedMemory(commands);
+        System.out.printf("%-6s entries=%d payload=%.1fMB (%.1f B/entry) used_memory=+%.1fMB (%.1f B/entry)%n",
+                format, count, payloadBytes / 1048576.0, (double) payloadBytes / count,
+                (after - before) / 1048576.0, (double) (after - before) / count);
+
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            List<RedisFuture<?>> futures = new ArrayList<>(BATCH_SIZE);
+            for (int id = from; id < Math.min(from + BATCH_SIZE, count); id++) {
+                futures.add(commands.unlink(key(format, id)));
+            }
+            LettuceFutures.awaitAll(Duration.ofSeconds(30), futures.toArray(new RedisFuture[0]));
+        }
+    }
+
+    private static long usedMemory(RedisAsyncCommands<byte[], byte[]> commands) {
+        try {
+            String info = commands.info("memory").get();
+            for (String line : info.split("\r\n")) {
+                if (line.startsWith("used_memory:")) {
+                    return Long.parseLong(line.substring("used_memory:".length()).trim());
+                }
+            }
+            throw new IllegalStateException("used_memory not found");
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read Redis INFO memory", e);
+        }
+    }
+
+    private static byte[] key(String format, int id) {
+        return ("bench:codec:" + format + ":events::" + id).getBytes(StandardCharsets.UTF_8);
+    }
+}
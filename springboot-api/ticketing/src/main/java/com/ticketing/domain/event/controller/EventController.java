@@ -1,11 +1,13 @@
 package com.ticketing.domain.event.controller;
 
+import com.ticketing.domain.event.dto.EventAvailabilityResponse;
 import com.ticketing.domain.event.dto.EventCreateRequest;
 import com.ticketing.domain.event.dto.EventResponse;
 import com.ticketing.domain.event.service.EventService;
 import com.ticketing.global.dto.ApiResponse;
 import com.ticketing.global.dto.PageResponse;
 import com.ticketing.global.enums.Category;
+import com.ticketing.global.web.HttpCacheSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -14,7 +16,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,6 +29,10 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final HttpCacheSupport httpCacheSupport;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SUGGEST_SIZE = 20;
 
     @Operation(summary = "이벤트 생성", description = "새로운 이벤트를 생성합니다")
     @PostMapping
@@ -35,13 +43,35 @@ public class EventController {
         return ApiResponse.success("이벤트가 생성되었습니다", response);
     }
 
-    @Operation(summary = "이벤트 조회", description = "ID로 이벤트를 조회합니다")
+    @Operation(summary = "이벤트 조회", description = "ID로 이벤트를 조회합니다 (ETag 일치 시 304)")
     @GetMapping("/{id}")
-    public ApiResponse<EventResponse> getEvent(@PathVariable Long id) {
-        EventResponse response = eventService.getEvent(id);
+    public ResponseEntity<ApiResponse<EventResponse>> getEvent(@PathVariable Long id, WebRequest request) {
+        EventResponse cached = eventService.getEvent(id);
+        Long totalStock = eventService.findLiveTotalStock(id);
+
+        HttpCacheSupport.Validator validator = HttpCacheSupport.validator("event")
+                .add(cached.getId())
+                .modifiedAt(cached.getUpdatedAt())
+                .add(totalStock != null ? totalStock : cached.getTotalStock());
+
+        return httpCacheSupport.respond(request, validator,
+                () -> eventService.withLiveStock(cached, totalStock));
+    }
+
+    @Operation(summary = "이벤트 잔여 재고 조회", description = "티켓별 실시간 재고와 전체 재고를 조회합니다")
+    @GetMapping("/{id}/availability")
+    public ApiResponse<EventAvailabilityResponse> getAvailability(@PathVariable Long id) {
+        EventAvailabilityResponse response = eventService.getAvailability(id);
         return ApiResponse.success(response);
     }
 
+    @Operation(summary = "이벤트 재고 집계 재구성", description = "DB와 Redis 재고로 이벤트별 재고 집계를 다시 만듭니다 (복구용)")
+    @PostMapping("/availability/rebuild")
+    public ApiResponse<Long> rebuildAvailability() {
+        long rebuilt = eventService.rebuildAvailability();
+        return ApiResponse.success("이벤트 재고 집계가 재구성되었습니다", rebuilt);
+    }
+
     @Operation(summary = "전체 이벤트 조회", description = "모든 이벤트를 페이징하여 조회합니다")
     @GetMapping
     public ApiResponse<PageResponse<EventResponse>> getAllEvents(
@@ -49,7 +79,7 @@ public class EventController {
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "eventDate") String sortBy) {
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).ascending());
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), Sort.by(sortBy).ascending());
         Page<EventResponse> events = eventService.getAllEvents(pageable);
 
         PageResponse<EventResponse> pageResponse = PageResponse.<EventResponse>builder()
@@ -71,7 +101,7 @@ public class EventController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
         Page<EventResponse> events = eventService.getEventsByCategory(category, pageable);
 
         PageResponse<EventResponse> pageResponse = PageResponse.<EventResponse>builder()
@@ -86,21 +116,25 @@ public class EventController {
         return ApiResponse.success(pageResponse);
     }
 
-    @Operation(summary = "예정된 이벤트 조회", description = "미래의 이벤트만 조회합니다")
+    @Operation(summary = "예정된 이벤트 조회", description = "미래의 이벤트를 날짜순으로 조회합니다 (최대 100개씩)")
     @GetMapping("/upcoming")
-    public ApiResponse<List<EventResponse>> getUpcomingEvents() {
-        List<EventResponse> events = eventService.getUpcomingEvents();
+    public ApiResponse<List<EventResponse>> getUpcomingEvents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        List<EventResponse> events = eventService.getUpcomingEvents(pageable);
         return ApiResponse.success(events);
     }
 
-    @Operation(summary = "이벤트 검색", description = "제목으로 이벤트를 검색합니다")
+    @Operation(summary = "이벤트 검색", description = "제목/장소로 이벤트를 검색합니다 (관련도순)")
     @GetMapping("/search")
     public ApiResponse<PageResponse<EventResponse>> searchEvents(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
         Page<EventResponse> events = eventService.searchEvents(keyword, pageable);
 
         PageResponse<EventResponse> pageResponse = PageResponse.<EventResponse>builder()
@@ -114,4 +148,14 @@ public class EventController {
 
         return ApiResponse.success(pageResponse);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 마지막 단어를 제목/장소 단어로 완성합니다")
+    @GetMapping("/search/suggest")
+    public ApiResponse<List<String>> suggestKeywords(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        List<String> suggestions = eventService.suggestKeywords(prefix, Math.min(limit, MAX_SUGGEST_SIZE));
+        return ApiResponse.success(suggestions);
+    }
+}
@@ -0,0 +1,16 @@
+package com.ticketing.domain.event.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventAvailabilityResponse {
+
+    private Long eventId;
+    private Long totalStock;  // 전체 티켓 실시간 재고
+    private Map<Long, Long> ticketStocks;  // 티켓 ID -> 실시간 재고
+}
@@ -7,7 +7,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,4 +23,5 @@ public class EventResponse {
     private Long totalStock;  // 전체 티켓 재고
     private LocalDateTime createdAt;
     private List<TicketResponse> tickets;
+    private LocalDateTime updatedAt;  // 메타데이터 변경 시각 (ETag/Last-Modified)
 }
@@ -1,6 +1,7 @@
 package com.ticketing.domain.event.entity;
 
 import com.ticketing.domain.ticket.entity.Ticket;
+import com.ticketing.global.entity.PersistableEntity;
 import com.ticketing.global.enums.Category;
 import jakarta.persistence.*;
 import lombok.*;
@@ -20,11 +21,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Event {
+public class Event extends PersistableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id;  // Snowflake ID
 
     @Column(nullable = false, length = 255)
     private String title;
@@ -19,16 +19,23 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // 제목 검색 (대소문자 무시)
     Page<Event> findByTitleContainingIgnoreCase(String title, Pageable pageable);
 
-    // 예정된 이벤트 조회 (날짜순)
-    @Query("SELECT e FROM Event e WHERE e.eventDate > :now ORDER BY e.eventDate ASC")
-    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
+    // 예정된 이벤트 조회 (날짜순, 같은 날짜는 ID순)
+    @Query("SELECT e FROM Event e WHERE e.eventDate > :now ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findUpcomingEvents(@Param("now") LocalDateTime now, Pageable pageable);
 
-    // 인기 이벤트 (티켓 예약 많은 순)
+    // 기간 내 예정 이벤트 ID 기준 keyset 조회 (워밍업용)
     @Query("SELECT e FROM Event e " +
-            "LEFT JOIN e.tickets t " +
-            "LEFT JOIN Reservation r ON r.ticket = t " +
-            "WHERE e.eventDate > :now " +
-            "GROUP BY e " +
-            "ORDER BY COUNT(r) DESC")
-    List<Event> findPopularEvents(@Param("now") LocalDateTime now, Pageable pageable);
+            "WHERE e.eventDate > :from AND e.eventDate <= :to AND e.id > :lastId " +
+            "ORDER BY e.id ASC")
+    List<Event> findUpcomingEventsAfterId(@Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to,
+                                          @Param("lastId") Long lastId,
+                                          Pageable pageable);
+
+    // ID 기준 keyset 조회 (전체 순회용)
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // ID만 keyset 조회 (존재 필터 적재용)
+    @Query("SELECT e.id FROM Event e WHERE e.id > :lastId ORDER BY e.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -0,0 +1,176 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 읽기 전용 이벤트 카탈로그 (목록/카테고리/예정 이벤트 조회를 SQL 없이 처리)
+ *
+ * 스냅샷은 불변이고 변경분이 쌓이면 EventCatalogLoader가 merge한 새 스냅샷으로 교체한다.
+ * 변경 알림은 Redis pub/sub으로 모든 노드에 전파되며, 각 노드는 변경된 ID만 DB에서 다시 읽는다.
+ * 첫 적재가 끝나기 전(isReady() == false)에는 EventService가 SQL로 처리한다.
+ *
+ * 제목/장소 검색 인덱스(EventSearchIndex)도 같은 적재/변경 흐름으로 함께 갱신한다.
+ */
+@Slf4j
+@Component
+public class EventCatalog implements MessageListener {
+
+    public static final String CHANGED_CHANNEL = "catalog:events:changed";
+
+    private static final String RELOAD = "RELOAD";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private volatile EventCatalogSnapshot snapshot = EventCatalogSnapshot.empty();
+    private volatile EventSearchIndex searchIndex = EventSearchIndex.empty();
+    private volatile boolean ready;
+    private final AtomicBoolean reloadRequested = new AtomicBoolean();
+
+    // 검색 인덱스 delta가 이 건수를 넘으면 스냅샷 전체로 다시 만든다
+    @Value("${catalog.search.compact-threshold:20000}")
+    private int compactThreshold;
+
+    public EventCatalog(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+
+        Gauge.builder("event.catalog.size", this, catalog -> catalog.snapshot.size())
+                .register(meterRegistry);
+        Gauge.builder("event.catalog.memory.bytes", this, catalog -> catalog.snapshot.memoryBytes())
+                .register(meterRegistry);
+        Gauge.builder("event.catalog.pending", pendingIds, Set::size)
+                .register(meterRegistry);
+        Gauge.builder("event.search.index.memory.bytes", this, catalog -> catalog.searchIndex.memoryBytes())
+                .register(meterRegistry);
+        Gauge.builder("event.search.index.delta", this, catalog -> catalog.searchIndex.deltaSize())
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public EventCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public EventSearchIndex searchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * 이벤트 변경 알림 (트랜잭션 안이면 커밋 후 전파)
+     */
+    public void markChanged(Long eventId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(eventId);
+                }
+            });
+        } else {
+            publish(eventId);
+        }
+    }
+
+    /**
+     * 모든 노드에 전체 재적재 요청 (대량 적재처럼 변경 알림 없이 바뀐 데이터 반영용)
+     */
+    public void requestReload() {
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, RELOAD);
+        } catch (Exception e) {
+            log.warn("Failed to publish event catalog reload, reloading locally: {}", e.getMessage());
+            reloadRequested.set(true);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (RELOAD.equals(body)) {
+            reloadRequested.set(true);
+            return;
+        }
+
+        try {
+            pendingIds.add(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid event catalog message: {}", body);
+        }
+    }
+
+    boolean takeReloadRequest() {
+        return reloadRequested.getAndSet(false);
+    }
+
+    /**
+     * 반영 대기 중인 변경 ID를 꺼냄
+     */
+    List<Long> drainPending() {
+        List<Long> ids = new ArrayList<>(pendingIds.size());
+        for (Long id : pendingIds) {
+            if (pendingIds.remove(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 다시 읽지 못한 변경 ID를 다음 반영 때 재시도
+     */
+    void requeue(List<Long> ids) {
+        pendingIds.addAll(ids);
+    }
+
+    /**
+     * 전체 적재 결과로 교체 (적재 중 들어온 변경분은 pending에 남아 다음 반영에 merge)
+     */
+    void replace(EventCatalogSnapshot loaded, EventSearchIndex loadedIndex) {
+        snapshot = loaded;
+        searchIndex = loadedIndex;
+        ready = true;
+    }
+
+    void apply(List<EventResponse> changes) {
+        EventCatalogSnapshot merged = snapshot.merge(changes);
+        EventSearchIndex index = searchIndex.merge(changes);
+        if (index.deltaSize() > compactThreshold) {
+            long startedAt = System.currentTimeMillis();
+            index = EventSearchIndex.ofSortedById(merged.asList());
+            log.info("Event search index compacted: events={}, elapsedMs={}",
+                    index.size(), System.currentTimeMillis() - startedAt);
+        }
+        snapshot = merged;
+        searchIndex = index;
+    }
+
+    private void publish(Long eventId) {
+        // 자신도 구독 중이므로 메시지를 받아 반영한다 (발행 실패 시 로컬에만 반영)
+        try {
+            redisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(eventId));
+        } catch (Exception e) {
+            log.warn("Failed to publish event catalog change: eventId={}, error={}", eventId, e.getMessage());
+            pendingIds.add(eventId);
+        }
+    }
+}
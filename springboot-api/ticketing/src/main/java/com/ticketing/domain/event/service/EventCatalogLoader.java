@@ -0,0 +1,164 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.event.entity.Event;
+import com.ticketing.domain.event.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이벤트 카탈로그 적재/갱신
+ *
+ * 기동 시 ID keyset으로 전체를 적재하고, 이후에는 변경 알림이 온 ID만 주기적으로 다시 읽어 merge한다.
+ * 적재와 merge는 하나의 전용 스레드에서 순서대로 실행한다 (스케줄러 스레드를 막지 않음).
+ */
+@Slf4j
+@Component
+public class EventCatalogLoader {
+
+    private final EventCatalog eventCatalog;
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "event-catalog-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean applyQueued = new AtomicBoolean();
+
+    @Value("${catalog.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.load-batch-size:5000}")
+    private int batchSize;
+
+    public EventCatalogLoader(EventCatalog eventCatalog,
+                              EventRepository eventRepository,
+                              EventService eventService,
+                              PlatformTransactionManager transactionManager) {
+        this.eventCatalog = eventCatalog;
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            executor.execute(this::reload);
+        }
+    }
+
+    /**
+     * 변경분 반영 (이전 반영이 아직 대기 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${catalog.apply-interval-ms:1000}")
+    public void scheduleApply() {
+        if (!enabled) {
+            return;
+        }
+        if (eventCatalog.takeReloadRequest()) {
+            executor.execute(this::reload);
+        }
+        if (eventCatalog.isReady() && applyQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                applyQueued.set(false);
+                applyPending();
+            });
+        }
+    }
+
+    /**
+     * 전체 재적재 (놓친 변경 알림 보정용)
+     */
+    @Scheduled(cron = "${catalog.full-reload-cron:0 0 4 * * *}")
+    public void scheduleReload() {
+        if (enabled) {
+            executor.execute(this::reload);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void reload() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 배치마다 바로 바이너리 슬롯으로 인코딩 (DTO 전체 목록을 모으지 않음)
+            EventCatalogSnapshot.Builder builder = EventCatalogSnapshot.builder(eventCatalog.snapshot().size());
+            long lastId = 0L;
+
+            while (true) {
+                long afterId = lastId;
+                Long batchLastId = transactionTemplate.execute(status -> {
+                    List<Event> batch = eventRepository
+                            .findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, batchSize));
+                    for (Event event : batch) {
+                        builder.add(eventService.convertToResponse(event, null));
+                    }
+                    return batch.isEmpty() ? null : batch.get(batch.size() - 1).getId();
+                });
+
+                if (batchLastId == null) {
+                    break;
+                }
+                lastId = batchLastId;
+            }
+
+            EventCatalogSnapshot loaded = builder.build();
+            EventSearchIndex searchIndex = EventSearchIndex.ofSortedById(loaded.asList());
+            eventCatalog.replace(loaded, searchIndex);
+            log.info("Event catalog loaded: events={}, memoryBytes={}, searchIndexBytes={}, elapsedMs={}",
+                    loaded.size(), loaded.memoryBytes(), searchIndex.memoryBytes(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 기존 스냅샷(또는 SQL 대체 상태)을 유지
+            log.error("Event catalog load failed", e);
+        }
+    }
+
+    private void applyPending() {
+        List<Long> ids = eventCatalog.drainPending();
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<EventResponse> changes = transactionTemplate.execute(status -> {
+                List<EventResponse> responses = new ArrayList<>(ids.size());
+                for (Event event : eventRepository.findAllById(ids)) {
+                    responses.add(eventService.convertToResponse(event, null));
+                }
+                return responses;
+            });
+
+            if (changes != null && !changes.isEmpty()) {
+                eventCatalog.apply(changes);
+            }
+            log.debug("Event catalog changes applied: requested={}, applied={}",
+                    ids.size(), changes != null ? changes.size() : 0);
+        } catch (Exception e) {
+            eventCatalog.requeue(ids);
+            log.warn("Failed to apply event catalog changes, will retry: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.global.codec.BinaryReader;
+import com.ticketing.global.codec.BinaryWriter;
+import com.ticketing.global.codec.EventResponseCodec;
+import com.ticketing.global.enums.Category;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 이벤트 카탈로그 스냅샷 (불변)
+ *
+ * 슬롯 = 이벤트 ID 오름차순 위치 (Snowflake ID이므로 생성순).
+ * 메타데이터는 슬롯별 바이너리(EventResponseCodec)로, 정렬 인덱스는 슬롯 번호의 int[]로 보관한다.
+ * 조회는 인덱스 구간만 디코딩하므로 O(page), 변경분은 merge로 O(n + k log k)에 새 스냅샷을 만든다.
+ */
+public final class EventCatalogSnapshot {
+
+    private static final EventResponseCodec CODEC = new EventResponseCodec();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    // eventDate가 없는 이벤트는 날짜순 맨 뒤, 예정 이벤트에서는 제외
+    private static final long NO_DATE = Long.MAX_VALUE;
+    private static final byte NO_CATEGORY = -1;
+
+    private final long[] ids;
+    private final long[] eventDates;
+    private final byte[] categories;
+    private final byte[][] payloads;
+
+    // 날짜순 (같은 날짜면 ID순)
+    private final int[] byDate;
+    // 카테고리 ordinal별 날짜순
+    private final int[][] byCategory;
+
+    private EventCatalogSnapshot(long[] ids, long[] eventDates, byte[] categories, byte[][] payloads,
+                                 int[] byDate, int[][] byCategory) {
+        this.ids = ids;
+        this.eventDates = eventDates;
+        this.categories = categories;
+        this.payloads = payloads;
+        this.byDate = byDate;
+        this.byCategory = byCategory;
+    }
+
+    public static EventCatalogSnapshot empty() {
+        int[][] byCategory = new int[CATEGORIES.length][];
+        Arrays.fill(byCategory, new int[0]);
+        return new EventCatalogSnapshot(new long[0], new long[0], new byte[0], new byte[0][], new int[0], byCategory);
+    }
+
+    /**
+     * 전체 적재 (재고 등 메타데이터가 아닌 값은 저장하지 않음)
+     */
+    public static EventCatalogSnapshot of(List<EventResponse> events) {
+        return empty().merge(events);
+    }
+
+    /**
+     * ID 오름차순 스트리밍 적재용 빌더 (DB keyset 순회 결과를 한 건씩 추가)
+     */
+    public static Builder builder(int initialCapacity) {
+        return new Builder(initialCapacity);
+    }
+
+    /**
+     * 추가/변경된 이벤트를 반영한 새 스냅샷
+     */
+    public EventCatalogSnapshot merge(List<EventResponse> upserts) {
+        if (upserts.isEmpty()) {
+            return this;
+        }
+
+        // 1. 변경분을 ID순으로 정렬하고 같은 ID는 마지막 값만 사용
+        List<EventResponse> sorted = new ArrayList<>(upserts);
+        sorted.sort(Comparator.comparing(EventResponse::getId));
+        List<EventResponse> changes = new ArrayList<>(sorted.size());
+        for (EventResponse event : sorted) {
+            if (!changes.isEmpty() && changes.get(changes.size() - 1).getId().equals(event.getId())) {
+                changes.set(changes.size() - 1, event);
+            } else {
+                changes.add(event);
+            }
+        }
+
+        // 2. 슬롯 배열 병합 (기존 슬롯 → 새 슬롯 매핑, 교체된 슬롯은 -1)
+        int oldSize = ids.length;
+        int capacity = oldSize + changes.size();
+        long[] newIds = new long[capacity];
+        long[] newDates = new long[capacity];
+        byte[] newCategories = new byte[capacity];
+        byte[][] newPayloads = new byte[capacity][];
+        int[] remap = new int[oldSize];
+        int[] changedSlots = new int[changes.size()];
+
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < oldSize || j < changes.size()) {
+            long changeId = j < changes.size() ? changes.get(j).getId() : Long.MAX_VALUE;
+
+            if (i < oldSize && ids[i] < changeId) {
+                newIds[size] = ids[i];
+                newDates[size] = eventDates[i];
+                newCategories[size] = categories[i];
+                newPayloads[size] = payloads[i];
+                remap[i++] = size++;
+                continue;
+            }
+
+            if (i < oldSize && ids[i] == changeId) {
+                remap[i++] = -1;
+            }
+            EventResponse change = changes.get(j);
+            newIds[size] = change.getId();
+            newDates[size] = toMillis(change.getEventDate());
+            newCategories[size] = change.getCategory() != null ? (byte) change.getCategory().ordinal() : NO_CATEGORY;
+            newPayloads[size] = encode(change);
+            changedSlots[j++] = size++;
+        }
+
+        // 새 ID가 모두 기존 ID보다 크면(Snowflake 생성순 추가) 기존 슬롯 번호가 그대로 유지됨
+        boolean appendOnly = size == capacity && (oldSize == 0 || changes.get(0).getId() > ids[oldSize - 1]);
+
+        if (size < capacity) {
+            newIds = Arrays.copyOf(newIds, size);
+            newDates = Arrays.copyOf(newDates, size);
+            newCategories = Arrays.copyOf(newCategories, size);
+            newPayloads = Arrays.copyOf(newPayloads, size);
+        }
+
+        // 3. 인덱스 병합: 기존 인덱스(재매핑) + 정렬된 변경분
+        byte[] slotCategories = newCategories;
+        SlotComparator dateOrder = dateOrder(newDates, newIds);
+
+        int[] changedByDate = changedSlots.clone();
+        sort(changedByDate, dateOrder);
+        int[] slotMap = appendOnly ? null : remap;
+        int[] mergedByDate = mergeIndex(byDate, slotMap, changedByDate, dateOrder);
+
+        int[][] mergedByCategory = new int[CATEGORIES.length][];
+        for (int c = 0; c < CATEGORIES.length; c++) {
+            byte ordinal = (byte) c;
+            int[] changedInCategory = Arrays.stream(changedByDate)
+                    .filter(slot -> slotCategories[slot] == ordinal)
+                    .toArray();
+            mergedByCategory[c] = mergeIndex(byCategory[c], slotMap, changedInCategory, dateOrder);
+        }
+
+        return new EventCatalogSnapshot(newIds, newDates, newCategories, newPayloads, mergedByDate, mergedByCategory);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * ID순 읽기 전용 목록 (원소는 조회할 때마다 디코딩, 복사본을 만들지 않음)
+     */
+    public List<EventResponse> asList() {
+        return new SlotList();
+    }
+
+    /**
+     * ID순 (= 생성순)
+     */
+    public List<EventResponse> pageById(int offset, int limit) {
+        List<EventResponse> page = new ArrayList<>(Math.max(0, Math.min(limit, ids.length - offset)));
+        for (int slot = Math.max(offset, 0); slot < ids.length && page.size() < limit; slot++) {
+            page.add(decode(slot));
+        }
+        return page;
+    }
+
+    /**
+     * 날짜순
+     */
+    public List<EventResponse> pageByDate(int offset, int limit) {
+        return page(byDate, offset, byDate.length, limit);
+    }
+
+    /**
+     * 카테고리별 날짜순
+     */
+    public List<EventResponse> pageByCategory(Category category, int offset, int limit) {
+        int[] index = byCategory[category.ordinal()];
+        return page(index, offset, index.length, limit);
+    }
+
+    /**
+     * 주어진 ID 순서대로 조회 (스냅샷에 없는 ID는 건너뜀)
+     */
+    public List<EventResponse> findAll(long[] eventIds) {
+        List<EventResponse> found = new ArrayList<>(eventIds.length);
+        for (long eventId : eventIds) {
+            int slot = Arrays.binarySearch(ids, eventId);
+            if (slot >= 0) {
+                found.add(decode(slot));
+            }
+        }
+        return found;
+    }
+
+    public int countByCategory(Category category) {
+        return byCategory[category.ordinal()].length;
+    }
+
+    /**
+     * now 이후 이벤트 날짜순 (시작 위치는 이진 탐색)
+     */
+    public List<EventResponse> pageUpcoming(LocalDateTime now, int offset, int limit) {
+        int from = firstAfter(toMillis(now));
+        return page(byDate, from + Math.max(offset, 0), upcomingEnd(), limit);
+    }
+
+    public int countUpcoming(LocalDateTime now) {
+        return Math.max(0, upcomingEnd() - firstAfter(toMillis(now)));
+    }
+
+    /**
+     * 대략적인 힙 사용량 (배열 헤더 + 원소, payload 배열 포함)
+     */
+    public long memoryBytes() {
+        long arrayHeader = 16;
+        long bytes = arrayHeader * 4 + (long) ids.length * (Long.BYTES * 2 + 1 + 4);
+        for (byte[] payload : payloads) {
+            bytes += arrayHeader + align(payload.length);
+        }
+        bytes += arrayHeader + (long) byDate.length * Integer.BYTES;
+        for (int[] index : byCategory) {
+            bytes += arrayHeader + (long) index.length * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    private List<EventResponse> page(int[] index, int from, int to, int limit) {
+        int start = Math.max(from, 0);
+        int end = (int) Math.min((long) start + limit, to);
+        List<EventResponse> page = new ArrayList<>(Math.max(0, end - start));
+        for (int position = start; position < end; position++) {
+            page.add(decode(index[position]));
+        }
+        return page;
+    }
+
+    // 날짜순 인덱스에서 eventDate > millis인 첫 위치
+    private int firstAfter(long millis) {
+        int low = 0;
+        int high = byDate.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (eventDates[byDate[mid]] <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 날짜 없는 이벤트(맨 뒤)를 제외한 끝 위치
+    private int upcomingEnd() {
+        return firstAfter(NO_DATE - 1);
+    }
+
+    private EventResponse decode(int slot) {
+        BinaryReader reader = new BinaryReader(payloads[slot]);
+        return CODEC.decode(reader, CODEC.version());
+    }
+
+    private static byte[] encode(EventResponse event) {
+        BinaryWriter writer = new BinaryWriter(128);
+        CODEC.encode(writer, event.toBuilder()
+                .totalStock(null)
+                .tickets(null)
+                .build());
+        return writer.toByteArray();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time != null ? time.atZone(ZONE).toInstant().toEpochMilli() : NO_DATE;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * 기존 인덱스에서 교체된 슬롯을 빼고 새 슬롯 번호로 바꾼 뒤 정렬된 변경분과 병합
+     * remap이 null이면 슬롯 번호가 그대로이므로 변경분 사이 구간을 통째로 복사
+     */
+    private static int[] mergeIndex(int[] index, int[] remap, int[] changed, SlotComparator order) {
+        int[] merged = new int[index.length + changed.length];
+
+        if (remap == null) {
+            int i = 0;
+            int size = 0;
+            for (int slot : changed) {
+                int end = upperBound(index, i, slot, order);
+                System.arraycopy(index, i, merged, size, end - i);
+                size += end - i;
+                i = end;
+                merged[size++] = slot;
+            }
+            System.arraycopy(index, i, merged, size, index.length - i);
+            return merged;
+        }
+
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < index.length || j < changed.length) {
+            if (i < index.length && remap[index[i]] < 0) {
+                i++;
+                continue;
+            }
+            if (j >= changed.length
+                    || (i < index.length && order.compare(remap[index[i]], changed[j]) <= 0)) {
+                merged[size++] = remap[index[i++]];
+            } else {
+                merged[size++] = changed[j++];
+            }
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    // index[from..] 중 slot보다 뒤에 와야 하는 첫 위치
+    private static int upperBound(int[] index, int from, int slot, SlotComparator order) {
+        int low = from;
+        int high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(index[mid], slot) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * int[] 안정 정렬 (박싱 없이 슬롯 비교, top-down merge sort)
+     */
+    private static void sort(int[] slots, SlotComparator order) {
+        if (slots.length < 2) {
+            return;
+        }
+        int[] buffer = slots.clone();
+        mergeSort(buffer, slots, 0, slots.length, order);
+    }
+
+    private static void mergeSort(int[] source, int[] target, int from, int to, SlotComparator order) {
+        if (to - from < 2) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(target, source, from, mid, order);
+        mergeSort(target, source, mid, to, order);
+
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (i < mid && (j >= to || order.compare(source[i], source[j]) <= 0)) {
+                target[k] = source[i++];
+            } else {
+                target[k] = source[j++];
+            }
+        }
+    }
+
+    private static SlotComparator dateOrder(long[] dates, long[] slotIds) {
+        return (a, b) -> {
+            int compare = Long.compare(dates[a], dates[b]);
+            return compare != 0 ? compare : Long.compare(slotIds[a], slotIds[b]);
+        };
+    }
+
+    @FunctionalInterface
+    private interface SlotComparator {
+        int compare(int a, int b);
+    }
+
+    private final class SlotList extends AbstractList<EventResponse> implements RandomAccess {
+
+        @Override
+        public EventResponse get(int index) {
+            return decode(index);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * 스냅샷 빌더
+     *
+     * 추가 즉시 바이너리로 인코딩해 슬롯 배열에 쌓으므로 적재 중 DTO 목록을 들고 있지 않는다.
+     * 정렬 인덱스는 build에서 한 번에 만든다.
+     */
+    public static final class Builder {
+
+        private long[] ids;
+        private long[] eventDates;
+        private byte[] categories;
+        private byte[][] payloads;
+        private int size;
+
+        private Builder(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 16);
+            ids = new long[capacity];
+            eventDates = new long[capacity];
+            categories = new byte[capacity];
+            payloads = new byte[capacity][];
+        }
+
+        /**
+         * 이벤트 추가 (ID 오름차순이어야 함)
+         */
+        public Builder add(EventResponse event) {
+            if (size > 0 && event.getId() <= ids[size - 1]) {
+                throw new IllegalArgumentException(
+                        "이벤트는 ID 오름차순으로 추가해야 합니다: " + event.getId() + " <= " + ids[size - 1]);
+            }
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                eventDates = Arrays.copyOf(eventDates, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                payloads = Arrays.copyOf(payloads, capacity);
+            }
+
+            ids[size] = event.getId();
+            eventDates[size] = toMillis(event.getEventDate());
+            categories[size] = event.getCategory() != null ? (byte) event.getCategory().ordinal() : NO_CATEGORY;
+            payloads[size] = encode(event);
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public EventCatalogSnapshot build() {
+            long[] slotIds = Arrays.copyOf(ids, size);
+            long[] dates = Arrays.copyOf(eventDates, size);
+            byte[] slotCategories = Arrays.copyOf(categories, size);
+            byte[][] slotPayloads = Arrays.copyOf(payloads, size);
+
+            int[] byDate = new int[size];
+            for (int slot = 0; slot < size; slot++) {
+                byDate[slot] = slot;
+            }
+            sort(byDate, dateOrder(dates, slotIds));
+
+            // 카테고리별 인덱스는 날짜순 인덱스를 한 번 훑어 나눔 (순서 유지)
+            int[] counts = new int[CATEGORIES.length];
+            for (byte category : slotCategories) {
+                if (category != NO_CATEGORY) {
+                    counts[category]++;
+                }
+            }
+            int[][] byCategory = new int[CATEGORIES.length][];
+            for (int c = 0; c < CATEGORIES.length; c++) {
+                byCategory[c] = new int[counts[c]];
+            }
+            int[] positions = new int[CATEGORIES.length];
+            for (int slot : byDate) {
+                byte category = slotCategories[slot];
+                if (category != NO_CATEGORY) {
+                    byCategory[category][positions[category]++] = slot;
+                }
+            }
+
+            return new EventCatalogSnapshot(slotIds, dates, slotCategories, slotPayloads, byDate, byCategory);
+        }
+    }
+}
@@ -0,0 +1,795 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 이벤트 제목/장소 bigram 역색인 (불변)
+ *
+ * 소문자 + 공백 정리한 문자열의 글자 bigram(두 글자를 int 하나로)을 키로, 문서 ordinal 목록을
+ * 증가분 varint로 압축해 byte[] 하나에 담는다. 한글은 형태소 분석 없이 음절 bigram이면
+ * "아이유 전국투어" 같은 부분 문자열 검색이 된다.
+ *
+ * 전체 적재 결과는 base 세그먼트, 이후 생성/수정분은 작은 delta 세그먼트로 두고
+ * 같은 ID가 delta에 있으면 base 문서는 가린다. delta가 커지면 카탈로그가 전체를 다시 만든다.
+ *
+ * 질의의 bigram이 모두 들어 있는 문서를 찾으므로 LIKE '%kw%'와 거의 같지만,
+ * 같은 bigram이 반복되는 질의("abab")는 글자 순서까지 확인하지 않아 드물게 더 많이 맞을 수 있다.
+ */
+public final class EventSearchIndex {
+
+    // 점수: 제목 일치 > 제목 앞부분 일치 > 장소 일치, 제목에서 질의가 차지하는 비율로 보정
+    private static final int TITLE_SCORE = 400;
+    private static final int PREFIX_SCORE = 200;
+    private static final int VENUE_SCORE = 100;
+    private static final int MAX_COVERAGE_SCORE = 99;
+
+    // 자동완성 한 번에 훑는 최대 단어 수 (한 글자 접두어 보호)
+    private static final int MAX_SUGGEST_SCAN = 50_000;
+
+    // 마지막 글자도 bigram에 포함되도록 붙이는 문자 (한 글자 검색용)
+    private static final char END = '\0';
+
+    private static final int TITLE = 0;
+    private static final int VENUE = 1;
+
+    private final Segment base;
+    private final Segment delta;
+    // delta에 새 버전이 있는 base ordinal
+    private final BitSet shadowed;
+    // delta 재구성용 최신 문서 (ID순)
+    private final List<EventResponse> deltaDocs;
+
+    private EventSearchIndex(Segment base, Segment delta, BitSet shadowed, List<EventResponse> deltaDocs) {
+        this.base = base;
+        this.delta = delta;
+        this.shadowed = shadowed;
+        this.deltaDocs = deltaDocs;
+    }
+
+    public static EventSearchIndex empty() {
+        return of(List.of());
+    }
+
+    /**
+     * 전체 문서로 base 세그먼트 생성 (ID순이 아니면 정렬)
+     */
+    public static EventSearchIndex of(List<EventResponse> events) {
+        List<EventResponse> docs = events;
+        if (!isSortedById(docs)) {
+            docs = new ArrayList<>(events);
+            docs.sort(Comparator.comparing(EventResponse::getId));
+        }
+        return new EventSearchIndex(Segment.build(docs), Segment.build(List.of()), new BitSet(), List.of());
+    }
+
+    /**
+     * ID순이 보장된 문서로 base 세그먼트 생성 (카탈로그 스냅샷 보기처럼 조회마다 디코딩하는 목록용, 정렬 확인 생략)
+     */
+    static EventSearchIndex ofSortedById(List<EventResponse> events) {
+        return new EventSearchIndex(Segment.build(events), Segment.build(List.of()), new BitSet(), List.of());
+    }
+
+    /**
+     * 생성/수정된 문서를 delta 세그먼트에 반영한 새 인덱스 (delta 크기만큼의 비용)
+     */
+    public EventSearchIndex merge(List<EventResponse> upserts) {
+        TreeMap<Long, EventResponse> docs = new TreeMap<>();
+        for (EventResponse doc : deltaDocs) {
+            docs.put(doc.getId(), doc);
+        }
+        BitSet nextShadowed = (BitSet) shadowed.clone();
+        for (EventResponse upsert : upserts) {
+            docs.put(upsert.getId(), upsert);
+            int ordinal = Arrays.binarySearch(base.ids, upsert.getId());
+            if (ordinal >= 0) {
+                nextShadowed.set(ordinal);
+            }
+        }
+
+        List<EventResponse> nextDocs = new ArrayList<>(docs.values());
+        return new EventSearchIndex(base, Segment.build(nextDocs), nextShadowed, nextDocs);
+    }
+
+    public int deltaSize() {
+        return deltaDocs.size();
+    }
+
+    /**
+     * 검색 (점수 내림차순, 같은 점수면 최신 이벤트 먼저)
+     * 공백뿐인 검색어는 null을 반환하므로 호출 측에서 전체 조회로 처리한다.
+     */
+    public Hits search(String keyword, int offset, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty()) {
+            return null;
+        }
+
+        int start = Math.max(offset, 0);
+        long wanted = Math.min((long) start + Math.max(limit, 0), base.ids.length + delta.ids.length);
+        TopK top = new TopK((int) wanted);
+        int total = base.collect(query, 0, shadowed, top)
+                + delta.collect(query, base.ids.length, null, top);
+
+        long[] keys = top.sortedDescending();
+        int count = Math.max(0, keys.length - start);
+        long[] eventIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            int ordinal = (int) keys[start + i];
+            eventIds[i] = ordinal < base.ids.length
+                    ? base.ids[ordinal]
+                    : delta.ids[ordinal - base.ids.length];
+        }
+        return new Hits(eventIds, total);
+    }
+
+    /**
+     * 접두어 자동완성 (단어 단위, 문서 빈도순)
+     * 여러 단어면 마지막 단어만 완성해 앞부분을 붙인다: "아이유 전" -> "아이유 전국투어"
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String query = normalize(prefix);
+        if (query.isEmpty() || limit <= 0 || query.endsWith(" ")) {
+            return List.of();
+        }
+
+        int lastSpace = query.lastIndexOf(' ');
+        String head = query.substring(0, lastSpace + 1);
+        String token = query.substring(lastSpace + 1);
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        base.suggest(token, frequencies);
+        delta.suggest(token, frequencies);
+
+        return frequencies.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> head + entry.getKey())
+                .toList();
+    }
+
+    public int size() {
+        return base.ids.length - shadowed.cardinality() + delta.ids.length;
+    }
+
+    /**
+     * 대략적인 힙 사용량 (delta 재구성용 문서는 카탈로그와 공유하므로 제외)
+     */
+    public long memoryBytes() {
+        return base.memoryBytes() + delta.memoryBytes() + shadowed.size() / 8;
+    }
+
+    /**
+     * 제목/장소에 검색어가 실제로 들어 있는지 (bigram 일치 후 최종 확인용)
+     */
+    public static boolean matches(EventResponse event, String keyword) {
+        String query = normalize(keyword);
+        return normalize(event.getTitle()).contains(query) || normalize(event.getVenue()).contains(query);
+    }
+
+    /**
+     * 검색 결과 한 페이지의 이벤트 ID와 전체 일치 건수 (bigram 기준이라 근사치)
+     */
+    public record Hits(long[] eventIds, int total) {
+    }
+
+    /**
+     * 소문자 변환, 연속 공백을 하나로, 앞뒤 공백 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = normalized.length() > 0;
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        return normalized.toString();
+    }
+
+    private static int gram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 문서 bigram (마지막 글자 + END 포함, 중복 제거 후 정렬)
+     */
+    private static int[] documentGrams(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        int[] grams = new int[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            grams[i] = gram(text.charAt(i), i + 1 < text.length() ? text.charAt(i + 1) : END);
+        }
+        return distinct(grams);
+    }
+
+    /**
+     * 질의 bigram (두 글자 이상일 때)
+     */
+    private static int[] queryGrams(String query) {
+        int[] grams = new int[query.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(query.charAt(i), query.charAt(i + 1));
+        }
+        return distinct(grams);
+    }
+
+    private static int[] distinct(int[] values) {
+        Arrays.sort(values);
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0 || values[i] != values[i - 1]) {
+                values[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.split(" ")) {
+            if (!token.isEmpty() && !tokens.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isSortedById(List<EventResponse> docs) {
+        for (int i = 1; i < docs.size(); i++) {
+            if (docs.get(i - 1).getId() >= docs.get(i).getId()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 문서 묶음 하나의 역색인
+     *
+     * postings: (gram, field)별 ordinal 오름차순 목록을 증가분 varint로 이어 붙인 바이트 배열.
+     * gram g의 field f 목록은 offsets[2g + f] ~ offsets[2g + f + 1] 구간이다.
+     */
+    private static final class Segment {
+
+        private final long[] ids;
+        // 제목 bigram 수 (비율 점수용, 255에서 자름)
+        private final byte[] titleGramCounts;
+        private final int[] firstTitleGrams;
+
+        private final int[] grams;
+        private final int[] offsets;
+        private final int[] frequencies;
+        private final byte[] postings;
+
+        // 자동완성 단어 사전 (정렬)
+        private final String[] terms;
+        private final int[] termFrequencies;
+
+        private Segment(long[] ids, byte[] titleGramCounts, int[] firstTitleGrams,
+                        int[] grams, int[] offsets, int[] frequencies, byte[] postings,
+                        String[] terms, int[] termFrequencies) {
+            this.ids = ids;
+            this.titleGramCounts = titleGramCounts;
+            this.firstTitleGrams = firstTitleGrams;
+            this.grams = grams;
+            this.offsets = offsets;
+            this.frequencies = frequencies;
+            this.postings = postings;
+            this.terms = terms;
+            this.termFrequencies = termFrequencies;
+        }
+
+        /**
+         * 두 번 훑어 만든다: 1차에서 목록별 건수/바이트 수를 세고, 2차에서 정확한 크기의 배열에 바로 압축
+         */
+        static Segment build(List<EventResponse> docs) {
+            int docCount = docs.size();
+            long[] ids = new long[docCount];
+            byte[] titleGramCounts = new byte[docCount];
+            int[] firstTitleGrams = new int[docCount];
+
+            IntIntMap dictionary = new IntIntMap(1024);
+            IntList counts = new IntList();
+            IntList byteLengths = new IntList();
+            IntList lastOrdinals = new IntList();
+            Map<String, Integer> termCounts = new HashMap<>();
+
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                EventResponse doc = docs.get(ordinal);
+                ids[ordinal] = doc.getId();
+                String title = normalize(doc.getTitle());
+                String venue = normalize(doc.getVenue());
+
+                int[] titleGrams = documentGrams(title);
+                titleGramCounts[ordinal] = (byte) Math.min(titleGrams.length, 255);
+                firstTitleGrams[ordinal] = title.isEmpty()
+                        ? -1
+                        : gram(title.charAt(0), title.length() > 1 ? title.charAt(1) : END);
+
+                for (int field = TITLE; field <= VENUE; field++) {
+                    for (int gram : field == TITLE ? titleGrams : documentGrams(venue)) {
+                        int entry = dictionary.get(gram);
+                        if (entry < 0) {
+                            entry = dictionary.size();
+                            dictionary.put(gram, entry);
+                            for (int f = TITLE; f <= VENUE; f++) {
+                                counts.add(0);
+                                byteLengths.add(0);
+                                lastOrdinals.add(-1);
+                            }
+                        }
+                        int list = 2 * entry + field;
+                        counts.increment(list, 1);
+                        byteLengths.increment(list, varintLength(ordinal - lastOrdinals.get(list)));
+                        lastOrdinals.set(list, ordinal);
+                    }
+                }
+
+                List<String> docTerms = tokens(title);
+                for (String term : tokens(venue)) {
+                    if (!docTerms.contains(term)) {
+                        docTerms.add(term);
+                    }
+                }
+                for (String term : docTerms) {
+                    termCounts.merge(term, 1, Integer::sum);
+                }
+            }
+
+            // 사전을 gram 오름차순으로 정렬하고 목록 시작 위치 계산
+            int gramCount = dictionary.size();
+            int[] grams = dictionary.keys();
+            Arrays.sort(grams);
+            int[] sortedEntry = new int[gramCount];
+            int[] offsets = new int[2 * gramCount + 1];
+            int[] frequencies = new int[2 * gramCount];
+            int position = 0;
+            for (int sorted = 0; sorted < gramCount; sorted++) {
+                int entry = dictionary.get(grams[sorted]);
+                sortedEntry[entry] = sorted;
+                for (int field = TITLE; field <= VENUE; field++) {
+                    offsets[2 * sorted + field] = position;
+                    frequencies[2 * sorted + field] = counts.get(2 * entry + field);
+                    position += byteLengths.get(2 * entry + field);
+                }
+            }
+            offsets[2 * gramCount] = position;
+
+            byte[] postings = new byte[position];
+            int[] cursors = Arrays.copyOf(offsets, 2 * gramCount);
+            int[] lastWritten = new int[2 * gramCount];
+            Arrays.fill(lastWritten, -1);
+            for (int ordinal = 0; ordinal < docCount; ordinal++) {
+                EventResponse doc = docs.get(ordinal);
+                for (int field = TITLE; field <= VENUE; field++) {
+                    String text = normalize(field == TITLE ? doc.getTitle() : doc.getVenue());
+                    for (int gram : documentGrams(text)) {
+                        int list = 2 * sortedEntry[dictionary.get(gram)] + field;
+                        cursors[list] = writeVarint(postings, cursors[list], ordinal - lastWritten[list]);
+                        lastWritten[list] = ordinal;
+                    }
+                }
+            }
+
+            String[] terms = termCounts.keySet().toArray(new String[0]);
+            Arrays.sort(terms);
+            int[] termFrequencies = new int[terms.length];
+            for (int i = 0; i < terms.length; i++) {
+                termFrequencies[i] = termCounts.get(terms[i]);
+            }
+
+            return new Segment(ids, titleGramCounts, firstTitleGrams,
+                    grams, offsets, frequencies, postings, terms, termFrequencies);
+        }
+
+        /**
+         * 일치 문서를 점수와 함께 top에 넣고 일치 건수 반환
+         */
+        int collect(String query, int ordinalBase, BitSet skip, TopK top) {
+            if (ids.length == 0) {
+                return 0;
+            }
+
+            int[] queryGrams = query.length() > 1 ? queryGrams(query) : null;
+            int[] titleHits = match(query, queryGrams, TITLE);
+            int[] venueHits = match(query, queryGrams, VENUE);
+            int queryFirst = query.length() > 1 ? gram(query.charAt(0), query.charAt(1)) : -1;
+            int queryGramCount = queryGrams != null ? queryGrams.length : 1;
+
+            int matched = 0;
+            int t = 0;
+            int v = 0;
+            while (t < titleHits.length || v < venueHits.length) {
+                int ordinal;
+                boolean inTitle = false;
+                boolean inVenue = false;
+                if (v >= venueHits.length || (t < titleHits.length && titleHits[t] <= venueHits[v])) {
+                    ordinal = titleHits[t++];
+                    inTitle = true;
+                    if (v < venueHits.length && venueHits[v] == ordinal) {
+                        v++;
+                        inVenue = true;
+                    }
+                } else {
+                    ordinal = venueHits[v++];
+                    inVenue = true;
+                }
+
+                if (skip != null && skip.get(ordinal)) {
+                    continue;
+                }
+                matched++;
+
+                int score = 0;
+                if (inTitle) {
+                    int titleGrams = Math.max(1, titleGramCounts[ordinal] & 0xff);
+                    score += TITLE_SCORE + Math.min(MAX_COVERAGE_SCORE, queryGramCount * MAX_COVERAGE_SCORE / titleGrams);
+                    boolean prefix = queryFirst >= 0
+                            ? firstTitleGrams[ordinal] == queryFirst
+                            : firstTitleGrams[ordinal] >>> 16 == query.charAt(0);
+                    if (prefix) {
+                        score += PREFIX_SCORE;
+                    }
+                }
+                if (inVenue) {
+                    score += VENUE_SCORE;
+                }
+                top.offer(((long) score << 32) | (ordinalBase + ordinal));
+            }
+            return matched;
+        }
+
+        void suggest(String token, Map<String, Integer> frequencies) {
+            int index = Arrays.binarySearch(terms, token);
+            int from = index >= 0 ? index : -index - 1;
+            int to = Math.min(terms.length, from + MAX_SUGGEST_SCAN);
+            for (int i = from; i < to && terms[i].startsWith(token); i++) {
+                frequencies.merge(terms[i], termFrequencies[i], Integer::sum);
+            }
+        }
+
+        long memoryBytes() {
+            long arrayHeader = 16;
+            long bytes = arrayHeader * 9
+                    + (long) ids.length * (Long.BYTES + 1 + Integer.BYTES)
+                    + (long) grams.length * Integer.BYTES * 5
+                    + postings.length
+                    + (long) terms.length * (Integer.BYTES * 2);
+            for (String term : terms) {
+                // String 헤더 + byte[] 헤더 + UTF-16 (한글)
+                bytes += 24 + arrayHeader + (long) term.length() * 2;
+            }
+            return bytes;
+        }
+
+        /**
+         * field에서 질의 bigram이 모두 들어 있는 ordinal (오름차순)
+         * 한 글자 질의는 그 글자로 시작하는 bigram 목록의 합집합
+         */
+        private int[] match(String query, int[] queryGrams, int field) {
+            if (queryGrams == null) {
+                return unionByFirstChar(query.charAt(0), field);
+            }
+
+            int[] lists = new int[queryGrams.length];
+            for (int i = 0; i < queryGrams.length; i++) {
+                int sorted = Arrays.binarySearch(grams, queryGrams[i]);
+                if (sorted < 0 || frequencies[2 * sorted + field] == 0) {
+                    return new int[0];
+                }
+                lists[i] = 2 * sorted + field;
+            }
+
+            // 가장 짧은 목록부터 교집합
+            Integer[] order = new Integer[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                order[i] = lists[i];
+            }
+            Arrays.sort(order, Comparator.comparingInt(list -> frequencies[list]));
+
+            int[] result = decode(order[0]);
+            for (int i = 1; i < order.length && result.length > 0; i++) {
+                result = intersect(result, order[i]);
+            }
+            return result;
+        }
+
+        private int[] unionByFirstChar(char c, int field) {
+            // 첫 글자가 같은 bigram은 사전에서 연속 구간
+            int from = Arrays.binarySearch(grams, gram(c, (char) 0));
+            from = from >= 0 ? from : -from - 1;
+            int to = Arrays.binarySearch(grams, gram(c, (char) 0xFFFF));
+            to = to >= 0 ? to + 1 : -to - 1;
+
+            BitSet union = new BitSet(ids.length);
+            for (int sorted = from; sorted < to; sorted++) {
+                int list = 2 * sorted + field;
+                int position = offsets[list];
+                int end = offsets[list + 1];
+                int ordinal = -1;
+                while (position < end) {
+                    int value = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = postings[position++];
+                        value |= (b & 0x7f) << shift;
+                        shift += 7;
+                    } while (b < 0);
+                    ordinal += value;
+                    union.set(ordinal);
+                }
+            }
+            return union.stream().toArray();
+        }
+
+        private int[] decode(int list) {
+            int[] ordinals = new int[frequencies[list]];
+            int position = offsets[list];
+            int ordinal = -1;
+            for (int i = 0; i < ordinals.length; i++) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = postings[position++];
+                    value |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                ordinal += value;
+                ordinals[i] = ordinal;
+            }
+            return ordinals;
+        }
+
+        // 압축된 목록을 풀면서 정렬된 후보와 교집합 (목록을 배열로 만들지 않음)
+        private int[] intersect(int[] candidates, int list) {
+            int[] result = new int[candidates.length];
+            int size = 0;
+            int position = offsets[list];
+            int end = offsets[list + 1];
+            int ordinal = -1;
+            int c = 0;
+            while (position < end && c < candidates.length) {
+                int value = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = postings[position++];
+                    value |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                ordinal += value;
+
+                while (c < candidates.length && candidates[c] < ordinal) {
+                    c++;
+                }
+                if (c < candidates.length && candidates[c] == ordinal) {
+                    result[size++] = ordinal;
+                    c++;
+                }
+            }
+            return Arrays.copyOf(result, size);
+        }
+
+        private static int varintLength(int value) {
+            int length = 1;
+            while ((value >>>= 7) != 0) {
+                length++;
+            }
+            return length;
+        }
+
+        private static int writeVarint(byte[] target, int position, int value) {
+            while ((value & ~0x7f) != 0) {
+                target[position++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            target[position++] = (byte) value;
+            return position;
+        }
+    }
+
+    /**
+     * 상위 k개 (점수 << 32 | ordinal) 최소 힙
+     */
+    private static final class TopK {
+
+        private final long[] heap;
+        private int size;
+
+        TopK(int capacity) {
+            this.heap = new long[capacity];
+        }
+
+        void offer(long key) {
+            if (heap.length == 0) {
+                return;
+            }
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] sorted = Arrays.copyOf(heap, size);
+            Arrays.sort(sorted);
+            for (int i = 0, j = sorted.length - 1; i < j; i++, j--) {
+                long tmp = sorted[i];
+                sorted[i] = sorted[j];
+                sorted[j] = tmp;
+            }
+            return sorted;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (heap[parent] <= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+
+    /**
+     * int -> int 오픈 어드레싱 맵 (bigram 사전 구성용, 없는 키는 -1)
+     */
+    private static final class IntIntMap {
+
+        private int[] keys;
+        private int[] values;
+        private boolean[] used;
+        private int size;
+
+        IntIntMap(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(capacity, 16) * 2 - 1);
+            keys = new int[tableSize];
+            values = new int[tableSize];
+            used = new boolean[tableSize];
+        }
+
+        int get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(int key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (used[i] && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (!used[i]) {
+                used[i] = true;
+                size++;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] keys() {
+            int[] result = new int[size];
+            int n = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    result[n++] = keys[i];
+                }
+            }
+            return result;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            boolean[] oldUsed = used;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    /**
+     * 크기가 늘어나는 int 배열
+     */
+    private static final class IntList {
+
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        void increment(int index, int delta) {
+            values[index] += delta;
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package com.ticketing.domain.event.service;
 
 import com.ticketing.domain.event.entity.Event;
+import com.ticketing.domain.event.dto.EventAvailabilityResponse;
 import com.ticketing.domain.event.dto.EventCreateRequest;
 import com.ticketing.domain.event.dto.EventResponse;
 import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.ticket.dto.EventStockSummary;
 import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.domain.ticket.service.TicketStockService;
 import com.ticketing.global.enums.Category;
+import com.ticketing.global.existence.ExistenceFilter;
 import com.ticketing.global.exception.domain.event.EventNotFoundException;
+import com.ticketing.global.snowflake.Snowflake;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,6 +38,16 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final TicketRepository ticketRepository;
+    private final TicketStockService ticketStockService;
+    private final ExistenceFilter existenceFilter;
+    private final EventCatalog eventCatalog;
+    private final Snowflake snowflake;
+
+    // 재고 합계 IN 조회 한 번에 넣을 최대 이벤트 수
+    private static final int STOCK_QUERY_CHUNK_SIZE = 1000;
+
+    // 인덱스가 있는 정렬만 허용 (카탈로그 인덱스 / DB 인덱스와 동일)
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("eventDate", "createdAt", "id");
 
     /**
      * 이벤트 생성
@@ -34,6 +56,7 @@ public class EventService {
     public EventResponse createEvent(EventCreateRequest request) {
 
         Event event = Event.builder()
+                .id(snowflake.nextId())
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .category(request.getCategory())
@@ -44,65 +67,297 @@ public class EventService {
 
         event = eventRepository.save(event);
 //        log.info("Event created: id={}, title={}", event.getId(), event.getTitle());
+        existenceFilter.recordCreated(ExistenceFilter.Kind.EVENT, event.getId());
+        eventCatalog.markChanged(event.getId());
 
-        return convertToResponse(event);
+        // 생성 직후에는 티켓이 없음
+        return convertToResponse(event, null);
     }
 
     /**
      * 이벤트 조회
+     * 캐시 미스 시 같은 이벤트는 노드당 한 번만 로드 (sync = true)
+     * 기다리는 요청이 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     * 존재 필터가 거절한 ID는 캐시(Redis)도 거치지 않고 바로 예외
      */
-    @Cacheable(value = "events", key = "#id")
+    @Cacheable(value = "events", key = "#id", sync = true,
+            condition = "@existenceFilter.mightExist('EVENT', #id)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EventResponse getEvent(Long id) {
 
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.EVENT, id)) {
+            throw new EventNotFoundException(id);
+        }
+
         Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new EventNotFoundException(id));
+                .orElseThrow(() -> {
+                    existenceFilter.recordMissing(ExistenceFilter.Kind.EVENT, id);
+                    return new EventNotFoundException(id);
+                });
+
+        return convertToResponse(event, getTotalStock(id));
+    }
+
+    /**
+     * 캐시된 이벤트 응답에 실시간 전체 재고 반영 (Redis HGET 1회)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EventResponse withLiveStock(EventResponse response) {
+
+        return withLiveStock(response, findLiveTotalStock(response.getId()));
+    }
+
+    /**
+     * 이미 읽은 실시간 전체 재고 반영 (null이면 캐시된 값 유지)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EventResponse withLiveStock(EventResponse response, Long totalStock) {
 
-        return convertToResponse(event);
+        if (totalStock == null || totalStock.equals(response.getTotalStock())) {
+            return response;
+        }
+        return response.toBuilder()
+                .totalStock(totalStock)
+                .build();
     }
 
     /**
-     * 전체 이벤트 조회
+     * 이벤트 티켓별 실시간 재고 (Redis HGETALL 1회)
+     */
+    public EventAvailabilityResponse getAvailability(Long id) {
+
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.EVENT, id)) {
+            throw new EventNotFoundException(id);
+        }
+        if (!eventRepository.existsById(id)) {
+            existenceFilter.recordMissing(ExistenceFilter.Kind.EVENT, id);
+            throw new EventNotFoundException(id);
+        }
+
+        Map<Long, Long> ticketStocks = ticketStockService.getTicketStocks(id);
+        long totalStock = ticketStocks.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+
+        return EventAvailabilityResponse.builder()
+                .eventId(id)
+                .totalStock(totalStock)
+                .ticketStocks(ticketStocks)
+                .build();
+    }
+
+    /**
+     * 이벤트 재고 집계 재구성 (장애 복구용, 배치마다 짧은 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long rebuildAvailability() {
+
+        return ticketStockService.rebuildAll();
+    }
+
+    /**
+     * 전체 이벤트 조회 (카탈로그 적재 후에는 SQL 없이 처리)
+     * 정렬은 eventDate(날짜순), createdAt/id(생성순) 오름차순만 허용
      */
     public Page<EventResponse> getAllEvents(Pageable pageable) {
 
-        return eventRepository.findAll(pageable)
-                .map(this::convertToResponse);
+        String sortBy = validateSort(pageable.getSort());
+        if (!eventCatalog.isReady()) {
+            return convertToResponses(eventRepository.findAll(catalogOrder(pageable, sortBy)));
+        }
+
+        EventCatalogSnapshot catalog = eventCatalog.snapshot();
+        List<EventResponse> content = "eventDate".equals(sortBy)
+                ? catalog.pageByDate(offsetOf(pageable), pageable.getPageSize())
+                : catalog.pageById(offsetOf(pageable), pageable.getPageSize());
+        return new PageImpl<>(withTotalStocks(content), pageable, catalog.size());
     }
 
     /**
-     * 카테고리별 조회
+     * 카테고리별 조회 (카탈로그: 날짜순)
      */
     public Page<EventResponse> getEventsByCategory(Category category, Pageable pageable) {
 
-        return eventRepository.findByCategory(category, pageable)
-                .map(this::convertToResponse);
+        if (!eventCatalog.isReady()) {
+            return convertToResponses(eventRepository.findByCategory(category, catalogOrder(pageable, "eventDate")));
+        }
+
+        EventCatalogSnapshot catalog = eventCatalog.snapshot();
+        List<EventResponse> content = catalog.pageByCategory(category, offsetOf(pageable), pageable.getPageSize());
+        return new PageImpl<>(withTotalStocks(content), pageable, catalog.countByCategory(category));
     }
 
     /**
-     * 예정된 이벤트 조회
+     * 예정된 이벤트 조회 (날짜순, 페이지 단위)
      */
-    public List<EventResponse> getUpcomingEvents() {
+    public List<EventResponse> getUpcomingEvents(Pageable pageable) {
 
-        return eventRepository.findUpcomingEvents(LocalDateTime.now()).stream()
-                .map(this::convertToResponse)
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        if (!eventCatalog.isReady()) {
+            List<Event> events = eventRepository.findUpcomingEvents(now, pageable);
+            Map<Long, Long> totalStocks = getTotalStocks(events.stream()
+                    .map(Event::getId)
+                    .toList());
+
+            return events.stream()
+                    .map(event -> convertToResponse(event, totalStocks.get(event.getId())))
+                    .toList();
+        }
+
+        return withTotalStocks(eventCatalog.snapshot()
+                .pageUpcoming(now, offsetOf(pageable), pageable.getPageSize()));
     }
 
     /**
-     * 이벤트 검색
+     * 이벤트 검색 (제목/장소, 카탈로그 적재 후에는 bigram 색인으로 관련도순)
+     * 적재 전에는 기존처럼 제목 LIKE 검색
      */
     public Page<EventResponse> searchEvents(String keyword, Pageable pageable) {
 
-        return eventRepository.findByTitleContainingIgnoreCase(keyword, pageable)
-                .map(this::convertToResponse);
+        if (!eventCatalog.isReady()) {
+            return convertToResponses(eventRepository.findByTitleContainingIgnoreCase(keyword, pageable));
+        }
+
+        EventSearchIndex.Hits hits = eventCatalog.searchIndex()
+                .search(keyword, offsetOf(pageable), pageable.getPageSize());
+        if (hits == null) {
+            // 공백 검색어는 LIKE '%%'처럼 전체
+            return getAllEvents(pageable);
+        }
+
+        List<EventResponse> content = eventCatalog.snapshot().findAll(hits.eventIds()).stream()
+                .filter(event -> EventSearchIndex.matches(event, keyword))
+                .toList();
+        return new PageImpl<>(withTotalStocks(content), pageable, hits.total());
     }
 
     /**
-     * Entity -> Response 변환
+     * 검색어 자동완성 (카탈로그 적재 전에는 빈 목록)
+     */
+    public List<String> suggestKeywords(String prefix, int limit) {
+
+        if (!eventCatalog.isReady()) {
+            return List.of();
+        }
+        return eventCatalog.searchIndex().suggest(prefix, limit);
+    }
+
+    /**
+     * Page<Entity> -> Page<Response> 변환 (재고 합계는 페이지 단위 1회 조회)
      */
-    private EventResponse convertToResponse(Event event) {
+    private Page<EventResponse> convertToResponses(Page<Event> events) {
 
-        Long totalStock = ticketRepository.getTotalStockByEventId(event.getId());
+        Map<Long, Long> totalStocks = getTotalStocks(events.getContent().stream()
+                .map(Event::getId)
+                .toList());
+        return events.map(event -> convertToResponse(event, totalStocks.get(event.getId())));
+    }
+
+    /**
+     * 카탈로그 메타데이터에 전체 재고 합계 반영 (페이지 단위 1회 조회)
+     */
+    private List<EventResponse> withTotalStocks(List<EventResponse> events) {
+
+        Map<Long, Long> totalStocks = getTotalStocks(events.stream()
+                .map(EventResponse::getId)
+                .toList());
+        return events.stream()
+                .map(event -> event.toBuilder()
+                        .totalStock(totalStocks.get(event.getId()))
+                        .build())
+                .toList();
+    }
+
+    private String validateSort(Sort sort) {
+
+        String sortBy = "eventDate";
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty()) || order.isDescending()) {
+                throw new IllegalArgumentException("정렬할 수 없는 필드입니다: " + order.getProperty()
+                        + " (허용: " + SORTABLE_PROPERTIES + " 오름차순)");
+            }
+            sortBy = order.getProperty();
+        }
+        return sortBy;
+    }
+
+    /**
+     * 카탈로그 적재 전 SQL 대체 조회도 카탈로그와 같은 순서로 (날짜순은 같은 날짜면 ID순, 생성순은 ID순)
+     */
+    private static Pageable catalogOrder(Pageable pageable, String sortBy) {
+
+        Sort sort = "eventDate".equals(sortBy) ? Sort.by("eventDate", "id") : Sort.by("id");
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    private static int offsetOf(Pageable pageable) {
+
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 이벤트 목록의 전체 재고 합계 일괄 조회
+     * Redis 재고 집계를 먼저 읽고, 집계가 없는 이벤트만 GROUP BY로 조회 (티켓 없는 이벤트는 null)
+     */
+    private Map<Long, Long> getTotalStocks(List<Long> eventIds) {
+
+        Map<Long, Long> totalStocks = new HashMap<>(eventIds.size() * 2);
+        try {
+            totalStocks.putAll(ticketStockService.getTotalStocks(eventIds));
+        } catch (Exception e) {
+            log.warn("Failed to read event availability from Redis, falling back to DB: {}", e.getMessage());
+        }
+
+        List<Long> missingIds = eventIds.stream()
+                .filter(id -> !totalStocks.containsKey(id))
+                .toList();
+
+        for (int from = 0; from < missingIds.size(); from += STOCK_QUERY_CHUNK_SIZE) {
+            List<Long> chunk = missingIds.subList(from, Math.min(from + STOCK_QUERY_CHUNK_SIZE, missingIds.size()));
+
+            for (EventStockSummary summary : ticketRepository.getTotalStockByEventIds(chunk)) {
+                totalStocks.put(summary.getEventId(), summary.getTotalStock());
+            }
+        }
+        return totalStocks;
+    }
+
+    /**
+     * 단건 전체 재고 (Redis 집계 우선, 없으면 DB에서 재구성)
+     */
+    private Long getTotalStock(Long eventId) {
+
+        Long totalStock = findLiveTotalStock(eventId);
+        if (totalStock != null) {
+            return totalStock;
+        }
+
+        try {
+            return ticketStockService.rebuild(eventId);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild event availability: eventId={}, error={}", eventId, e.getMessage());
+            return ticketRepository.getTotalStockByEventId(eventId);
+        }
+    }
+
+    /**
+     * Redis 이벤트 재고 집계의 전체 재고 (없거나 Redis 오류면 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long findLiveTotalStock(Long eventId) {
+
+        try {
+            return ticketStockService.getTotalStock(eventId);
+        } catch (Exception e) {
+            log.warn("Failed to read event availability from Redis: eventId={}, error={}", eventId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Entity -> Response 변환
+     */
+    public EventResponse convertToResponse(Event event, Long totalStock) {
 
         return EventResponse.builder()
                 .id(event.getId())
@@ -114,6 +369,7 @@ public class EventService {
                 .imageUrl(event.getImageUrl())
                 .totalStock(totalStock)
                 .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
                 .build();
     }
 }
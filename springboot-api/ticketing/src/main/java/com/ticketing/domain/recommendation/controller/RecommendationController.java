@@ -1,23 +1,35 @@
 package com.ticketing.domain.recommendation.controller;
 
+import com.ticketing.domain.recommendation.dto.FraudFeatureResponse;
 import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.recommendation.dto.TrainingJobResponse;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import com.ticketing.domain.recommendation.service.AnomalyExportService;
+import com.ticketing.domain.recommendation.service.FraudFeatureService;
+import com.ticketing.domain.recommendation.service.ModelTrainingService;
 import com.ticketing.domain.recommendation.service.RecommendationService;
 import com.ticketing.domain.reservation.entity.Reservation;
 import com.ticketing.domain.reservation.repository.ReservationRepository;
 import com.ticketing.global.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,34 +39,70 @@ import java.util.stream.Collectors;
 public class RecommendationController {
 
     private final RecommendationService recommendationService;
+    private final ModelTrainingService modelTrainingService;
+    private final AnomalyExportService anomalyExportService;
+    private final FraudFeatureService fraudFeatureService;
 
+    private static final int MAX_ANOMALY_PAGE_SIZE = 10000;
+    private static final int MAX_FRAUD_TOP_SIZE = 1000;
+
+    // 비동기 응답: FastAPI를 기다리는 동안 요청 스레드를 반환하고 완료 시 응답
     @GetMapping("/{userId}")
-    @Operation(summary = "FastAPI Anomaly Detection용 예약 데이터 조회")
-    public ResponseEntity<RecommendationResponse> getRecommendations(
+    @Operation(summary = "사용자 이벤트 추천")
+    public CompletableFuture<ResponseEntity<RecommendationResponse>> getRecommendations(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "10") Integer limit
     ) {
-        RecommendationResponse response = recommendationService.getRecommendations(userId, limit);
-        return ResponseEntity.ok(response);
+        return recommendationService.getRecommendations(userId, limit)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/popular")
+    @Operation(summary = "인기 이벤트 조회 (누적 예약 수)")
+    public ApiResponse<List<EventRecommendation>> getPopularEvents(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.success(recommendationService.getPopularEvents(limit));
+    }
+
+    @GetMapping("/trending")
+    @Operation(summary = "급상승 이벤트 조회 (최근 예약 가중)")
+    public ApiResponse<List<EventRecommendation>> getTrendingEvents(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ApiResponse.success(recommendationService.getTrendingEvents(limit));
     }
 
     @PostMapping("/train")
-    @Operation(summary = "FastAPI 추천 모델 학습 트리거")
-    public ResponseEntity<Map<String, Object>> trainModel(
+    @Operation(summary = "FastAPI 추천 모델 학습 시작", description = "학습 작업을 시작하고 작업 ID를 바로 반환합니다 (진행 중인 학습이 있으면 그 작업)")
+    public ResponseEntity<ApiResponse<TrainingJobResponse>> trainModel(
             @RequestParam(defaultValue = "false") boolean forceRetrain
     ) {
-        Map<String, Object> result = recommendationService.trainModel(forceRetrain);
-        return ResponseEntity.ok(result);
+        TrainingJobResponse job = modelTrainingService.startTraining(forceRetrain);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/recommendations/train/" + job.getJobId()))
+                .body(ApiResponse.success(job));
+    }
+
+    @GetMapping("/train/{jobId}")
+    @Operation(summary = "모델 학습 작업 상태 조회")
+    public ResponseEntity<ApiResponse<TrainingJobResponse>> getTrainingJob(@PathVariable Long jobId) {
+        TrainingJobResponse job = modelTrainingService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error("학습 작업을 찾을 수 없습니다: " + jobId));
+        }
+        return ResponseEntity.ok(ApiResponse.success(job));
     }
 
     @GetMapping("/health")
     @Operation(summary = "FastAPI 헬스 체크")
-    public ResponseEntity<Map<String, Object>> healthCheck() {
-        boolean isHealthy = recommendationService.checkHealth();
-        return ResponseEntity.ok(Map.of(
-                "fastapi_status", isHealthy ? "healthy" : "unhealthy",
-                "connected", isHealthy
-        ));
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> healthCheck() {
+        return recommendationService.checkHealth()
+                .thenApply(isHealthy -> ResponseEntity.ok(Map.of(
+                        "fastapi_status", isHealthy ? "healthy" : "unhealthy",
+                        "connected", isHealthy
+                )));
     }
 
     @GetMapping("/for-anomaly-detection")
@@ -62,7 +110,53 @@ public class RecommendationController {
     public ApiResponse<List<Map<String, Object>>> getReservationsForAnomalyDetection(
             @RequestParam(defaultValue = "1000") int limit
     ) {
-        List<Map<String, Object>> result = recommendationService.getReservationsForAnomalyDetection(limit);
+        List<Map<String, Object>> result = recommendationService.getReservationsForAnomalyDetection(
+                Math.min(Math.max(limit, 1), MAX_ANOMALY_PAGE_SIZE));
         return ApiResponse.success(result);
     }
-}
\ No newline at end of file
+
+    // 대량 조회는 스트리밍 (행마다 reservation_id 포함, 끊기면 마지막 ID를 after로 넘겨 이어받기)
+    @GetMapping("/for-anomaly-detection/export")
+    @Operation(summary = "FastAPI Anomaly Detection용 예약 데이터 스트리밍 내보내기 (NDJSON/CSV)")
+    public void exportReservationsForAnomalyDetection(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "0") long limit,
+            HttpServletResponse response
+    ) throws IOException {
+        AnomalyExportService.Format exportFormat = "csv".equalsIgnoreCase(format)
+                ? AnomalyExportService.Format.CSV
+                : AnomalyExportService.Format.NDJSON;
+
+        response.setContentType(exportFormat == AnomalyExportService.Format.CSV
+                ? "text/csv;charset=UTF-8"
+                : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        anomalyExportService.export(response.getOutputStream(), exportFormat, after, limit);
+    }
+
+    // 실시간 피처 (윈도우 안에 예약이 없으면 data = null)
+    @GetMapping("/for-anomaly-detection/features/users/{userId}")
+    @Operation(summary = "사용자 실시간 이상 탐지 피처 조회")
+    public ApiResponse<FraudFeatureResponse> getUserFraudFeatures(@PathVariable Long userId) {
+        return ApiResponse.success(fraudFeatureService.getUserFeatures(userId));
+    }
+
+    @GetMapping("/for-anomaly-detection/features/ips")
+    @Operation(summary = "IP 실시간 이상 탐지 피처 조회")
+    public ApiResponse<FraudFeatureResponse> getIpFraudFeatures(@RequestParam String ip) {
+        return ApiResponse.success(fraudFeatureService.getIpFeatures(ip));
+    }
+
+    @GetMapping("/for-anomaly-detection/features/top")
+    @Operation(summary = "최근 1분 예약 수 상위 사용자/IP 실시간 피처 (type = user | ip)")
+    public ApiResponse<List<FraudFeatureResponse>> getTopFraudFeatures(
+            @RequestParam(defaultValue = "user") String type,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        int size = Math.min(Math.max(limit, 1), MAX_FRAUD_TOP_SIZE);
+        return ApiResponse.success("ip".equalsIgnoreCase(type)
+                ? fraudFeatureService.getTopIps(size)
+                : fraudFeatureService.getTopUsers(size));
+    }
+}
@@ -0,0 +1,19 @@
+package com.ticketing.domain.recommendation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRecommendationResponse {
+
+    @Builder.Default
+    private List<RecommendationResponse> results = new ArrayList<>();
+}
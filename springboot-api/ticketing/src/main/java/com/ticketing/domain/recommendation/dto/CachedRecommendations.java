@@ -0,0 +1,62 @@
+package com.ticketing.domain.recommendation.dto;
+
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import com.ticketing.global.enums.RecommendationReason;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 추천 캐시 항목 (eventId, score, reason code만 저장)
+ *
+ * 제목 같은 이벤트 정보는 조회 시 인메모리 카탈로그에서 채운다.
+ * fetchLimit개를 요청해 받은 결과이므로 그 이하 limit은 앞에서부터 잘라서 응답할 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedRecommendations {
+
+    private final long[] eventIds;
+    private final float[] scores;
+    private final byte[] reasonCodes;
+    private final int fetchLimit;
+    private final long generatedAtMillis;
+
+    public static CachedRecommendations of(List<EventRecommendation> recommendations, int fetchLimit) {
+        int size = recommendations != null ? recommendations.size() : 0;
+        long[] eventIds = new long[size];
+        float[] scores = new float[size];
+        byte[] reasonCodes = new byte[size];
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            EventRecommendation recommendation = recommendations.get(i);
+            if (recommendation.getEventId() == null) {
+                continue;
+            }
+            eventIds[count] = recommendation.getEventId();
+            scores[count] = recommendation.getScore() != null ? recommendation.getScore().floatValue() : 0f;
+            reasonCodes[count] = (byte) RecommendationReason.fromMessage(recommendation.getReason()).getCode();
+            count++;
+        }
+        if (count < size) {
+            eventIds = Arrays.copyOf(eventIds, count);
+            scores = Arrays.copyOf(scores, count);
+            reasonCodes = Arrays.copyOf(reasonCodes, count);
+        }
+        return new CachedRecommendations(eventIds, scores, reasonCodes, fetchLimit, System.currentTimeMillis());
+    }
+
+    /**
+     * limit개 요청에 이 항목으로 답할 수 있는지 (원본이 fetchLimit보다 적게 줬다면 전부 받은 것)
+     */
+    public boolean covers(int limit) {
+        return limit <= fetchLimit || eventIds.length < fetchLimit;
+    }
+
+    public int size() {
+        return eventIds.length;
+    }
+}
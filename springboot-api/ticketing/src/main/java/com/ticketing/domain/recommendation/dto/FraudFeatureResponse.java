@@ -0,0 +1,23 @@
+package com.ticketing.domain.recommendation.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FraudFeatureResponse {
+
+    private String type;                          // USER / IP
+    private String key;                           // 사용자 ID 또는 IP
+    private Integer reservationsLastMinute;       // 최근 1분 예약 수
+    private Integer reservationsInWindow;         // 윈도우 안 예약 수
+    private Double nightRatio;                    // 야간 시간대 예약 비율
+    private Integer distinctTickets;              // 윈도우 안 서로 다른 티켓 수
+    private Double interArrivalMeanSeconds;       // 예약 간격 평균 (초)
+    private Double interArrivalVarianceSeconds;   // 예약 간격 분산 (초^2, 봇은 0에 가까움)
+    private LocalDateTime lastReservedAt;
+    private Boolean saturated;                    // 링 버퍼가 윈도우 안 예약으로 가득 참 (수치는 하한)
+}
@@ -1,5 +1,6 @@
 package com.ticketing.domain.recommendation.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ticketing.domain.recommendation.entity.EventRecommendation;
 import lombok.AllArgsConstructor;
@@ -25,4 +26,8 @@ public class RecommendationResponse {
 
     @JsonProperty("generated_at")
     private LocalDateTime generatedAt;
+
+    // 배치 응답에서 해당 사용자 추천 생성 실패 사유 (단건 응답/캐시에는 없음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
 }
\ No newline at end of file
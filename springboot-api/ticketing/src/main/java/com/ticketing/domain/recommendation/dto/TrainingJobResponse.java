@@ -0,0 +1,22 @@
+package com.ticketing.domain.recommendation.dto;
+
+import com.ticketing.global.enums.TrainingJobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder(toBuilder = true)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingJobResponse {
+
+    private Long jobId;
+    private TrainingJobStatus status;
+    private Boolean forceRetrain;
+    private LocalDateTime requestedAt;
+    private LocalDateTime finishedAt;
+    private Map<String, Object> result;  // FastAPI 학습 결과 (완료 시)
+    private String error;                // 실패 사유
+}
@@ -0,0 +1,155 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ticketing.domain.reservation.dto.ReservationExportRow;
+import com.ticketing.domain.reservation.repository.ReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 이상 탐지 학습용 예약 데이터 스트리밍 내보내기 (NDJSON / CSV)
+ *
+ * 예약 ID keyset으로 batch-size건씩 DTO projection을 읽어 바로 출력 스트림에 쓴다.
+ * 배치마다 짧은 읽기 트랜잭션을 쓰므로 수백만 건이어도 커넥션을 오래 잡지 않고 메모리는 배치 크기만큼만 쓴다.
+ * 모든 행에 reservation_id가 있으므로 중간에 끊기면 마지막으로 받은 ID를 after로 넘겨 이어 받는다.
+ */
+@Slf4j
+@Service
+public class AnomalyExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final String CSV_HEADER = "reservation_id,user_id,event_id,ticket_id,price,status,purchase_time,ip_address\n";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${anomaly.export.batch-size:2000}")
+    private int batchSize;
+
+    public AnomalyExportService(ReservationRepository reservationRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * afterId 다음 예약부터 최대 limit건 (0이면 끝까지) 출력
+     *
+     * @return 쓴 행 수
+     */
+    public long export(OutputStream out, Format format, long afterId, long limit) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long written = 0;
+        long lastId = afterId;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator json = format == Format.NDJSON ? JSON_FACTORY.createGenerator(writer) : null;
+        if (json != null) {
+            json.setRootValueSeparator(null);
+        } else {
+            writer.write(CSV_HEADER);
+        }
+
+        while (limit <= 0 || written < limit) {
+            int size = (int) (limit <= 0 ? batchSize : Math.min(batchSize, limit - written));
+            long after = lastId;
+            List<ReservationExportRow> rows = transactionTemplate.execute(status ->
+                    reservationRepository.findExportRowsAfter(after, PageRequest.of(0, size)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+
+            for (ReservationExportRow row : rows) {
+                if (json != null) {
+                    writeJson(json, row);
+                    json.writeRaw('\n');
+                } else {
+                    writeCsv(writer, row);
+                }
+            }
+            // 배치마다 내보내 클라이언트가 받은 만큼은 이어받기 기준이 되도록
+            flush(json, writer);
+
+            written += rows.size();
+            lastId = rows.get(rows.size() - 1).reservationId();
+            if (rows.size() < size) {
+                break;
+            }
+        }
+        flush(json, writer);
+
+        log.info("Anomaly export finished: format={}, afterId={}, rows={}, lastId={}, elapsedMs={}",
+                format, afterId, written, lastId, System.currentTimeMillis() - startedAt);
+        return written;
+    }
+
+    private static void flush(JsonGenerator json, Writer writer) throws IOException {
+        if (json != null) {
+            json.flush();
+        } else {
+            writer.flush();
+        }
+    }
+
+    private static void writeJson(JsonGenerator json, ReservationExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("reservation_id", row.reservationId());
+        json.writeNumberField("user_id", row.userId());
+        json.writeNumberField("event_id", row.eventId());
+        json.writeNumberField("ticket_id", row.ticketId());
+        if (row.price() != null) {
+            json.writeNumberField("price", row.price());
+        }
+        json.writeStringField("status", row.status().name());
+        if (row.createdAt() != null) {
+            json.writeStringField("purchase_time", row.createdAt().toString());
+        }
+        if (row.clientIp() != null) {
+            json.writeStringField("ip_address", row.clientIp());
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeCsv(Writer writer, ReservationExportRow row) throws IOException {
+        writer.write(Long.toString(row.reservationId()));
+        writer.write(',');
+        writer.write(Long.toString(row.userId()));
+        writer.write(',');
+        writer.write(Long.toString(row.eventId()));
+        writer.write(',');
+        writer.write(Long.toString(row.ticketId()));
+        writer.write(',');
+        if (row.price() != null) {
+            writer.write(Long.toString(row.price()));
+        }
+        writer.write(',');
+        writer.write(row.status().name());
+        writer.write(',');
+        if (row.createdAt() != null) {
+            writer.write(row.createdAt().toString());
+        }
+        writer.write(',');
+        if (row.clientIp() != null) {
+            writer.write(row.clientIp());
+        }
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,363 @@
+package com.ticketing.domain.recommendation.service;
+
+import java.util.Arrays;
+
+/**
+ * 아이템 동시 예약(co-occurrence) 모델 (불변)
+ *
+ * 같은 사용자가 예약한 이벤트 쌍의 횟수를 세고, 이벤트별로 코사인 유사도 상위 이웃만 남긴다.
+ * 사용자/이벤트 ID는 dense int로 바꿔 primitive 배열에 담고, 쌍 카운트는 (a << 32 | b) long 키 맵으로 센다.
+ * 추천은 사용자 최근 이력의 이웃 점수 합으로 O(이력 수 x 이웃 수).
+ */
+public final class CoOccurrenceModel {
+
+    private static final CoOccurrenceModel EMPTY =
+            build(new long[0], new long[0], 0, 1, 1);
+
+    private final long[] eventIds;
+    private final LongIntMap userIndex;
+    private final int[] historyOffsets;
+    private final int[] histories;
+    private final int[] neighborOffsets;
+    private final int[] neighbors;
+    private final float[] neighborScores;
+    private final int reservationCount;
+
+    private CoOccurrenceModel(long[] eventIds, LongIntMap userIndex, int[] historyOffsets, int[] histories,
+                              int[] neighborOffsets, int[] neighbors, float[] neighborScores,
+                              int reservationCount) {
+        this.eventIds = eventIds;
+        this.userIndex = userIndex;
+        this.historyOffsets = historyOffsets;
+        this.histories = histories;
+        this.neighborOffsets = neighborOffsets;
+        this.neighbors = neighbors;
+        this.neighborScores = neighborScores;
+        this.reservationCount = reservationCount;
+    }
+
+    public static CoOccurrenceModel empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 예약 (사용자, 이벤트) 목록으로 생성 (배열 순서 = 예약 시각 순)
+     *
+     * @param maxEventsPerUser  사용자당 반영할 최근 이벤트 수 (쌍 개수가 제곱으로 늘지 않도록)
+     * @param neighborsPerEvent 이벤트별로 남길 이웃 수
+     */
+    public static CoOccurrenceModel build(long[] userIds, long[] eventIdsByRow, int count,
+                                          int maxEventsPerUser, int neighborsPerEvent) {
+        LongIntMap eventIndex = new LongIntMap(1024);
+        LongIntMap userIndex = new LongIntMap(1024);
+        long[] eventIds = new long[16];
+        long[] rows = new long[count];
+
+        for (int row = 0; row < count; row++) {
+            int event = eventIndex.get(eventIdsByRow[row]);
+            if (event < 0) {
+                event = eventIndex.size();
+                eventIndex.put(eventIdsByRow[row], event);
+                if (event == eventIds.length) {
+                    eventIds = Arrays.copyOf(eventIds, event * 2);
+                }
+                eventIds[event] = eventIdsByRow[row];
+            }
+            int user = userIndex.get(userIds[row]);
+            if (user < 0) {
+                user = userIndex.size();
+                userIndex.put(userIds[row], user);
+            }
+            // 사용자별로 모으고 같은 사용자 안에서는 예약 순서 유지
+            rows[row] = ((long) user << 32) | row;
+        }
+        Arrays.sort(rows);
+
+        int eventCount = eventIndex.size();
+        int userCount = userIndex.size();
+        int[] historyOffsets = new int[userCount + 1];
+        int[] histories = new int[count];
+        int[] eventUsers = new int[eventCount];
+        LongIntMap pairCounts = new LongIntMap(Math.max(1024, count));
+
+        int size = 0;
+        int start = 0;
+        int[] recent = new int[maxEventsPerUser];
+        while (start < count) {
+            int user = (int) (rows[start] >>> 32);
+            int end = start;
+            while (end < count && (int) (rows[end] >>> 32) == user) {
+                end++;
+            }
+
+            // 최근 예약부터 거꾸로 훑어 중복 없이 maxEventsPerUser개
+            int recentCount = 0;
+            for (int i = end - 1; i >= start && recentCount < maxEventsPerUser; i--) {
+                int event = eventIndex.get(eventIdsByRow[(int) rows[i]]);
+                if (!contains(recent, recentCount, event)) {
+                    recent[recentCount++] = event;
+                }
+            }
+
+            historyOffsets[user] = size;
+            for (int i = 0; i < recentCount; i++) {
+                histories[size++] = recent[i];
+                eventUsers[recent[i]]++;
+                for (int j = 0; j < recentCount; j++) {
+                    if (i != j) {
+                        pairCounts.addTo(((long) recent[i] << 32) | recent[j], 1);
+                    }
+                }
+            }
+            start = end;
+        }
+        // 사용자 번호는 등장 순서로 0..userCount-1이므로 오프셋은 정렬 순서와 같다
+        historyOffsets[userCount] = size;
+
+        // 쌍을 (a, b) 순으로 정렬해 a별 상위 이웃 선택
+        long[] pairs = pairCounts.keys();
+        Arrays.sort(pairs);
+        int[] neighborOffsets = new int[eventCount + 1];
+        int[] neighbors = new int[Math.min(pairs.length, eventCount * neighborsPerEvent)];
+        float[] neighborScores = new float[neighbors.length];
+        int written = 0;
+        int p = 0;
+        for (int event = 0; event < eventCount; event++) {
+            neighborOffsets[event] = written;
+            int from = p;
+            while (p < pairs.length && (int) (pairs[p] >>> 32) == event) {
+                p++;
+            }
+            int candidates = p - from;
+            if (candidates == 0) {
+                continue;
+            }
+
+            // (점수 비트 << 32 | 이웃) 정렬로 상위 이웃 선택 (양수 float 비트는 크기 순서와 같음)
+            long[] ranked = new long[candidates];
+            for (int i = 0; i < candidates; i++) {
+                long pair = pairs[from + i];
+                int neighbor = (int) pair;
+                float score = (float) (pairCounts.get(pair) / Math.sqrt((double) eventUsers[event] * eventUsers[neighbor]));
+                ranked[i] = ((long) Float.floatToIntBits(score) << 32) | neighbor;
+            }
+            Arrays.sort(ranked);
+            for (int i = candidates - 1; i >= 0 && candidates - i <= neighborsPerEvent; i--) {
+                neighbors[written] = (int) ranked[i];
+                neighborScores[written] = Float.intBitsToFloat((int) (ranked[i] >>> 32));
+                written++;
+            }
+        }
+        neighborOffsets[eventCount] = written;
+
+        return new CoOccurrenceModel(Arrays.copyOf(eventIds, eventCount), userIndex,
+                historyOffsets, Arrays.copyOf(histories, size),
+                neighborOffsets, Arrays.copyOf(neighbors, written), Arrays.copyOf(neighborScores, written),
+                count);
+    }
+
+    /**
+     * 사용자 추천 (이미 예약한 이벤트 제외, 점수 내림차순), 이력이 없으면 빈 결과
+     */
+    public Scored recommend(long userId, int limit) {
+        int user = userIndex.get(userId);
+        if (user < 0 || limit <= 0) {
+            return Scored.EMPTY;
+        }
+
+        int historyFrom = historyOffsets[user];
+        int historyTo = historyOffsets[user + 1];
+        int candidateCapacity = 0;
+        for (int i = historyFrom; i < historyTo; i++) {
+            candidateCapacity += neighborOffsets[histories[i] + 1] - neighborOffsets[histories[i]];
+        }
+        if (candidateCapacity == 0) {
+            return Scored.EMPTY;
+        }
+
+        // 후보 점수 합산 (작은 오픈 어드레싱 int -> float)
+        int tableSize = Integer.highestOneBit(candidateCapacity * 2 - 1) << 1;
+        int[] keys = new int[tableSize];
+        float[] sums = new float[tableSize];
+        Arrays.fill(keys, -1);
+        int mask = tableSize - 1;
+        int candidates = 0;
+
+        for (int i = historyFrom; i < historyTo; i++) {
+            int event = histories[i];
+            for (int n = neighborOffsets[event]; n < neighborOffsets[event + 1]; n++) {
+                int neighbor = neighbors[n];
+                if (contains(histories, historyFrom, historyTo, neighbor)) {
+                    continue;
+                }
+                int slot = (neighbor * 0x9E3779B9) & mask;
+                while (keys[slot] != -1 && keys[slot] != neighbor) {
+                    slot = (slot + 1) & mask;
+                }
+                if (keys[slot] == -1) {
+                    keys[slot] = neighbor;
+                    candidates++;
+                }
+                sums[slot] += neighborScores[n];
+            }
+        }
+
+        long[] ranked = new long[candidates];
+        int r = 0;
+        for (int slot = 0; slot < tableSize; slot++) {
+            if (keys[slot] != -1) {
+                ranked[r++] = ((long) Float.floatToIntBits(sums[slot]) << 32) | keys[slot];
+            }
+        }
+        Arrays.sort(ranked);
+
+        int resultSize = Math.min(limit, candidates);
+        long[] resultIds = new long[resultSize];
+        double[] resultScores = new double[resultSize];
+        for (int i = 0; i < resultSize; i++) {
+            long entry = ranked[candidates - 1 - i];
+            resultIds[i] = eventIds[(int) entry];
+            resultScores[i] = Float.intBitsToFloat((int) (entry >>> 32));
+        }
+        return new Scored(resultIds, resultScores);
+    }
+
+    public int reservationCount() {
+        return reservationCount;
+    }
+
+    public int eventCount() {
+        return eventIds.length;
+    }
+
+    public int userCount() {
+        return historyOffsets.length - 1;
+    }
+
+    /**
+     * 대략적인 힙 사용량
+     */
+    public long memoryBytes() {
+        return 16L * 7
+                + (long) eventIds.length * Long.BYTES
+                + userIndex.memoryBytes()
+                + (long) (historyOffsets.length + histories.length + neighborOffsets.length + neighbors.length) * Integer.BYTES
+                + (long) neighborScores.length * Float.BYTES;
+    }
+
+    /**
+     * 추천 이벤트 ID와 점수 (같은 순서)
+     */
+    public record Scored(long[] eventIds, double[] scores) {
+
+        static final Scored EMPTY = new Scored(new long[0], new double[0]);
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        return contains(values, 0, size, value);
+    }
+
+    private static boolean contains(int[] values, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * long -> int 오픈 어드레싱 맵 (키는 0 이상, 없는 키는 -1)
+     */
+    static final class LongIntMap {
+
+        private static final long EMPTY_KEY = Long.MIN_VALUE;
+
+        private long[] keys;
+        private int[] values;
+        private int size;
+
+        LongIntMap(int capacity) {
+            int tableSize = Integer.highestOneBit(Math.max(capacity, 16) * 2 - 1) << 1;
+            keys = new long[tableSize];
+            values = new int[tableSize];
+            Arrays.fill(keys, EMPTY_KEY);
+        }
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; keys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            int slot = slot(key);
+            values[slot] = value;
+        }
+
+        void addTo(long key, int delta) {
+            int slot = slot(key);
+            values[slot] = Math.max(values[slot], 0) + delta;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] keys() {
+            long[] result = new long[size];
+            int n = 0;
+            for (long key : keys) {
+                if (key != EMPTY_KEY) {
+                    result[n++] = key;
+                }
+            }
+            return result;
+        }
+
+        long memoryBytes() {
+            return 32L + (long) keys.length * (Long.BYTES + Integer.BYTES);
+        }
+
+        // 키 위치 (없으면 값 -1로 새로 만듦)
+        private int slot(long key) {
+            if ((size + 1) * 2 > keys.length) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (keys[i] != EMPTY_KEY && keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            if (keys[i] == EMPTY_KEY) {
+                keys[i] = key;
+                values[i] = -1;
+                size++;
+            }
+            return i;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldKeys.length * 2];
+            Arrays.fill(keys, EMPTY_KEY);
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY_KEY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
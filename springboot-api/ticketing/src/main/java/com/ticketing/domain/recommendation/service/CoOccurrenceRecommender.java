@@ -0,0 +1,182 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.event.service.EventCatalog;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import com.ticketing.domain.reservation.repository.ReservationRepository;
+import com.ticketing.global.snowflake.Snowflake;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FastAPI 장애 시 로컬 대체 추천 (동시 예약 기반)
+ *
+ * 최근 window-days 동안의 예약으로 CoOccurrenceModel을 주기적으로 만들어 교체한다.
+ * 추천은 메모리 조회만 하므로 FastAPI가 느리거나 서킷이 열려도 요청 스레드를 잡지 않는다.
+ */
+@Slf4j
+@Component
+public class CoOccurrenceRecommender {
+
+    private static final String REASON = "함께 예약된 이벤트";
+    // 지난 이벤트를 거르고도 limit을 채우도록 더 뽑는 배수
+    private static final int OVERFETCH_FACTOR = 2;
+
+    private final ReservationRepository reservationRepository;
+    private final EventCatalog eventCatalog;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "co-occurrence-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile CoOccurrenceModel model = CoOccurrenceModel.empty();
+
+    @Value("${recommendation.fallback.window-days:30}")
+    private int windowDays;
+
+    @Value("${recommendation.fallback.max-reservations:500000}")
+    private int maxReservations;
+
+    @Value("${recommendation.fallback.max-events-per-user:50}")
+    private int maxEventsPerUser;
+
+    @Value("${recommendation.fallback.neighbors-per-event:20}")
+    private int neighborsPerEvent;
+
+    @Value("${recommendation.fallback.load-batch-size:10000}")
+    private int batchSize;
+
+    public CoOccurrenceRecommender(ReservationRepository reservationRepository,
+                                   EventCatalog eventCatalog,
+                                   PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.eventCatalog = eventCatalog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        executor.execute(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.fallback.rebuild-interval-ms:600000}",
+            initialDelayString = "${recommendation.fallback.rebuild-interval-ms:600000}")
+    public void scheduleRebuild() {
+        executor.execute(this::rebuild);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 사용자 대체 추천 (이력이 없거나 모델이 비어 있으면 빈 목록)
+     */
+    public List<EventRecommendation> recommend(Long userId, int limit) {
+        if (userId == null || limit <= 0) {
+            return List.of();
+        }
+
+        CoOccurrenceModel.Scored scored = model.recommend(userId, limit * OVERFETCH_FACTOR);
+        if (scored.eventIds().length == 0) {
+            return List.of();
+        }
+
+        // 카탈로그 적재 전이면 제목 없이 ID와 점수만 반환
+        boolean catalogReady = eventCatalog.isReady();
+        Map<Long, EventResponse> events = catalogReady ? catalogEvents(scored.eventIds()) : Map.of();
+        LocalDateTime now = LocalDateTime.now();
+        List<EventRecommendation> result = new ArrayList<>(limit);
+        for (int i = 0; i < scored.eventIds().length && result.size() < limit; i++) {
+            long eventId = scored.eventIds()[i];
+            EventResponse event = events.get(eventId);
+            if (catalogReady && (event == null || (event.getEventDate() != null && event.getEventDate().isBefore(now)))) {
+                continue;
+            }
+            result.add(EventRecommendation.builder()
+                    .eventId(eventId)
+                    .title(event != null ? event.getTitle() : null)
+                    .score(scored.scores()[i])
+                    .reason(REASON)
+                    .build());
+        }
+        return result;
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long lastId = Snowflake.minIdAt(startedAt - Duration.ofDays(windowDays).toMillis());
+            long[] userIds = new long[Math.min(maxReservations, batchSize)];
+            long[] eventIds = new long[userIds.length];
+            int count = 0;
+
+            while (count < maxReservations) {
+                long afterId = lastId;
+                int size = Math.min(batchSize, maxReservations - count);
+                List<Object[]> batch = transactionTemplate.execute(status ->
+                        reservationRepository.findUserEventPairsAfter(afterId, PageRequest.of(0, size)));
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+
+                if (count + batch.size() > userIds.length) {
+                    int capacity = Math.min(maxReservations, Math.max(userIds.length * 2, count + batch.size()));
+                    userIds = Arrays.copyOf(userIds, capacity);
+                    eventIds = Arrays.copyOf(eventIds, capacity);
+                }
+                for (Object[] row : batch) {
+                    userIds[count] = ((Number) row[1]).longValue();
+                    eventIds[count] = ((Number) row[2]).longValue();
+                    count++;
+                }
+                lastId = ((Number) batch.get(batch.size() - 1)[0]).longValue();
+                if (batch.size() < size) {
+                    break;
+                }
+            }
+
+            CoOccurrenceModel built = CoOccurrenceModel.build(userIds, eventIds, count, maxEventsPerUser, neighborsPerEvent);
+            model = built;
+            log.info("Co-occurrence model built: reservations={}, users={}, events={}, memoryBytes={}, elapsedMs={}",
+                    built.reservationCount(), built.userCount(), built.eventCount(), built.memoryBytes(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 기존 모델 유지
+            log.error("Co-occurrence model build failed", e);
+        }
+    }
+
+    private Map<Long, EventResponse> catalogEvents(long[] eventIds) {
+        long[] ids = eventIds.clone();
+        Arrays.sort(ids);
+        Map<Long, EventResponse> events = new HashMap<>(ids.length * 2);
+        for (EventResponse event : eventCatalog.snapshot().findAll(ids)) {
+            events.put(event.getId(), event);
+        }
+        return events;
+    }
+}
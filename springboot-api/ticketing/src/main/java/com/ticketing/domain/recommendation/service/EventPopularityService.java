@@ -0,0 +1,224 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.event.service.EventCatalog;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import com.ticketing.global.snowflake.Snowflake;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이벤트 인기도 색인 (Redis ZSET)
+ *
+ * 예약 생성/취소/만료 Kafka 이벤트로 이벤트별 점수를 증감하고, 상위 K개는 ZREVRANGE로 O(log n + k)에 읽는다.
+ * MySQL은 조회하지 않으며 제목/날짜는 인메모리 이벤트 카탈로그에서 채운다.
+ *
+ * 인기(popular): 누적 예약 수.
+ * 급상승(trending): 반감기 지수 감쇠 점수. 시각 t의 예약은 2^((t - epoch) / halfLife)만큼 더하므로
+ * 기존 점수를 매번 줄이지 않아도 순위가 감쇠 점수 순서와 같다. 지수가 커지면 epoch를 옮기며 전체를 한 번 축소한다.
+ * 취소/만료는 원래 예약 시각(Snowflake ID)의 가중치를 빼서 정확히 상쇄한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventPopularityService {
+
+    public static final String POPULAR_KEY = "popularity:events";
+    public static final String TRENDING_KEY = "popularity:events:trending";
+    private static final String TRENDING_EPOCH_KEY = "popularity:events:trending:epoch";
+
+    // epoch 재설정 기준 (가중치 2^32 이상), 재설정 후 이 값 미만 점수는 삭제
+    private static final double REBASE_EXPONENT = 32;
+    private static final String PRUNE_BELOW = "0.000001";
+
+    // 지난/삭제된 이벤트를 거르고도 limit을 채우도록 더 읽는 배수
+    private static final int OVERFETCH_FACTOR = 2;
+    private static final int MAX_LIMIT = 100;
+    // 취소로 상쇄된 점수의 부동소수 잔여분 제외
+    private static final double MIN_SCORE = 0.001;
+
+    /**
+     * KEYS[1]: 인기 ZSET, KEYS[2]: 급상승 ZSET, KEYS[3]: 급상승 epoch
+     * ARGV[1]: eventId, ARGV[2]: 증감(+1/-1), ARGV[3]: 예약 시각(ms), ARGV[4]: 반감기(ms)
+     */
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[3])) " +
+            "if not epoch then " +
+            "  epoch = tonumber(ARGV[3]) " +
+            "  redis.call('set', KEYS[3], ARGV[3]) " +
+            "end " +
+            "local weight = tonumber(ARGV[2]) * math.pow(2, (tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4])) " +
+            "redis.call('zincrby', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('zincrby', KEYS[2], tostring(weight), ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    /**
+     * KEYS[1]: 급상승 ZSET, KEYS[2]: 급상승 epoch
+     * ARGV[1]: 새 epoch(ms), ARGV[2]: 반감기(ms), ARGV[3]: 삭제 기준 점수
+     */
+    private static final RedisScript<Long> REBASE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('get', KEYS[2])) " +
+            "if not epoch then return 0 end " +
+            "local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2])) " +
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  redis.call('zunionstore', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor)) " +
+            "  redis.call('zremrangebyscore', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+            "end " +
+            "redis.call('set', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final EventCatalog eventCatalog;
+
+    @Value("${popularity.trending.half-life-minutes:60}")
+    private long halfLifeMinutes;
+
+    /**
+     * 예약 이벤트 반영 (클러스터 전체에서 한 컨슈머 그룹이 한 번만 처리)
+     */
+    @KafkaListener(topics = "reservation-events", groupId = "${popularity.consumer-group:ticketing-popularity}")
+    public void onReservationEvent(Map<String, Object> event) {
+        Object eventType = event.get("eventType");
+        int delta;
+        if ("CREATED".equals(eventType)) {
+            delta = 1;
+        } else if ("CANCELLED".equals(eventType) || "EXPIRED".equals(eventType)) {
+            delta = -1;
+        } else {
+            return;
+        }
+
+        if (!(event.get("eventId") instanceof Number eventId)
+                || !(event.get("reservationId") instanceof Number reservationId)) {
+            log.warn("Reservation event without eventId/reservationId: {}", event);
+            return;
+        }
+        record(eventId.longValue(), Snowflake.timestampMillis(reservationId.longValue()), delta);
+    }
+
+    /**
+     * 점수 증감 (reservedAtMillis: 원래 예약 시각)
+     */
+    public void record(long eventId, long reservedAtMillis, int delta) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(POPULAR_KEY, TRENDING_KEY, TRENDING_EPOCH_KEY),
+                String.valueOf(eventId), String.valueOf(delta),
+                String.valueOf(reservedAtMillis), String.valueOf(halfLifeMillis()));
+    }
+
+    /**
+     * 누적 예약 수 상위 이벤트
+     */
+    public List<EventRecommendation> getPopularEvents(int limit) {
+        return top(POPULAR_KEY, limit, 1.0, "인기 이벤트");
+    }
+
+    /**
+     * 최근 예약 기준 급상승 이벤트 (점수 = 반감기 감쇠된 예약 수)
+     */
+    public List<EventRecommendation> getTrendingEvents(int limit) {
+        String epoch = redisTemplate.opsForValue().get(TRENDING_EPOCH_KEY);
+        if (epoch == null) {
+            return List.of();
+        }
+        double decay = Math.pow(2, (Long.parseLong(epoch) - System.currentTimeMillis()) / (double) halfLifeMillis());
+        return top(TRENDING_KEY, limit, decay, "지금 뜨는 이벤트");
+    }
+
+    /**
+     * 급상승 점수의 epoch를 현재로 옮기고 전체 점수를 축소 (지수가 커졌을 때만)
+     */
+    @Scheduled(fixedDelayString = "${popularity.trending.rebase-check-interval-ms:600000}")
+    public void rebaseTrending() {
+        try {
+            String epoch = redisTemplate.opsForValue().get(TRENDING_EPOCH_KEY);
+            long now = System.currentTimeMillis();
+            if (epoch == null || (now - Long.parseLong(epoch)) / (double) halfLifeMillis() < REBASE_EXPONENT) {
+                return;
+            }
+            redisTemplate.execute(REBASE_SCRIPT, List.of(TRENDING_KEY, TRENDING_EPOCH_KEY),
+                    String.valueOf(now), String.valueOf(halfLifeMillis()), PRUNE_BELOW);
+            log.info("Trending popularity rebased: epoch={}", now);
+        } catch (Exception e) {
+            log.warn("Failed to rebase trending popularity: {}", e.getMessage());
+        }
+    }
+
+    private List<EventRecommendation> top(String key, int limit, double scale, String reason) {
+        int size = Math.max(0, Math.min(limit, MAX_LIMIT));
+        if (size == 0) {
+            return List.of();
+        }
+
+        Set<TypedTuple<String>> ranked = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, 0, (long) size * OVERFETCH_FACTOR - 1);
+        if (ranked == null || ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> eventIds = new ArrayList<>(ranked.size());
+        Map<Long, Double> scores = new HashMap<>(ranked.size() * 2);
+        for (TypedTuple<String> tuple : ranked) {
+            if (tuple.getValue() == null || tuple.getScore() == null || tuple.getScore() * scale < MIN_SCORE) {
+                continue;
+            }
+            long eventId = Long.parseLong(tuple.getValue());
+            eventIds.add(eventId);
+            scores.put(eventId, tuple.getScore() * scale);
+        }
+
+        // 카탈로그 적재 전이면 제목 없이 ID와 점수만 반환
+        boolean catalogReady = eventCatalog.isReady();
+        Map<Long, EventResponse> events = catalogReady ? catalogEvents(eventIds) : Map.of();
+        LocalDateTime now = LocalDateTime.now();
+        List<EventRecommendation> result = new ArrayList<>(size);
+        for (Long eventId : eventIds) {
+            EventResponse event = events.get(eventId);
+            if (catalogReady) {
+                // 카탈로그에 없거나 이미 지난 이벤트는 제외
+                if (event == null || (event.getEventDate() != null && event.getEventDate().isBefore(now))) {
+                    continue;
+                }
+            }
+            result.add(EventRecommendation.builder()
+                    .eventId(eventId)
+                    .title(event != null ? event.getTitle() : null)
+                    .score(scores.get(eventId))
+                    .reason(reason)
+                    .build());
+            if (result.size() == size) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, EventResponse> catalogEvents(List<Long> eventIds) {
+        long[] ids = eventIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<Long, EventResponse> events = new HashMap<>(ids.length * 2);
+        for (EventResponse event : eventCatalog.snapshot().findAll(ids)) {
+            events.put(event.getId(), event);
+        }
+        return events;
+    }
+
+    private long halfLifeMillis() {
+        return halfLifeMinutes * 60_000L;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.ticketing.domain.recommendation.dto.FraudFeatureResponse;
+import com.ticketing.global.snowflake.Snowflake;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 이상 탐지 피처 (사용자별 / IP별 슬라이딩 윈도우)
+ *
+ * 예약 Kafka 이벤트를 받아 FraudFeatureWindow에 반영하고, 조회 시 피처 벡터를 계산한다.
+ * 모든 노드가 같은 피처를 보도록 노드마다 별도 컨슈머 그룹으로 전체 이벤트를 받는다.
+ * 그룹 이름은 노드 이름(instance-name)으로 고정해 재시작해도 같은 그룹을 이어 쓴다 (처음 시작하면 그 시점 이후부터).
+ * 메모리는 max-keys x ring-size로 고정 (기본 사용자/IP 각 5만 키 x 32건, 합계 약 55MB).
+ */
+@Slf4j
+@Service
+public class FraudFeatureService {
+
+    private static final String TYPE_USER = "USER";
+    private static final String TYPE_IP = "IP";
+    private static final long IPV4_SPACE = 1L << 32;
+
+    private final FraudFeatureWindow userWindow;
+    private final FraudFeatureWindow ipWindow;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public FraudFeatureService(@Value("${fraud.features.max-keys:50000}") int maxKeys,
+                               @Value("${fraud.features.ring-size:32}") int ringSize,
+                               @Value("${fraud.features.window-minutes:10}") long windowMinutes,
+                               @Value("${fraud.features.night-start-hour:0}") int nightStartHour,
+                               @Value("${fraud.features.night-end-hour:6}") int nightEndHour,
+                               MeterRegistry meterRegistry) {
+        long windowMillis = windowMinutes * 60_000L;
+        this.userWindow = new FraudFeatureWindow(maxKeys, ringSize, windowMillis, nightStartHour, nightEndHour, zone);
+        this.ipWindow = new FraudFeatureWindow(maxKeys, ringSize, windowMillis, nightStartHour, nightEndHour, zone);
+
+        registerGauges(meterRegistry, TYPE_USER, userWindow);
+        registerGauges(meterRegistry, TYPE_IP, ipWindow);
+        log.info("Fraud feature windows allocated: maxKeys={}, ringSize={}, memoryBytes={}",
+                maxKeys, ringSize, userWindow.memoryBytes() + ipWindow.memoryBytes());
+    }
+
+    /**
+     * 예약 이벤트 반영 (예약 생성만, 예약 시각은 Snowflake ID에서)
+     */
+    @KafkaListener(topics = "reservation-events",
+            groupId = "${fraud.features.consumer-group-prefix:ticketing-fraud}-${fraud.features.instance-name:${HOSTNAME:local}}",
+            properties = "auto.offset.reset=latest")
+    public void onReservationEvent(Map<String, Object> event) {
+        if (!"CREATED".equals(event.get("eventType"))) {
+            return;
+        }
+        if (!(event.get("userId") instanceof Number userId)
+                || !(event.get("ticketId") instanceof Number ticketId)
+                || !(event.get("reservationId") instanceof Number reservationId)) {
+            log.warn("Reservation event without userId/ticketId/reservationId: {}", event);
+            return;
+        }
+        long reservedAt = Snowflake.timestampMillis(reservationId.longValue());
+        record(userId.longValue(), event.get("clientIp") instanceof String ip ? ip : null,
+                ticketId.longValue(), reservedAt);
+    }
+
+    public void record(long userId, String clientIp, long ticketId, long reservedAtMillis) {
+        synchronized (userWindow) {
+            userWindow.record(userId, ticketId, reservedAtMillis);
+        }
+        if (clientIp != null && !clientIp.isEmpty()) {
+            long ipKey = ipKey(clientIp);
+            synchronized (ipWindow) {
+                ipWindow.record(ipKey, ticketId, reservedAtMillis);
+            }
+        }
+    }
+
+    public FraudFeatureResponse getUserFeatures(Long userId) {
+        FraudFeatureWindow.Features features;
+        synchronized (userWindow) {
+            features = userWindow.features(userId, System.currentTimeMillis());
+        }
+        return features != null ? toResponse(TYPE_USER, String.valueOf(userId), features) : null;
+    }
+
+    public FraudFeatureResponse getIpFeatures(String ip) {
+        FraudFeatureWindow.Features features;
+        synchronized (ipWindow) {
+            features = ipWindow.features(ipKey(ip), System.currentTimeMillis());
+        }
+        return features != null ? toResponse(TYPE_IP, ip, features) : null;
+    }
+
+    /**
+     * 최근 1분 예약 수 상위 사용자
+     */
+    public List<FraudFeatureResponse> getTopUsers(int limit) {
+        List<FraudFeatureWindow.Features> top;
+        synchronized (userWindow) {
+            top = userWindow.top(limit, System.currentTimeMillis());
+        }
+        return top.stream()
+                .map(features -> toResponse(TYPE_USER, String.valueOf(features.key()), features))
+                .toList();
+    }
+
+    /**
+     * 최근 1분 예약 수 상위 IP
+     */
+    public List<FraudFeatureResponse> getTopIps(int limit) {
+        List<FraudFeatureWindow.Features> top;
+        synchronized (ipWindow) {
+            top = ipWindow.top(limit, System.currentTimeMillis());
+        }
+        return top.stream()
+                .map(features -> toResponse(TYPE_IP, ipString(features.key()), features))
+                .toList();
+    }
+
+    private FraudFeatureResponse toResponse(String type, String key, FraudFeatureWindow.Features features) {
+        return FraudFeatureResponse.builder()
+                .type(type)
+                .key(key)
+                .reservationsLastMinute(features.reservationsLastMinute())
+                .reservationsInWindow(features.reservationsInWindow())
+                .nightRatio(features.nightRatio())
+                .distinctTickets(features.distinctTickets())
+                .interArrivalMeanSeconds(features.interArrivalMeanSeconds())
+                .interArrivalVarianceSeconds(features.interArrivalVarianceSeconds())
+                .lastReservedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(features.lastSeenMillis()), zone))
+                .saturated(features.saturated())
+                .build();
+    }
+
+    private static void registerGauges(MeterRegistry meterRegistry, String type, FraudFeatureWindow window) {
+        Gauge.builder("fraud.features.keys", window, w -> {
+                    synchronized (w) {
+                        return w.size();
+                    }
+                })
+                .tag("type", type)
+                .register(meterRegistry);
+        Gauge.builder("fraud.features.evictions", window, w -> {
+                    synchronized (w) {
+                        return w.evictions();
+                    }
+                })
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * IP → long 키 (IPv4는 32비트 값 그대로, 그 외는 64비트 해시로 최상위 비트를 세워 IPv4와 겹치지 않게)
+     */
+    static long ipKey(String ip) {
+        long value = 0;
+        int octets = 0;
+        int current = -1;
+        for (int i = 0; i <= ip.length(); i++) {
+            char c = i < ip.length() ? ip.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                current = (current < 0 ? 0 : current * 10) + (c - '0');
+                if (current > 255) {
+                    return hashKey(ip);
+                }
+            } else if (c == '.' && current >= 0 && octets < 4) {
+                value = (value << 8) | current;
+                octets++;
+                current = -1;
+            } else {
+                return hashKey(ip);
+            }
+        }
+        return octets == 4 ? value : hashKey(ip);
+    }
+
+    static String ipString(long key) {
+        if (key >= 0 && key < IPV4_SPACE) {
+            return ((key >>> 24) & 0xFF) + "." + ((key >>> 16) & 0xFF) + "." + ((key >>> 8) & 0xFF) + "." + (key & 0xFF);
+        }
+        return "hash:" + Long.toHexString(key);
+    }
+
+    // FNV-1a 64비트
+    private static long hashKey(String ip) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < ip.length(); i++) {
+            hash ^= ip.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        long key = hash | Long.MIN_VALUE;
+        return key == Long.MIN_VALUE ? key + 1 : key;  // Long.MIN_VALUE는 빈 슬롯 표시
+    }
+}
@@ -0,0 +1,326 @@
+package com.ticketing.domain.recommendation.service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 키(사용자 ID / IP)별 최근 예약 슬라이딩 윈도우 (이상 탐지 실시간 피처)
+ *
+ * 키마다 최근 ringSize건의 (예약 시각, 티켓 ID)를 링 버퍼에 담고, 피처는 조회 시 윈도우 안의 항목으로 계산한다.
+ * 키 → 행 번호는 long 키 open addressing(선형 탐사) 맵, 행 데이터는 미리 할당한 primitive 배열이라
+ * 갱신은 해시 조회 + 배열 쓰기 몇 번 (객체 할당 없음), 메모리는 maxKeys x ringSize로 고정된다.
+ * 키가 가득 차면 몇 개 행을 표본으로 보고 가장 오래 조용한 키를 내보낸다 (근사 LRU).
+ *
+ * 스레드 안전하지 않음 (호출 측에서 동기화).
+ */
+public final class FraudFeatureWindow {
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final int EVICTION_SAMPLES = 8;
+
+    private final int maxKeys;
+    private final int ringSize;
+    private final long windowMillis;
+    private final int nightStartHour;
+    private final int nightEndHour;
+    private final ZoneRules zoneRules;
+
+    // 해시 인덱스: 키 → 행
+    private final long[] tableKeys;
+    private final int[] tableRows;
+
+    // 행 데이터 (행 r의 링은 [r * ringSize, (r + 1) * ringSize))
+    private final long[] rowKeys;
+    private final long[] times;
+    private final long[] ticketIds;
+    private final int[] heads;
+    private final int[] counts;
+    private final long[] lastSeen;
+
+    private final int[] freeRows;
+    private int freeCount;
+    private int size;
+    private int evictionCursor;
+    private long evictions;
+
+    public FraudFeatureWindow(int maxKeys, int ringSize, long windowMillis,
+                              int nightStartHour, int nightEndHour, ZoneId zone) {
+        this.maxKeys = Math.max(1, maxKeys);
+        this.ringSize = Math.max(2, ringSize);
+        this.windowMillis = windowMillis;
+        this.nightStartHour = nightStartHour;
+        this.nightEndHour = nightEndHour;
+        this.zoneRules = zone.getRules();
+
+        int tableSize = Integer.highestOneBit(Math.max(this.maxKeys, 8) * 2 - 1) << 1;
+        tableKeys = new long[tableSize];
+        tableRows = new int[tableSize];
+        Arrays.fill(tableKeys, EMPTY_KEY);
+
+        rowKeys = new long[this.maxKeys];
+        times = new long[this.maxKeys * this.ringSize];
+        ticketIds = new long[this.maxKeys * this.ringSize];
+        heads = new int[this.maxKeys];
+        counts = new int[this.maxKeys];
+        lastSeen = new long[this.maxKeys];
+
+        freeRows = new int[this.maxKeys];
+        for (int row = 0; row < this.maxKeys; row++) {
+            freeRows[row] = this.maxKeys - 1 - row;
+        }
+        freeCount = this.maxKeys;
+    }
+
+    /**
+     * 예약 1건 반영 (O(1))
+     */
+    public void record(long key, long ticketId, long timeMillis) {
+        int row = rowOf(key);
+        if (row < 0) {
+            row = allocate(key);
+        }
+
+        int offset = row * ringSize;
+        int head = heads[row];
+        times[offset + head] = timeMillis;
+        ticketIds[offset + head] = ticketId;
+        heads[row] = head + 1 == ringSize ? 0 : head + 1;
+        if (counts[row] < ringSize) {
+            counts[row]++;
+        }
+        if (timeMillis > lastSeen[row]) {
+            lastSeen[row] = timeMillis;
+        }
+    }
+
+    /**
+     * 키의 현재 피처 (윈도우 안에 예약이 없으면 null)
+     */
+    public Features features(long key, long nowMillis) {
+        int row = rowOf(key);
+        return row < 0 ? null : compute(row, nowMillis);
+    }
+
+    /**
+     * 최근 1분 예약 수 상위 키 (동률이면 윈도우 안 예약 수)
+     *
+     * 1분 안에 예약이 있는 키만 시각 비교로 순위를 매기고, 전체 피처는 상위 limit개만 계산한다.
+     */
+    public List<Features> top(int limit, long nowMillis) {
+        long minuteAgo = nowMillis - MINUTE_MILLIS;
+        long windowStart = nowMillis - windowMillis;
+        // (순위 점수 << 32 | 행)
+        long[] ranked = new long[Math.min(size, 1024)];
+        int candidates = 0;
+        for (int i = 0; i < tableKeys.length; i++) {
+            if (tableKeys[i] == EMPTY_KEY || lastSeen[tableRows[i]] < minuteAgo) {
+                continue;
+            }
+            int row = tableRows[i];
+            int offset = row * ringSize;
+            int lastMinute = 0;
+            int inWindow = 0;
+            for (int j = 0; j < counts[row]; j++) {
+                long time = times[offset + j];
+                if (time >= windowStart && time <= nowMillis) {
+                    inWindow++;
+                    if (time >= minuteAgo) {
+                        lastMinute++;
+                    }
+                }
+            }
+            if (lastMinute == 0) {
+                continue;
+            }
+            if (candidates == ranked.length) {
+                ranked = Arrays.copyOf(ranked, candidates * 2);
+            }
+            ranked[candidates++] = ((long) (lastMinute * (ringSize + 1) + inWindow) << 32) | row;
+        }
+
+        Arrays.sort(ranked, 0, candidates);
+        List<Features> result = new ArrayList<>(Math.min(limit, candidates));
+        for (int i = candidates - 1; i >= 0 && result.size() < limit; i--) {
+            Features features = compute((int) ranked[i], nowMillis);
+            if (features != null) {
+                result.add(features);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long memoryBytes() {
+        return (long) tableKeys.length * (Long.BYTES + Integer.BYTES)
+                + (long) maxKeys * (Long.BYTES * 2 + Integer.BYTES * 3)
+                + (long) maxKeys * ringSize * Long.BYTES * 2;
+    }
+
+    private Features compute(int row, long nowMillis) {
+        int count = counts[row];
+        int offset = row * ringSize;
+        long windowStart = nowMillis - windowMillis;
+        long minuteAgo = nowMillis - MINUTE_MILLIS;
+
+        long[] inWindow = new long[count];
+        long[] tickets = new long[count];
+        int n = 0;
+        int lastMinute = 0;
+        int night = 0;
+        for (int i = 0; i < count; i++) {
+            long time = times[offset + i];
+            if (time < windowStart || time > nowMillis) {
+                continue;
+            }
+            inWindow[n] = time;
+            tickets[n] = ticketIds[offset + i];
+            n++;
+            if (time >= minuteAgo) {
+                lastMinute++;
+            }
+            if (isNight(time)) {
+                night++;
+            }
+        }
+        if (n == 0) {
+            return null;
+        }
+
+        Arrays.sort(tickets, 0, n);
+        int distinctTickets = 1;
+        for (int i = 1; i < n; i++) {
+            if (tickets[i] != tickets[i - 1]) {
+                distinctTickets++;
+            }
+        }
+
+        // 예약 간격 (초) 평균/분산: 파티션 간 순서가 섞일 수 있어 시각 정렬 후 계산
+        double mean = 0.0;
+        double variance = 0.0;
+        if (n >= 2) {
+            Arrays.sort(inWindow, 0, n);
+            double sum = 0.0;
+            double sumSquares = 0.0;
+            for (int i = 1; i < n; i++) {
+                double gap = (inWindow[i] - inWindow[i - 1]) / 1000.0;
+                sum += gap;
+                sumSquares += gap * gap;
+            }
+            int gaps = n - 1;
+            mean = sum / gaps;
+            variance = Math.max(0.0, sumSquares / gaps - mean * mean);
+        }
+
+        return new Features(rowKeys[row], lastMinute, n, (double) night / n, distinctTickets,
+                mean, variance, lastSeen[row], n == ringSize);
+    }
+
+    private boolean isNight(long timeMillis) {
+        long offsetMillis = zoneRules.getOffset(Instant.ofEpochMilli(timeMillis)).getTotalSeconds() * 1000L;
+        int hour = (int) (Math.floorMod(timeMillis + offsetMillis, 24 * HOUR_MILLIS) / HOUR_MILLIS);
+        return nightStartHour <= nightEndHour
+                ? hour >= nightStartHour && hour < nightEndHour
+                : hour >= nightStartHour || hour < nightEndHour;
+    }
+
+    private int rowOf(long key) {
+        int mask = tableKeys.length - 1;
+        for (int i = mix(key) & mask; tableKeys[i] != EMPTY_KEY; i = (i + 1) & mask) {
+            if (tableKeys[i] == key) {
+                return tableRows[i];
+            }
+        }
+        return -1;
+    }
+
+    private int allocate(long key) {
+        if (freeCount == 0) {
+            evictOne();
+        }
+        int row = freeRows[--freeCount];
+        rowKeys[row] = key;
+        heads[row] = 0;
+        counts[row] = 0;
+        lastSeen[row] = Long.MIN_VALUE;
+
+        int mask = tableKeys.length - 1;
+        int i = mix(key) & mask;
+        while (tableKeys[i] != EMPTY_KEY) {
+            i = (i + 1) & mask;
+        }
+        tableKeys[i] = key;
+        tableRows[i] = row;
+        size++;
+        return row;
+    }
+
+    // 행 몇 개를 표본으로 보고 마지막 예약이 가장 오래된 키 제거
+    private void evictOne() {
+        int victim = -1;
+        for (int i = 0; i < EVICTION_SAMPLES; i++) {
+            int row = evictionCursor;
+            evictionCursor = evictionCursor + 1 == maxKeys ? 0 : evictionCursor + 1;
+            if (victim < 0 || lastSeen[row] < lastSeen[victim]) {
+                victim = row;
+            }
+        }
+        remove(rowKeys[victim]);
+        evictions++;
+    }
+
+    // 선형 탐사 삭제: 뒤 항목을 당겨 탐사 체인이 끊기지 않게 함
+    private void remove(long key) {
+        int mask = tableKeys.length - 1;
+        int i = mix(key) & mask;
+        while (tableKeys[i] != key) {
+            if (tableKeys[i] == EMPTY_KEY) {
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        freeRows[freeCount++] = tableRows[i];
+        size--;
+
+        int hole = i;
+        for (int j = (hole + 1) & mask; tableKeys[j] != EMPTY_KEY; j = (j + 1) & mask) {
+            int home = mix(tableKeys[j]) & mask;
+            // home이 (hole, j] 밖이면 hole로 당길 수 있음
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                tableKeys[hole] = tableKeys[j];
+                tableRows[hole] = tableRows[j];
+                hole = j;
+            }
+        }
+        tableKeys[hole] = EMPTY_KEY;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 윈도우 피처
+     *
+     * @param reservationsLastMinute 최근 1분 예약 수 (링 크기에서 포화)
+     * @param nightRatio             윈도우 안 예약 중 야간 시간대 비율
+     * @param saturated              링 전체가 윈도우 안 (실제 예약은 더 많을 수 있음)
+     */
+    public record Features(long key, int reservationsLastMinute, int reservationsInWindow, double nightRatio,
+                           int distinctTickets, double interArrivalMeanSeconds,
+                           double interArrivalVarianceSeconds, long lastSeenMillis, boolean saturated) {
+    }
+}
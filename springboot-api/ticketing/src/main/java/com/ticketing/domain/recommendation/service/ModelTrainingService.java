@@ -0,0 +1,204 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.domain.recommendation.dto.TrainingJobResponse;
+import com.ticketing.global.client.FastApiClient;
+import com.ticketing.global.enums.TrainingJobStatus;
+import com.ticketing.global.snowflake.Snowflake;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 추천 모델 학습 작업
+ *
+ * 학습 요청은 FastAPI 호출을 시작만 하고 작업 ID를 바로 반환한다 (요청 스레드가 학습 시간 동안 묶이지 않음).
+ * 작업 상태는 Redis 해시에 저장해 어느 노드에서든 조회할 수 있고, 동시에 하나의 학습만 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModelTrainingService {
+
+    private static final String JOB_KEY_PREFIX = "recommendation:training:job:";
+    private static final String ACTIVE_KEY = "recommendation:training:active";
+    private static final Duration JOB_TTL = Duration.ofDays(1);
+
+    // 작업 노드가 중단돼 RUNNING으로 남은 작업을 실패로 보는 여유 시간
+    private static final Duration LOST_JOB_GRACE = Duration.ofMinutes(1);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final FastApiClient fastApiClient;
+    private final RecommendationService recommendationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ThreadPoolTaskExecutor recommendationExecutor;
+    private final ObjectMapper objectMapper;
+    private final Snowflake snowflake;
+
+    @Value("${fastapi.timeout.train-minutes:5}")
+    private long trainTimeoutMinutes;
+
+    /**
+     * 학습 시작 (이미 진행 중인 학습이 있으면 그 작업을 반환)
+     */
+    public TrainingJobResponse startTraining(boolean forceRetrain) {
+
+        long jobId = snowflake.nextId();
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(ACTIVE_KEY, String.valueOf(jobId), activeTtl());
+        if (!Boolean.TRUE.equals(acquired)) {
+            String activeJobId = redisTemplate.opsForValue().get(ACTIVE_KEY);
+            TrainingJobResponse active = activeJobId != null ? getJob(Long.parseLong(activeJobId)) : null;
+            if (active != null) {
+                log.info("Model training already running: jobId={}", activeJobId);
+                return active;
+            }
+            // 락 키만 남은 경우 (작업 해시 만료 등) 새 작업으로 덮어씀
+            redisTemplate.opsForValue().set(ACTIVE_KEY, String.valueOf(jobId), activeTtl());
+        }
+
+        TrainingJobResponse job = TrainingJobResponse.builder()
+                .jobId(jobId)
+                .status(TrainingJobStatus.RUNNING)
+                .forceRetrain(forceRetrain)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        save(job);
+        log.info("Model training started: jobId={}, forceRetrain={}", jobId, forceRetrain);
+
+        fastApiClient.trainModel(forceRetrain)
+                .whenComplete((result, error) -> finishAsync(job, result, error));
+        return job;
+    }
+
+    /**
+     * 작업 조회 (없으면 null)
+     */
+    public TrainingJobResponse getJob(Long jobId) {
+
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(JOB_KEY_PREFIX + jobId);
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        TrainingJobResponse job = TrainingJobResponse.builder()
+                .jobId(jobId)
+                .status(TrainingJobStatus.valueOf((String) fields.get("status")))
+                .forceRetrain(Boolean.valueOf((String) fields.get("forceRetrain")))
+                .requestedAt(parseTime(fields.get("requestedAt")))
+                .finishedAt(parseTime(fields.get("finishedAt")))
+                .result(parseResult(fields.get("result")))
+                .error((String) fields.get("error"))
+                .build();
+
+        // 학습 노드가 완료를 기록하지 못하고 중단된 경우
+        if (job.getStatus() == TrainingJobStatus.RUNNING && job.getRequestedAt() != null
+                && job.getRequestedAt().plus(activeTtl()).isBefore(LocalDateTime.now())) {
+            return job.toBuilder()
+                    .status(TrainingJobStatus.FAILED)
+                    .error("학습 작업이 제한 시간 안에 완료되지 않았습니다")
+                    .build();
+        }
+        return job;
+    }
+
+    /**
+     * 완료 처리는 Redis 쓰기가 있으므로 이벤트 루프가 아닌 executor에서
+     * executor가 가득 차 거절되면 공용 풀에서 (결과 기록과 락 해제는 빠뜨리면 안 됨)
+     */
+    private void finishAsync(TrainingJobResponse job, Map<String, Object> result, Throwable error) {
+        try {
+            recommendationExecutor.execute(() -> finish(job, result, error));
+        } catch (RejectedExecutionException e) {
+            CompletableFuture.runAsync(() -> finish(job, result, error));
+        }
+    }
+
+    private void finish(TrainingJobResponse job, Map<String, Object> result, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        TrainingJobResponse finished = job.toBuilder()
+                .status(cause == null ? TrainingJobStatus.SUCCEEDED : TrainingJobStatus.FAILED)
+                .finishedAt(LocalDateTime.now())
+                .result(result)
+                .error(cause != null ? "모델 학습 실패: " + cause.getMessage() : null)
+                .build();
+
+        try {
+            save(finished);
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(ACTIVE_KEY), String.valueOf(job.getJobId()));
+            if (cause == null) {
+                // 새 모델 기준으로 다시 계산되도록 기존 추천 캐시를 한 번에 무효화
+                recommendationService.invalidateAll();
+            }
+            log.info("Model training finished: jobId={}, status={}", job.getJobId(), finished.getStatus());
+        } catch (Exception e) {
+            log.error("Failed to record model training result: jobId={}", job.getJobId(), e);
+        }
+    }
+
+    private void save(TrainingJobResponse job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", job.getStatus().name());
+        fields.put("forceRetrain", String.valueOf(job.getForceRetrain()));
+        fields.put("requestedAt", job.getRequestedAt().toString());
+        if (job.getFinishedAt() != null) {
+            fields.put("finishedAt", job.getFinishedAt().toString());
+        }
+        if (job.getResult() != null) {
+            try {
+                fields.put("result", objectMapper.writeValueAsString(job.getResult()));
+            } catch (Exception e) {
+                log.warn("Failed to serialize training result: jobId={}", job.getJobId());
+            }
+        }
+        if (job.getError() != null) {
+            fields.put("error", job.getError());
+        }
+
+        String key = JOB_KEY_PREFIX + job.getJobId();
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, JOB_TTL);
+    }
+
+    private Duration activeTtl() {
+        return Duration.ofMinutes(trainTimeoutMinutes).plus(LOST_JOB_GRACE);
+    }
+
+    private static LocalDateTime parseTime(Object value) {
+        return value != null ? LocalDateTime.parse((String) value) : null;
+    }
+
+    private Map<String, Object> parseResult(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue((String) value, MAP_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.ticketing.domain.recommendation.service;
+
+import com.ticketing.domain.recommendation.dto.RecommendationRequest;
+import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.reservation.repository.ReservationRepository;
+import com.ticketing.global.client.FastApiClient;
+import com.ticketing.global.snowflake.Snowflake;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 활성 사용자 추천 사전 계산
+ *
+ * 최근 active-window-hours 안에 예약한 사용자를 예약 ID 역순 keyset으로 골라 (최근 사용자 우선)
+ * FastAPI 배치 엔드포인트로 batch-size명씩, 최대 parallelism개 배치를 동시에 요청한다.
+ * 결과는 배치마다 Redis 파이프라인 한 번으로 캐시에 쓴다.
+ * 여러 노드 중 Redis 락을 잡은 한 노드만 실행하고, 배치마다 추천 서킷이 열려 있는지 확인해 열리면 중단한다.
+ * 서킷이 닫혀 있어도 max-consecutive-failures번 연속 배치가 실패하면 남은 배치는 보내지 않는다.
+ */
+@Slf4j
+@Service
+public class RecommendationPrecomputeService {
+
+    private static final String LOCK_KEY = "recommendation:precompute:lock";
+    private static final String CIRCUIT_BREAKER_NAME = "recommendationService";
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private final ReservationRepository reservationRepository;
+    private final FastApiClient fastApiClient;
+    private final RecommendationService recommendationService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ThreadPoolTaskExecutor recommendationExecutor;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스케줄러 스레드를 막지 않도록 별도 스레드에서 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "recommendation-precompute");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PrecomputeResult> lastResult = new AtomicReference<>();
+
+    @Value("${recommendation.precompute.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recommendation.precompute.active-window-hours:24}")
+    private long activeWindowHours;
+
+    @Value("${recommendation.precompute.max-users:50000}")
+    private int maxUsers;
+
+    @Value("${recommendation.precompute.scan-batch-size:5000}")
+    private int scanBatchSize;
+
+    @Value("${recommendation.precompute.batch-size:64}")
+    private int batchSize;
+
+    @Value("${recommendation.precompute.parallelism:4}")
+    private int parallelism;
+
+    @Value("${recommendation.precompute.limit:20}")
+    private int limit;
+
+    @Value("${recommendation.precompute.interval-ms:900000}")
+    private long intervalMillis;
+
+    @Value("${recommendation.precompute.max-consecutive-failures:3}")
+    private int maxConsecutiveFailures;
+
+    public RecommendationPrecomputeService(ReservationRepository reservationRepository,
+                                           FastApiClient fastApiClient,
+                                           RecommendationService recommendationService,
+                                           RedisTemplate<String, String> redisTemplate,
+                                           ThreadPoolTaskExecutor recommendationExecutor,
+                                           CircuitBreakerRegistry circuitBreakerRegistry,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry) {
+        this.reservationRepository = reservationRepository;
+        this.fastApiClient = fastApiClient;
+        this.recommendationService = recommendationService;
+        this.redisTemplate = redisTemplate;
+        this.recommendationExecutor = recommendationExecutor;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        Gauge.builder("recommendation.precompute.users.per.second", lastResult,
+                        result -> result.get() != null ? result.get().usersPerSecond() : 0.0)
+                .register(meterRegistry);
+        Gauge.builder("recommendation.precompute.users", lastResult,
+                        result -> result.get() != null ? result.get().cached() : 0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${recommendation.precompute.interval-ms:900000}",
+            initialDelayString = "${recommendation.precompute.initial-delay-ms:60000}")
+    public void schedulePrecompute() {
+        if (enabled) {
+            executor.execute(this::precomputeWithLock);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public PrecomputeResult getLastResult() {
+        return lastResult.get();
+    }
+
+    private void precomputeWithLock() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        if (isOpen(circuitBreaker)) {
+            log.info("Recommendation precompute skipped: circuit breaker {}", circuitBreaker.getState());
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMillis(intervalMillis));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Recommendation precompute running on another node");
+            return;
+        }
+
+        try {
+            PrecomputeResult result = precompute(circuitBreaker);
+            lastResult.set(result);
+            log.info("Recommendation precompute finished: users={}, cached={}, failedBatches={}, elapsedMs={}, usersPerSec={}",
+                    result.users(), result.cached(), result.failedBatches(), result.elapsedMillis(),
+                    String.format("%.1f", result.usersPerSecond()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Recommendation precompute failed", e);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    private PrecomputeResult precompute(CircuitBreaker circuitBreaker) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+        List<Long> userIds = findActiveUsers(startedAt);
+
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        AtomicInteger cached = new AtomicInteger();
+        AtomicInteger failedBatches = new AtomicInteger();
+        // 성공한 배치가 오면 0으로 되돌림
+        AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<RecommendationRequest> requests = new ArrayList<>(batchSize);
+            for (Long userId : userIds.subList(from, Math.min(from + batchSize, userIds.size()))) {
+                requests.add(RecommendationRequest.builder().userId(userId).limit(limit).build());
+            }
+
+            permits.acquire();
+            // 앞선 배치 결과를 본 뒤 다음 배치를 보낼지 결정
+            if (isOpen(circuitBreaker) || consecutiveFailures.get() >= maxConsecutiveFailures) {
+                permits.release();
+                log.warn("Recommendation precompute aborted: circuitBreaker={}, consecutiveFailures={}, remainingUsers={}",
+                        circuitBreaker.getState(), consecutiveFailures.get(), userIds.size() - from);
+                break;
+            }
+            long batchStartedAt = System.currentTimeMillis();
+            // 보강(DB)과 캐시 저장(Redis)은 이벤트 루프가 아닌 executor에서
+            fastApiClient.getBatchRecommendations(requests)
+                    .thenAcceptAsync(responses -> {
+                        List<RecommendationResponse> filled = responses.stream()
+                                // 배치 안에서 실패한 사용자는 캐시하지 않음 (요청 시 다시 계산)
+                                .filter(response -> response.getUserId() != null && response.getError() == null)
+                                .toList();
+                        recommendationService.cacheAll(filled, limit, System.currentTimeMillis() - batchStartedAt);
+                        cached.addAndGet(filled.size());
+                    }, recommendationExecutor)
+                    .whenComplete((ignored, error) -> {
+                        if (error == null) {
+                            consecutiveFailures.set(0);
+                        } else {
+                            failedBatches.incrementAndGet();
+                            consecutiveFailures.incrementAndGet();
+                            log.warn("Recommendation precompute batch failed: users={}, cause={}",
+                                    requests.size(), error.toString());
+                        }
+                        permits.release();
+                    });
+        }
+
+        // 마지막 배치들까지 완료 대기
+        int total = Math.max(1, parallelism);
+        if (!permits.tryAcquire(total, intervalMillis, TimeUnit.MILLISECONDS)) {
+            log.warn("Recommendation precompute did not finish within {}ms", intervalMillis);
+        }
+
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        return new PrecomputeResult(userIds.size(), cached.get(), failedBatches.get(), elapsedMillis,
+                elapsedMillis > 0 ? cached.get() * 1000.0 / elapsedMillis : 0.0);
+    }
+
+    private static boolean isOpen(CircuitBreaker circuitBreaker) {
+        CircuitBreaker.State state = circuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+
+    /**
+     * 최근 예약한 사용자 (중복 제거, 최근 예약 순, 최대 maxUsers명)
+     */
+    private List<Long> findActiveUsers(long now) {
+        long minId = Snowflake.minIdAt(now - Duration.ofHours(activeWindowHours).toMillis());
+        Set<Long> userIds = new LinkedHashSet<>();
+        long beforeId = Long.MAX_VALUE;
+
+        while (userIds.size() < maxUsers) {
+            long before = beforeId;
+            List<Object[]> rows = transactionTemplate.execute(status ->
+                    reservationRepository.findRecentUserIdsBefore(before, minId, PageRequest.of(0, scanBatchSize)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            for (Object[] row : rows) {
+                userIds.add(((Number) row[1]).longValue());
+                if (userIds.size() == maxUsers) {
+                    break;
+                }
+            }
+            beforeId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+            if (rows.size() < scanBatchSize) {
+                break;
+            }
+        }
+        return new ArrayList<>(userIds);
+    }
+
+    public record PrecomputeResult(int users, int cached, int failedBatches, long elapsedMillis,
+                                   double usersPerSecond) {
+    }
+}
@@ -1,28 +1,49 @@
 package com.ticketing.domain.recommendation.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ticketing.domain.event.dto.EventResponse;
 import com.ticketing.domain.event.entity.Event;
 import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.event.service.EventCatalog;
+import com.ticketing.domain.recommendation.dto.CachedRecommendations;
 import com.ticketing.domain.recommendation.dto.RecommendationResponse;
 import com.ticketing.domain.recommendation.entity.EventRecommendation;
-import com.ticketing.domain.reservation.entity.Reservation;
 import com.ticketing.domain.reservation.repository.ReservationRepository;
+import com.ticketing.global.cache.CacheEnvelope;
+import com.ticketing.global.cache.StampedeProtector;
 import com.ticketing.global.client.FastApiClient;
+import com.ticketing.global.codec.BinaryCacheSerializer;
 import com.ticketing.global.dto.ApiResponse;
+import com.ticketing.global.enums.RecommendationReason;
+import com.ticketing.global.service.CacheService;
+import com.ticketing.global.snowflake.Snowflake;
+import com.ticketing.global.util.RedisKeyUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,144 +55,388 @@ public class RecommendationService {
     private final EventRepository eventRepository;
     private final ReservationRepository reservationRepository;
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final BinaryCacheSerializer cacheSerializer;
+    private final StampedeProtector stampedeProtector;
+    private final EventPopularityService eventPopularityService;
+    private final ThreadPoolTaskExecutor recommendationExecutor;
+    private final CoOccurrenceRecommender coOccurrenceRecommender;
+    private final EventCatalog eventCatalog;
+    private final CacheService cacheService;
 
-    private static final String CACHE_KEY_PREFIX = "recommendation:user:";
+    // 캐시 키는 네임스페이스 버전 포함 (cache:recommendations:v{n}:user:{userId}), 모델 재학습 시 버전만 올림
+    private static final String CACHE_NAME = "recommendations";
     private static final Duration CACHE_TTL = Duration.ofMinutes(30);
+    private static final int DEFAULT_LIMIT = 10;
+    // FastAPI 추천 개수 상한
+    private static final int MAX_FETCH_LIMIT = 50;
+
+    // 표식 값(예약 ID)이 갱신 시작 때 본 값과 같을 때만 삭제 (갱신 중 들어온 새 예약 표식은 유지)
+    private static final RedisScript<Long> CLEAR_STALE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    // 사전 계산 시작 전에 찍힌 표식(예약 ID < ARGV[1])만 삭제 (double 비교라 1ms 미만 오차는 무시)
+    private static final RedisScript<Long> CLEAR_STALE_BEFORE_SCRIPT = new DefaultRedisScript<>(
+            "local cleared = 0 " +
+                    "for _, key in ipairs(KEYS) do " +
+                    "local marker = redis.call('get', key) " +
+                    "if marker and tonumber(marker) < tonumber(ARGV[1]) then " +
+                    "redis.call('del', key) cleared = cleared + 1 end " +
+                    "end " +
+                    "return cleared",
+            Long.class);
+
+    @Value("${recommendation.fallback.cache-ttl-seconds:60}")
+    private long fallbackCacheTtlSeconds;
+
+    // 작은 limit 요청도 이만큼 받아 두어 이후 더 큰 limit 요청을 같은 캐시로 처리
+    @Value("${recommendation.cache.min-fetch-limit:20}")
+    private int minFetchLimit;
 
     /**
-     * 사용자에게 이벤트 추천
-     * Redis 캐싱 적용
+     * 사용자에게 이벤트 추천 (비동기)
+     * Redis 캐싱 적용 (미스 시 사용자별 로더 하나만 실행, 만료 전 확률적 조기 갱신)
+     * 예약으로 stale 표식이 붙은 캐시는 그대로 반환하고 백그라운드에서 한 번 갱신 (stale-while-revalidate)
+     * 캐시에는 (eventId, score, reason code)만 두고 제목은 응답 시 인메모리 카탈로그에서 채운다
+     * FastAPI 응답을 기다리는 동안 요청 스레드를 잡지 않는다
      */
-    @Transactional(readOnly = true)
-    public RecommendationResponse getRecommendations(Long userId, Integer limit) {
+    public CompletableFuture<RecommendationResponse> getRecommendations(Long userId, Integer limit) {
+
+        int requested = Math.min(limit != null && limit > 0 ? limit : DEFAULT_LIMIT, MAX_FETCH_LIMIT);
 
-        // 1. 캐시 확인
-        String cacheKey = CACHE_KEY_PREFIX + userId;
-        String cachedData = redisTemplate.opsForValue().get(cacheKey);
+        // 1. 캐시 + stale 표식 확인 (파이프라인 왕복 한 번)
+        String cacheKey = cacheKey(userId);
+        CachedRead cached = readCache(cacheKey, RedisKeyUtil.userRecommendationStaleKey(userId));
 
-        if (cachedData != null) {
-            try {
-                return objectMapper.readValue(cachedData, RecommendationResponse.class);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse cached data: {}", e.getMessage());
+        // 캐시된 개수로 이번 limit을 채울 수 있을 때만 히트
+        if (cached.envelope() != null && cached.envelope().getValue().covers(requested)) {
+            CacheEnvelope<CachedRecommendations> envelope = cached.envelope();
+            if (cached.staleMarker() != null
+                    || stampedeProtector.shouldRefreshEarly(envelope.getDeltaMillis(), envelope.getExpiresAtMillis())) {
+                // 갱신은 백그라운드로 (이번 응답은 기존 값)
+                int fetchLimit = Math.max(envelope.getValue().getFetchLimit(), fetchLimit(requested));
+                load(userId, fetchLimit, cacheKey, cached.staleMarker(), envelope.getValue());
             }
+            return CompletableFuture.completedFuture(toResponse(userId, envelope.getValue(), requested));
         }
 
-        // 2. FastAPI에서 추천 받기
-        RecommendationResponse response = fastApiClient.getRecommendations(userId, limit);
-
-        // 3. 추천된 이벤트 정보 보강 (DB에서 최신 정보)
-        enrichRecommendations(response);
+        // 2. 캐시 미스: 같은 사용자는 노드당 한 번만 FastAPI 호출
+        // (개수가 모자란 기존 항목은 FastAPI 실패 시 덮어쓰지 않도록 함께 넘김)
+        CachedRecommendations existing = cached.envelope() != null ? cached.envelope().getValue() : null;
+        return load(userId, fetchLimit(requested), cacheKey, cached.staleMarker(), existing)
+                .thenApply(recommendations -> toResponse(userId, recommendations, requested))
+                .exceptionally(error -> rejectedFallback(userId, requested, error));
+    }
 
-        // 4. 캐시 저장
-        try {
-            String jsonData = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(cacheKey, jsonData, CACHE_TTL);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to cache recommendations: {}", e.getMessage());
+    /**
+     * recommendationExecutor가 가득 차 후처리가 거절된 경우의 응답 (그 외 실패는 그대로 전파)
+     * 이벤트 루프에서 실행될 수 있으므로 메모리 대체 추천(동시 예약 모델)만 쓰고 캐시에는 저장하지 않는다.
+     */
+    private RecommendationResponse rejectedFallback(Long userId, int limit, Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (!(cause instanceof RejectedExecutionException)) {
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
         }
 
-        return response;
+        log.warn("Recommendation executor saturated, serving in-memory fallback: userId={}", userId);
+        return RecommendationResponse.builder()
+                .userId(userId)
+                .recommendations(coOccurrenceRecommender.recommend(userId, limit))
+                .generatedAt(LocalDateTime.now())
+                .build();
     }
 
     /**
-     * 추천 이벤트 정보 보강
+     * 사용자 추천 캐시 전체 무효화 (네임스페이스 버전 INCR 한 번, 이전 항목은 TTL로 정리)
      */
-    private void enrichRecommendations(RecommendationResponse response) {
-        if (response.getRecommendations() == null || response.getRecommendations().isEmpty()) {
+    public void invalidateAll() {
+        cacheService.invalidateNamespace(CACHE_NAME);
+    }
+
+    /**
+     * 예약 생성/취소 시 추천 캐시에 stale 표식 (Kafka 컨슈머, 예약 트랜잭션과 분리)
+     * 캐시는 지우지 않으므로 다음 조회도 바로 응답하고 갱신은 백그라운드에서 한다.
+     */
+    @KafkaListener(topics = "reservation-events", groupId = "${recommendation.staleness.consumer-group:ticketing-recommendation}")
+    public void onReservationEvent(Map<String, Object> event) {
+        Object eventType = event.get("eventType");
+        if (!"CREATED".equals(eventType) && !"CANCELLED".equals(eventType)) {
+            return;
+        }
+        if (!(event.get("userId") instanceof Number userId)
+                || !(event.get("reservationId") instanceof Number reservationId)) {
+            log.warn("Reservation event without userId/reservationId: {}", event);
             return;
         }
+        markStale(userId.longValue(), reservationId.longValue());
+    }
 
-        List<Long> eventIds = response.getRecommendations().stream()
-                .map(EventRecommendation::getEventId)
-                .collect(Collectors.toList());
+    /**
+     * stale 표식 (캐시 TTL 동안 유지, 그보다 오래된 캐시는 어차피 만료됨)
+     */
+    public void markStale(Long userId, Long reservationId) {
+        redisTemplate.opsForValue().set(RedisKeyUtil.userRecommendationStaleKey(userId),
+                String.valueOf(reservationId), CACHE_TTL);
+    }
 
-        List<Event> events = eventRepository.findAllById(eventIds);
-        Map<Long, Event> eventMap = events.stream()
-                .collect(Collectors.toMap(Event::getId, e -> e));
+    /**
+     * 사용자별 로드는 노드당 하나 (개수별로 나누면 작은 로드가 큰 로드 결과를 덮어쓸 수 있음)
+     * 더 작은 개수를 로드 중이던 요청에 합류했다면 그 로드가 저장을 마친 뒤 필요한 개수로 한 번 더 로드한다.
+     */
+    private CompletableFuture<CachedRecommendations> load(Long userId, int fetchLimit, String cacheKey,
+                                                         String staleMarker, CachedRecommendations existing) {
+        return stampedeProtector.loadAsync(CACHE_NAME, cacheKey,
+                        () -> loadRecommendations(userId, fetchLimit, cacheKey, staleMarker, existing))
+                .thenCompose(loaded -> loaded.covers(fetchLimit)
+                        ? CompletableFuture.completedFuture(loaded)
+                        : stampedeProtector.loadAsync(CACHE_NAME, cacheKey,
+                                () -> loadRecommendations(userId, fetchLimit, cacheKey, staleMarker, loaded)));
+    }
+
+    /**
+     * FastAPI 추천을 압축 항목으로 캐시 저장 (이벤트 정보 보강은 응답 시)
+     * 캐시 저장(Redis)은 블로킹이므로 Netty 이벤트 루프가 아닌 recommendationExecutor에서 실행
+     * FastAPI 실패(서킷 열림/타임아웃/동시 호출 초과 포함) 시 캐시가 비어 있을 때만 로컬 대체 추천을 짧은 TTL로 캐시
+     * (기존 항목이 있으면 그대로 두고 stale 표식도 남겨 다음 조회 때 다시 갱신)
+     * 저장 후 시작 시점에 본 stale 표식을 지운다
+     */
+    private CompletableFuture<CachedRecommendations> loadRecommendations(Long userId, int fetchLimit, String cacheKey,
+                                                                         String staleMarker,
+                                                                         CachedRecommendations existing) {
+        long startedAt = System.currentTimeMillis();
+
+        return fastApiClient.getRecommendations(userId, fetchLimit)
+                .handleAsync((response, error) -> {
+                    Duration ttl = CACHE_TTL;
+                    CachedRecommendations recommendations;
+                    if (error == null) {
+                        recommendations = CachedRecommendations.of(response.getRecommendations(), fetchLimit);
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        if (existing != null) {
+                            // 갱신 실패: 기존 항목을 짧은 TTL 대체 추천으로 덮어쓰지 않음
+                            log.warn("FastAPI recommendation unavailable, keeping cached entry: userId={}, cause={}",
+                                    userId, cause.toString());
+                            return existing.covers(fetchLimit) ? existing
+                                    : CachedRecommendations.of(fallbackRecommendations(userId, fetchLimit), fetchLimit);
+                        }
+                        log.warn("FastAPI recommendation unavailable, using fallback: userId={}, cause={}",
+                                userId, cause.toString());
+                        recommendations = CachedRecommendations.of(fallbackRecommendations(userId, fetchLimit), fetchLimit);
+                        ttl = Duration.ofSeconds(fallbackCacheTtlSeconds);
+                    }
+
+                    // 캐시 저장 (계산 시간과 만료 시각을 함께 저장해 조기 갱신에 사용)
+                    long deltaMillis = System.currentTimeMillis() - startedAt;
+                    CacheEnvelope<CachedRecommendations> envelope = new CacheEnvelope<>(
+                            recommendations, deltaMillis, System.currentTimeMillis() + ttl.toMillis());
+                    try {
+                        binaryRedisTemplate.opsForValue().set(cacheKey, cacheSerializer.serialize(envelope), ttl);
+                        if (staleMarker != null) {
+                            redisTemplate.execute(CLEAR_STALE_SCRIPT,
+                                    List.of(RedisKeyUtil.userRecommendationStaleKey(userId)), staleMarker);
+                        }
+                    } catch (Exception e) {
+                        log.warn("Failed to cache recommendations: {}", e.getMessage());
+                    }
+
+                    return recommendations;
+                }, recommendationExecutor);
+    }
+
+    /**
+     * 캐시 항목 -> 응답 (앞에서부터 limit개, 제목은 카탈로그에서)
+     */
+    private RecommendationResponse toResponse(Long userId, CachedRecommendations cached, int limit) {
+        int size = Math.min(limit, cached.size());
+        long[] eventIds = Arrays.copyOf(cached.getEventIds(), size);
+        Map<Long, String> titles = eventTitles(eventIds);
 
-        // 이벤트 정보 업데이트
-        response.getRecommendations().forEach(rec -> {
-            Event event = eventMap.get(rec.getEventId());
-            if (event != null) {
-                rec.setTitle(event.getTitle());
+        List<EventRecommendation> recommendations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            recommendations.add(EventRecommendation.builder()
+                    .eventId(eventIds[i])
+                    .title(titles.get(eventIds[i]))
+                    .score((double) cached.getScores()[i])
+                    .reason(RecommendationReason.of(cached.getReasonCodes()[i]).getMessage())
+                    .build());
+        }
+
+        return RecommendationResponse.builder()
+                .userId(userId)
+                .recommendations(recommendations)
+                .generatedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(cached.getGeneratedAtMillis()), ZoneId.systemDefault()))
+                .build();
+    }
+
+    /**
+     * 이벤트 제목 (카탈로그 적재 전에만 DB 조회)
+     */
+    private Map<Long, String> eventTitles(long[] eventIds) {
+        if (eventIds.length == 0) {
+            return Map.of();
+        }
+
+        Map<Long, String> titles = new HashMap<>(eventIds.length * 2);
+        if (eventCatalog.isReady()) {
+            long[] sorted = eventIds.clone();
+            Arrays.sort(sorted);
+            for (EventResponse event : eventCatalog.snapshot().findAll(sorted)) {
+                titles.put(event.getId(), event.getTitle());
             }
-        });
+            return titles;
+        }
+
+        List<Long> ids = Arrays.stream(eventIds).boxed().toList();
+        for (Event event : eventRepository.findAllById(ids)) {
+            titles.put(event.getId(), event.getTitle());
+        }
+        return titles;
     }
 
     /**
-     * 인기 이벤트 추천 (Fallback)
+     * 대체 추천 (동시 예약 모델 -> 인기 이벤트 -> 빈 추천 순)
      */
-    @Transactional(readOnly = true)
-    public List<EventRecommendation> getPopularEvents(int limit) {
+    private List<EventRecommendation> fallbackRecommendations(Long userId, int limit) {
+        List<EventRecommendation> recommendations = coOccurrenceRecommender.recommend(userId, limit);
+        if (!recommendations.isEmpty()) {
+            return recommendations;
+        }
+        try {
+            return eventPopularityService.getPopularEvents(limit);
+        } catch (Exception e) {
+            log.warn("Popular events fallback failed: {}", e.getMessage());
+            return List.of();
+        }
+    }
 
-        // 최근 예약이 많은 이벤트 조회
-        List<Event> popularEvents = eventRepository.findAll().stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+    /**
+     * 캐시와 stale 표식을 한 번에 조회 (캐시가 없거나 형식이 다르면 envelope null)
+     */
+    @SuppressWarnings("unchecked")
+    private CachedRead readCache(String cacheKey, String staleKey) {
+        List<Object> values = binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                ops.opsForValue().get(cacheKey);
+                ops.opsForValue().get(staleKey);
+                return null;
+            }
+        });
 
-        return popularEvents.stream()
-                .map(event -> EventRecommendation.builder()
-                        .eventId(event.getId())
-                        .title(event.getTitle())
-                        .score(0.5)  // 기본 점수
-                        .reason("인기 이벤트")
-                        .build())
-                .collect(Collectors.toList());
+        String staleMarker = values.get(1) instanceof byte[] marker ? new String(marker, StandardCharsets.UTF_8) : null;
+        if (!(values.get(0) instanceof byte[] cachedData)) {
+            return new CachedRead(null, staleMarker);
+        }
+
+        try {
+            Object cached = cacheSerializer.deserialize(cachedData);
+            // 이전 형식(RecommendationResponse 전체)은 미스로 처리
+            if (cached instanceof CacheEnvelope<?> envelope && envelope.getValue() instanceof CachedRecommendations) {
+                return new CachedRead((CacheEnvelope<CachedRecommendations>) envelope, staleMarker);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to parse cached data: {}", e.getMessage());
+        }
+        return new CachedRead(null, staleMarker);
     }
 
     /**
-     * FastAPI Anomaly Detection용 예약 데이터 조회
+     * 사전 계산된 추천을 파이프라인으로 한 번에 캐시 저장 (DB 조회 없음)
+     * 이어서 계산 시작 전에 붙은 stale 표식을 지운다 (계산 중 들어온 예약의 표식은 남겨 다음 조회 때 갱신)
      */
-    @Transactional(readOnly = true)
-    public List<Map<String, Object>> getReservationsForAnomalyDetection(int limit) {
+    public void cacheAll(List<RecommendationResponse> responses, int fetchLimit, long deltaMillis) {
+        if (responses.isEmpty()) {
+            return;
+        }
 
-        List<Reservation> reservations = reservationRepository.findAll(
-                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"))
-        ).getContent();
-
-        return reservations.stream()
-                .map(r -> {
-                    Map<String, Object> data = new HashMap<>();
-                    data.put("user_id", r.getUser().getId());
-                    data.put("event_id", r.getTicket().getEvent().getId());
-                    data.put("ticket_id", r.getTicket().getId());
-                    data.put("price", r.getTicket().getPrice());
-                    data.put("purchase_time", r.getCreatedAt());
-                    data.put("ip_address", "192.168.1." + new Random().nextInt(255));
-                    data.put("user_agent", "Mozilla/5.0");
-                    return data;
-                })
-                .collect(Collectors.toList());
+        long now = System.currentTimeMillis();
+        long expiresAt = now + CACHE_TTL.toMillis();
+        Map<String, byte[]> entries = new LinkedHashMap<>(responses.size() * 2);
+        List<String> staleKeys = new ArrayList<>(responses.size());
+        for (RecommendationResponse response : responses) {
+            CachedRecommendations recommendations = CachedRecommendations.of(response.getRecommendations(), fetchLimit);
+            entries.put(cacheKey(response.getUserId()),
+                    cacheSerializer.serialize(new CacheEnvelope<>(recommendations, deltaMillis, expiresAt)));
+            staleKeys.add(RedisKeyUtil.userRecommendationStaleKey(response.getUserId()));
+        }
+
+        binaryRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                entries.forEach((key, value) -> ops.opsForValue().set(key, value, CACHE_TTL));
+                return null;
+            }
+        });
+
+        redisTemplate.execute(CLEAR_STALE_BEFORE_SCRIPT, staleKeys,
+                String.valueOf(Snowflake.minIdAt(now - deltaMillis)));
+    }
+
+    private String cacheKey(Long userId) {
+        return cacheService.namespacedKey(CACHE_NAME, "user:" + userId);
+    }
 
+    private int fetchLimit(int requested) {
+        return Math.min(MAX_FETCH_LIMIT, Math.max(requested, minFetchLimit));
     }
 
     /**
-     * 추천 캐시 삭제 (사용자가 새로운 예약을 했을 때)
+     * 인기 이벤트 추천 (Fallback, Redis 인기도 색인 - MySQL 조회 없음)
      */
-    public void invalidateCache(Long userId) {
-        String cacheKey = CACHE_KEY_PREFIX + userId;
-        redisTemplate.delete(cacheKey);
-        log.info("Invalidated recommendation cache for user: {}", userId);
+    public List<EventRecommendation> getPopularEvents(int limit) {
+
+        return eventPopularityService.getPopularEvents(limit);
     }
 
     /**
-     * 추천 모델 재학습 트리거
+     * 급상승 이벤트 (최근 예약 가중)
      */
-    public Map<String, Object> trainModel(boolean forceRetrain) {
-        log.info("Triggering model training: forceRetrain={}", forceRetrain);
-        return fastApiClient.trainModel(forceRetrain);
+    public List<EventRecommendation> getTrendingEvents(int limit) {
+
+        return eventPopularityService.getTrendingEvents(limit);
     }
 
     /**
-     * FastAPI 상태 확인
+     * FastAPI Anomaly Detection용 예약 데이터 조회 (최신순, projection 한 번의 조인 쿼리)
+     * 대량 조회는 AnomalyExportService 스트리밍을 사용
      */
-    public boolean checkFastApiHealth() {
-        return fastApiClient.checkHealth();
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getReservationsForAnomalyDetection(int limit) {
+
+        return reservationRepository.findLatestExportRows(PageRequest.of(0, limit)).stream()
+                .map(row -> {
+                    Map<String, Object> data = new HashMap<>(8);
+                    data.put("reservation_id", row.reservationId());
+                    data.put("user_id", row.userId());
+                    data.put("event_id", row.eventId());
+                    data.put("ticket_id", row.ticketId());
+                    data.put("price", row.price());
+                    data.put("purchase_time", row.createdAt());
+                    data.put("ip_address", row.clientIp());
+                    return data;
+                })
+                .collect(Collectors.toList());
     }
 
-    public boolean checkHealth() {
+    /**
+     * FastAPI 상태 확인 (비동기)
+     */
+    public CompletableFuture<Boolean> checkHealth() {
         return fastApiClient.checkHealth();
     }
+
+    private record CachedRead(CacheEnvelope<CachedRecommendations> envelope, String staleMarker) {
+    }
 }
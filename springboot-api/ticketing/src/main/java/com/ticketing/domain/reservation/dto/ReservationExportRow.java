@@ -0,0 +1,18 @@
+package com.ticketing.domain.reservation.dto;
+
+import com.ticketing.global.enums.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 내보내기용 projection (엔티티/연관 로딩 없이 한 번의 조인 쿼리로 조회)
+ */
+public record ReservationExportRow(Long reservationId,
+                                   Long userId,
+                                   Long eventId,
+                                   Long ticketId,
+                                   Long price,
+                                   ReservationStatus status,
+                                   LocalDateTime createdAt,
+                                   String clientIp) {
+}
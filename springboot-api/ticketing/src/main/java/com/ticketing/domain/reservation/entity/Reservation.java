@@ -2,6 +2,7 @@ package com.ticketing.domain.reservation.entity;
 
 import com.ticketing.domain.ticket.entity.Ticket;
 import com.ticketing.domain.user.entity.User;
+import com.ticketing.global.entity.PersistableEntity;
 import com.ticketing.global.enums.ReservationStatus;
 import jakarta.persistence.*;
 import lombok.*;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Reservation {
+public class Reservation extends PersistableEntity {
 
     @Id
     private Long id;
@@ -40,6 +41,10 @@ public class Reservation {
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
+    // 예약 요청 클라이언트 IP (이상 탐지 학습 피처용, HTTP 요청 밖에서 만든 예약은 null)
+    @Column(length = 45, updatable = false)
+    private String clientIp;
+
     private LocalDateTime confirmedAt;
 
     private LocalDateTime cancelledAt;
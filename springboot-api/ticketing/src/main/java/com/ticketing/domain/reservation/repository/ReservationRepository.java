@@ -1,11 +1,14 @@
 package com.ticketing.domain.reservation.repository;
 
+import com.ticketing.domain.reservation.dto.ReservationExportRow;
 import com.ticketing.domain.reservation.entity.Reservation;
 import com.ticketing.global.enums.ReservationStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
@@ -39,6 +42,40 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
             @Param("ticketId") Long ticketId
     );
 
+    // 유효 예약의 (예약 ID, 사용자 ID, 이벤트 ID) keyset 조회 (로컬 추천기 적재용)
+    @Query("SELECT r.id, r.user.id, r.ticket.event.id FROM Reservation r " +
+            "WHERE r.id > :lastId " +
+            "AND r.status IN ('PENDING', 'CONFIRMED') " +
+            "ORDER BY r.id ASC")
+    List<Object[]> findUserEventPairsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 최근 예약의 (예약 ID, 사용자 ID) 역순 keyset 조회 (minId 이상, 추천 사전 계산 대상 선정용)
+    @Query("SELECT r.id, r.user.id FROM Reservation r " +
+            "WHERE r.id < :beforeId " +
+            "AND r.id >= :minId " +
+            "ORDER BY r.id DESC")
+    List<Object[]> findRecentUserIdsBefore(
+            @Param("beforeId") Long beforeId,
+            @Param("minId") Long minId,
+            Pageable pageable
+    );
+
+    // 내보내기용 예약 projection keyset 조회 (예약 ID 오름차순, 연관 엔티티 로딩 없음)
+    @Query("SELECT new com.ticketing.domain.reservation.dto.ReservationExportRow(" +
+            "r.id, r.user.id, t.event.id, t.id, t.price, r.status, r.createdAt, r.clientIp) " +
+            "FROM Reservation r JOIN r.ticket t " +
+            "WHERE r.id > :lastId " +
+            "ORDER BY r.id ASC")
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "2000"))
+    List<ReservationExportRow> findExportRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 내보내기용 예약 projection 최신순 조회
+    @Query("SELECT new com.ticketing.domain.reservation.dto.ReservationExportRow(" +
+            "r.id, r.user.id, t.event.id, t.id, t.price, r.status, r.createdAt, r.clientIp) " +
+            "FROM Reservation r JOIN r.ticket t " +
+            "ORDER BY r.id DESC")
+    List<ReservationExportRow> findLatestExportRows(Pageable pageable);
+
     // 이벤트별 예약 통계
     @Query("SELECT COUNT(r) FROM Reservation r " +
             "WHERE r.ticket.event.id = :eventId " +
@@ -1,12 +1,12 @@
 package com.ticketing.domain.reservation.service;
 
-import com.ticketing.domain.recommendation.service.RecommendationService;
 import com.ticketing.domain.reservation.entity.Reservation;
 import com.ticketing.domain.reservation.dto.ReservationRequest;
 import com.ticketing.domain.reservation.dto.ReservationResponse;
 import com.ticketing.domain.reservation.repository.ReservationRepository;
 import com.ticketing.domain.ticket.entity.Ticket;
 import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.domain.ticket.service.TicketStockService;
 import com.ticketing.domain.user.entity.User;
 import com.ticketing.domain.user.repository.UserRepository;
 import com.ticketing.global.enums.ReservationStatus;
@@ -15,17 +15,18 @@ import com.ticketing.global.exception.domain.OutOfStockException;
 import com.ticketing.global.exception.domain.reservation.ReservationNotFoundException;
 import com.ticketing.global.exception.domain.ticket.TicketNotFoundException;
 import com.ticketing.global.exception.domain.user.UserNotFoundException;
+import com.ticketing.global.existence.ExistenceFilter;
+import com.ticketing.global.snowflake.Snowflake;
 import com.ticketing.global.util.DistributedLockExecutor;
+import com.ticketing.global.web.ClientIp;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -36,13 +37,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ReservationService {
 
-    private final RecommendationService recommendationService;
     private final ReservationRepository reservationRepository;
     private final TicketRepository ticketRepository;
+    private final TicketStockService ticketStockService;
     private final UserRepository userRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final ExistenceFilter existenceFilter;
     private final DistributedLockExecutor lockExecutor;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Snowflake snowflake;
 
     private static final String STOCK_KEY_PREFIX = "ticket:stock:";
     private static final String USER_TICKET_LOCK_PREFIX = "reservation:user:";
@@ -57,12 +59,27 @@ public class ReservationService {
 
         Long ticketId = request.getTicketId();
         Long userId = request.getUserId();
+        String clientIp = ClientIp.current();
+
+        // 없는 ID는 DB 조회 없이 거절 (Bloom filter + 네거티브 캐시)
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.USER, userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.TICKET, ticketId)) {
+            throw new TicketNotFoundException(ticketId);
+        }
 
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+                .orElseThrow(() -> {
+                    existenceFilter.recordMissing(ExistenceFilter.Kind.USER, userId);
+                    return new UserNotFoundException(userId);
+                });
 
         Ticket ticket = ticketRepository.findByIdWithLock(ticketId)
-                .orElseThrow(() -> new TicketNotFoundException(ticketId));
+                .orElseThrow(() -> {
+                    existenceFilter.recordMissing(ExistenceFilter.Kind.TICKET, ticketId);
+                    return new TicketNotFoundException(ticketId);
+                });
 
         // 1. 먼저 Redis에서 원자적 재고 차감 시도 (락 외부에서 수행)
         String stockKey = STOCK_KEY_PREFIX + ticketId;
@@ -71,7 +88,7 @@ public class ReservationService {
         if (remaining == null || remaining < 0) {
             // 재고 부족 - 차감된 경우 복구
             if (remaining != null && remaining < 0) {
-                incrementStock(stockKey);
+                incrementStock(stockKey, ticket);
             }
             log.warn("Out of stock: ticketId={}, remaining={}", ticketId, remaining);
             throw new OutOfStockException();
@@ -90,7 +107,7 @@ public class ReservationService {
 
                 if (!activeReservations.isEmpty()) {
                     // 중복 예약 - Redis 재고 복구
-                    incrementStock(stockKey);
+                    incrementStock(stockKey, ticket);
                     log.warn("Duplicate reservation attempt: userId={}, ticketId={}, count={}",
                             userId, ticketId, activeReservations.size());
                     throw new DuplicateReservationException();
@@ -98,9 +115,11 @@ public class ReservationService {
 
                 // 3. 예약 생성
                 Reservation reservation = Reservation.builder()
+                        .id(snowflake.nextId())
                         .ticket(ticket)
                         .user(user)
                         .status(ReservationStatus.PENDING)
+                        .clientIp(clientIp)
                         .build();
 
                 reservation = reservationRepository.save(reservation);
@@ -111,7 +130,7 @@ public class ReservationService {
                     ticketRepository.save(ticket);
                 } catch (Exception e) {
                     log.error("Failed to decrease DB stock, rolling back Redis stock: ticketId={}", ticketId, e);
-                    incrementStock(stockKey);
+                    incrementStock(stockKey, ticket);
                     throw new RuntimeException("재고 차감 중 오류가 발생했습니다", e);
                 }
 
@@ -121,8 +140,6 @@ public class ReservationService {
                 log.info("Reservation created successfully: id={}, userId={}, ticketId={}, remaining={}",
                         reservation.getId(), userId, ticketId, remaining);
 
-                recommendationService.invalidateCache(userId);
-
                 return convertToResponse(reservation);
             });
         } catch (DuplicateReservationException e) {
@@ -131,7 +148,7 @@ public class ReservationService {
         } catch (Exception e) {
             // 락 획득 실패 등 다른 예외 발생 시 재고 복구
             if (!(e instanceof DuplicateReservationException)) {
-                incrementStock(stockKey);
+                incrementStock(stockKey, ticket);
                 log.error("Reservation failed, stock restored: userId={}, ticketId={}, error={}",
                         userId, ticketId, e.getMessage());
             }
@@ -140,74 +157,11 @@ public class ReservationService {
     }
 
     /**
-     * redis 재고 조회
-     */
-    private Long getStockFromRedis(String stockKey, Ticket ticket) {
-
-        try {
-            Object value = redisTemplate.opsForValue().get(stockKey);
-
-            // 캐시 미스
-            if (value == null) {
-                Long stock = ticket.getStock();
-                redisTemplate.opsForValue().set(stockKey, stock, Duration.ofMinutes(30));
-//                log.info("Stock loaded from DB to Redis: ticketId={}, stock={}", ticket.getId(), stock);
-                return stock;
-            }
-
-            // 타입 변환
-            if (value instanceof Number) {
-                Long stock = ((Number) value).longValue(); // number type일 경우 long으로 캐스팅
-//                log.debug("Stock retrieved from Redis: ticketId={}, stock={}, type={}",
-//                        ticket.getId(), stock, value.getClass().getSimpleName());
-                return stock;
-            }
-
-            if (value instanceof String) {
-                return Long.parseLong((String) value);
-            }
-
-            log.warn("Unexpected type for stock: {}, ticketId={}, falling back to DB",
-                    value.getClass(), ticket.getId());
-            return ticket.getStock();
-
-        } catch (Exception e) {
-            log.error("Failed to get stock from Redis: ticketId={}, error={}",
-                    ticket.getId(), e.getMessage(), e);
-            return ticket.getStock();
-        }
-    }
-
-    /**
-     * Redis 재고 차감
-     */
-    private Long decrementStock(String stockKey) {
-
-        try {
-            return redisTemplate.opsForValue().decrement(stockKey);
-        } catch (Exception e) {
-            log.error("Failed to decrement stock in Redis: key={}, error={}",
-                    stockKey, e.getMessage(), e);
-            return null;
-        }
-    }
-
-    /**
-     * Redis 원자적 재고 차감 (캐시 미스 시 DB에서 로드 후 차감)
+     * Redis 원자적 재고 차감 (캐시 미스 시 DB에서 로드 후 차감, 이벤트 재고 집계도 함께 갱신)
      */
     private Long decrementStockAtomic(String stockKey, Ticket ticket) {
         try {
-            // 캐시 미스 확인 및 초기화
-            Object value = redisTemplate.opsForValue().get(stockKey);
-            if (value == null) {
-                Long stock = ticket.getStock();
-                redisTemplate.opsForValue().set(stockKey, stock, Duration.ofMinutes(30));
-                log.debug("Stock loaded from DB to Redis: ticketId={}, stock={}", ticket.getId(), stock);
-            }
-
-            // 원자적 차감
-            return redisTemplate.opsForValue().decrement(stockKey);
-
+            return ticketStockService.decrement(ticket);
         } catch (Exception e) {
             log.error("Failed to decrement stock in Redis: key={}, error={}", stockKey, e.getMessage(), e);
             return null;
@@ -215,12 +169,12 @@ public class ReservationService {
     }
 
     /**
-     * Redis 재고 증가 (복구용)
+     * Redis 재고 증가 (복구용, 이벤트 재고 집계도 함께 갱신)
      */
-    private void incrementStock(String stockKey) {
+    private void incrementStock(String stockKey, Ticket ticket) {
 
         try {
-            redisTemplate.opsForValue().increment(stockKey);
+            ticketStockService.increment(ticket);
             log.debug("Stock incremented in Redis: key={}", stockKey);
         } catch (Exception e) {
             log.error("Failed to increment stock in Redis: key={}, error={}",
@@ -264,7 +218,7 @@ public class ReservationService {
 
         // Redis 재고도 복구
         String stockKey = STOCK_KEY_PREFIX + ticket.getId();
-        incrementStock(stockKey);
+        incrementStock(stockKey, ticket);
 
         publishReservationEvent(reservation, "CANCELLED");
 
@@ -317,7 +271,9 @@ public class ReservationService {
 
                 // Redis 재고 복구
                 String stockKey = STOCK_KEY_PREFIX + ticket.getId();
-                incrementStock(stockKey);
+                incrementStock(stockKey, ticket);
+
+                publishReservationEvent(reservation, "EXPIRED");
 
                 cancelledCount++;
                 log.info("Expired reservation cancelled: id={}", reservation.getId());
@@ -342,8 +298,13 @@ public class ReservationService {
             event.put("reservationId", reservation.getId());
             event.put("userId", reservation.getUser().getId());
             event.put("ticketId", reservation.getTicket().getId());
+            event.put("eventId", reservation.getTicket().getEvent().getId());
             event.put("eventType", eventType);
             event.put("timestamp", LocalDateTime.now());
+            // 실시간 이상 탐지 피처용: 이후 확정/취소/만료 이벤트도 예약을 만든 요청의 IP (HTTP 요청 밖에서 만든 예약은 없음)
+            if (reservation.getClientIp() != null) {
+                event.put("clientIp", reservation.getClientIp());
+            }
 
             kafkaTemplate.send("reservation-events", event);
             log.debug("Kafka event published: type={}, reservationId={}", eventType, reservation.getId());
@@ -4,13 +4,17 @@ import com.ticketing.domain.ticket.dto.TicketCreateRequest;
 import com.ticketing.domain.ticket.dto.TicketResponse;
 import com.ticketing.domain.ticket.service.TicketService;
 import com.ticketing.global.dto.ApiResponse;
+import com.ticketing.global.web.HttpCacheSupport;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Ticket", description = "티켓 API")
 @RestController
@@ -19,6 +23,7 @@ import java.util.List;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final HttpCacheSupport httpCacheSupport;
 
     @Operation(summary = "티켓 생성", description = "이벤트에 티켓을 추가합니다")
     @PostMapping
@@ -29,24 +34,50 @@ public class TicketController {
         return ApiResponse.success("티켓이 생성되었습니다", response);
     }
 
-    @Operation(summary = "티켓 조회", description = "ID로 티켓을 조회합니다")
+    @Operation(summary = "티켓 조회", description = "ID로 티켓을 조회합니다 (ETag 일치 시 304)")
     @GetMapping("/{id}")
-    public ApiResponse<TicketResponse> getTicket(@PathVariable Long id) {
-        TicketResponse response = ticketService.getTicket(id);
-        return ApiResponse.success(response);
+    public ResponseEntity<ApiResponse<TicketResponse>> getTicket(@PathVariable Long id, WebRequest request) {
+        List<TicketResponse> cached = List.of(ticketService.getTicket(id));
+        Map<Long, Long> stocks = ticketService.getLiveStocks(cached);
+
+        return httpCacheSupport.respond(request, validator("ticket", cached, stocks),
+                () -> ticketService.withLiveStock(cached, stocks).get(0));
     }
 
-    @Operation(summary = "이벤트별 티켓 조회", description = "특정 이벤트의 모든 티켓을 조회합니다")
+    @Operation(summary = "이벤트별 티켓 조회", description = "특정 이벤트의 모든 티켓을 조회합니다 (ETag 일치 시 304)")
     @GetMapping("/event/{eventId}")
-    public ApiResponse<List<TicketResponse>> getTicketsByEvent(@PathVariable Long eventId) {
-        List<TicketResponse> tickets = ticketService.getTicketsByEvent(eventId);
-        return ApiResponse.success(tickets);
+    public ResponseEntity<ApiResponse<List<TicketResponse>>> getTicketsByEvent(@PathVariable Long eventId,
+                                                                               WebRequest request) {
+        List<TicketResponse> cached = ticketService.getTicketsByEvent(eventId);
+        Map<Long, Long> stocks = ticketService.getLiveStocks(cached);
+
+        return httpCacheSupport.respond(request, validator("tickets-" + eventId, cached, stocks),
+                () -> ticketService.withLiveStock(cached, stocks));
     }
 
-    @Operation(summary = "예약 가능한 티켓 조회", description = "재고가 있는 티켓만 조회합니다")
+    @Operation(summary = "예약 가능한 티켓 조회", description = "재고가 있는 티켓만 조회합니다 (ETag 일치 시 304)")
     @GetMapping("/event/{eventId}/available")
-    public ApiResponse<List<TicketResponse>> getAvailableTickets(@PathVariable Long eventId) {
-        List<TicketResponse> tickets = ticketService.getAvailableTickets(eventId);
-        return ApiResponse.success(tickets);
+    public ResponseEntity<ApiResponse<List<TicketResponse>>> getAvailableTickets(@PathVariable Long eventId,
+                                                                                 WebRequest request) {
+        List<TicketResponse> cached = ticketService.getTicketsByEvent(eventId);
+        Map<Long, Long> stocks = ticketService.getLiveStocks(cached);
+
+        return httpCacheSupport.respond(request, validator("available-" + eventId, cached, stocks),
+                () -> ticketService.filterAvailable(ticketService.withLiveStock(cached, stocks)));
+    }
+
+    /**
+     * 티켓 메타데이터는 생성 후 바뀌지 않으므로 ID/생성 시각 + 실시간 재고로 버전 결정
+     */
+    private static HttpCacheSupport.Validator validator(String resource,
+                                                        List<TicketResponse> tickets,
+                                                        Map<Long, Long> stocks) {
+        HttpCacheSupport.Validator validator = HttpCacheSupport.validator(resource);
+        for (TicketResponse ticket : tickets) {
+            validator.add(ticket.getId())
+                    .modifiedAt(ticket.getCreatedAt())
+                    .add(stocks.getOrDefault(ticket.getId(), ticket.getStock()));
+        }
+        return validator;
     }
 }
\ No newline at end of file
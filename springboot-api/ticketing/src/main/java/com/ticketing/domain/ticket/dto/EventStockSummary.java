@@ -0,0 +1,11 @@
+package com.ticketing.domain.ticket.dto;
+
+/**
+ * 이벤트별 전체 재고 합계 (projection)
+ */
+public interface EventStockSummary {
+
+    Long getEventId();
+
+    Long getTotalStock();
+}
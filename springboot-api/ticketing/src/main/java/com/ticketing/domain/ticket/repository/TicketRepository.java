@@ -1,12 +1,15 @@
 package com.ticketing.domain.ticket.repository;
 
+import com.ticketing.domain.ticket.dto.EventStockSummary;
 import com.ticketing.domain.ticket.entity.Ticket;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,9 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     // 이벤트별 티켓 조회
     List<Ticket> findByEventId(Long eventId);
 
+    // 여러 이벤트의 티켓 일괄 조회
+    List<Ticket> findByEventIdIn(Collection<Long> eventIds);
+
     // 재고 있는 티켓만 조회
     @Query("SELECT t FROM Ticket t WHERE t.event.id = :eventId AND t.stock > 0")
     List<Ticket> findAvailableTicketsByEventId(@Param("eventId") Long eventId);
@@ -24,7 +30,17 @@ public interface TicketRepository extends JpaRepository<Ticket, Long> {
     @Query("SELECT t FROM Ticket t WHERE t.id = :id")
     Optional<Ticket> findByIdWithLock(@Param("id") Long id);
 
+    // ID만 keyset 조회 (존재 필터 적재용)
+    @Query("SELECT t.id FROM Ticket t WHERE t.id > :lastId ORDER BY t.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     // 전체 재고 수 조회
     @Query("SELECT SUM(t.stock) FROM Ticket t WHERE t.event.id = :eventId")
     Long getTotalStockByEventId(@Param("eventId") Long eventId);
+
+    // 여러 이벤트의 전체 재고 수 일괄 조회 (목록 조회용)
+    @Query("SELECT t.event.id AS eventId, SUM(t.stock) AS totalStock FROM Ticket t " +
+            "WHERE t.event.id IN :eventIds " +
+            "GROUP BY t.event.id")
+    List<EventStockSummary> getTotalStockByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
@@ -6,16 +6,21 @@ import com.ticketing.domain.ticket.entity.Ticket;
 import com.ticketing.domain.ticket.dto.TicketCreateRequest;
 import com.ticketing.domain.ticket.dto.TicketResponse;
 import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.global.existence.ExistenceFilter;
+import com.ticketing.global.snowflake.Snowflake;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,20 +30,24 @@ public class TicketService {
 
     private final TicketRepository ticketRepository;
     private final EventRepository eventRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    private static final String STOCK_KEY_PREFIX = "ticket:stock:";
+    private final TicketStockService ticketStockService;
+    private final ExistenceFilter existenceFilter;
+    private final Snowflake snowflake;
 
     /**
      * 티켓 생성
      */
     @Transactional
-    @CacheEvict(value = "events", key = "#request.eventId")
+    @Caching(evict = {
+            @CacheEvict(value = "events", key = "#request.eventId"),
+            @CacheEvict(value = "eventTickets", key = "#request.eventId")
+    })
     public TicketResponse createTicket(TicketCreateRequest request) {
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new IllegalArgumentException("이벤트를 찾을 수 없습니다"));
 
         Ticket ticket = Ticket.builder()
+                .id(snowflake.nextId())
                 .event(event)
                 .name(request.getName())
                 .stock(request.getStock())
@@ -47,9 +56,9 @@ public class TicketService {
 
         ticket = ticketRepository.save(ticket);
 
-        // Redis에 재고 캐싱
-        String stockKey = STOCK_KEY_PREFIX + ticket.getId();
-        redisTemplate.opsForValue().set(stockKey, ticket.getStock(), Duration.ofMinutes(30));
+        // Redis에 재고 캐싱 (이벤트 재고 집계에도 반영)
+        ticketStockService.initialize(ticket);
+        existenceFilter.recordCreated(ExistenceFilter.Kind.TICKET, ticket.getId());
 
         log.info("Ticket created: id={}, name={}, stock={}",
                 ticket.getId(), ticket.getName(), ticket.getStock());
@@ -58,31 +67,107 @@ public class TicketService {
     }
 
     /**
-     * 티켓 조회
+     * 티켓 조회 (정적 정보는 캐시, 재고는 withLiveStock으로 덮어씀)
+     * 존재 필터가 거절한 ID는 캐시(Redis)도 거치지 않고 바로 예외
      */
-    @Cacheable(value = "tickets", key = "#id")
+    @Cacheable(value = "tickets", key = "#id",
+            condition = "@existenceFilter.mightExist('TICKET', #id)")
     public TicketResponse getTicket(Long id) {
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.TICKET, id)) {
+            throw new IllegalArgumentException("티켓을 찾을 수 없습니다: " + id);
+        }
+
         Ticket ticket = ticketRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("티켓을 찾을 수 없습니다: " + id));
+                .orElseThrow(() -> {
+                    existenceFilter.recordMissing(ExistenceFilter.Kind.TICKET, id);
+                    return new IllegalArgumentException("티켓을 찾을 수 없습니다: " + id);
+                });
 
         return convertToResponse(ticket);
     }
 
     /**
-     * 이벤트별 티켓 조회
+     * 이벤트별 티켓 조회 (정적 정보는 캐시, 재고는 withLiveStock으로 덮어씀)
      */
+    @Cacheable(value = "eventTickets", key = "#eventId", sync = true,
+            condition = "@existenceFilter.mightExist('EVENT', #eventId)")
     public List<TicketResponse> getTicketsByEvent(Long eventId) {
+        if (!existenceFilter.mightExist(ExistenceFilter.Kind.EVENT, eventId)) {
+            return new ArrayList<>();
+        }
+
+        // 캐시 JSON 타입 정보로 역직렬화 가능한 ArrayList 사용 (Stream.toList()의 불변 리스트는 불가)
         return ticketRepository.findByEventId(eventId).stream()
                 .map(this::convertToResponse)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * 캐시된 티켓 응답에 Redis 실시간 재고 반영
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TicketResponse withLiveStock(TicketResponse response) {
+        return withLiveStock(List.of(response)).get(0);
+    }
+
+    /**
+     * 캐시된 티켓 목록에 Redis 실시간 재고 반영 (MGET 1회)
+     * 재고 키가 없는 티켓은 캐시된 DB 재고를 그대로 사용
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TicketResponse> withLiveStock(List<TicketResponse> responses) {
+        return withLiveStock(responses, getLiveStocks(responses));
+    }
+
+    /**
+     * 티켓별 Redis 실시간 재고 (MGET 1회, Redis 오류면 빈 맵)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<Long, Long> getLiveStocks(List<TicketResponse> responses) {
+        if (responses.isEmpty()) {
+            return Map.of();
+        }
+
+        try {
+            return ticketStockService.getStocks(responses.stream()
+                    .map(TicketResponse::getId)
+                    .toList());
+        } catch (Exception e) {
+            log.warn("Failed to read live stock from Redis: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 이미 읽은 실시간 재고 반영 (재고가 없는 티켓은 캐시된 값 유지)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TicketResponse> withLiveStock(List<TicketResponse> responses, Map<Long, Long> stocks) {
+        if (stocks.isEmpty()) {
+            return responses;
+        }
+
+        return responses.stream()
+                .map(response -> {
+                    Long stock = stocks.get(response.getId());
+                    if (stock == null) {
+                        return response;
+                    }
+                    return response.toBuilder()
+                            .stock(stock)
+                            .available(stock > 0)
+                            .build();
+                })
                 .toList();
     }
 
     /**
-     * 예약 가능한 티켓만 조회
+     * 예약 가능한 티켓만 (실시간 재고 반영 후 호출)
      */
-    public List<TicketResponse> getAvailableTickets(Long eventId) {
-        return ticketRepository.findAvailableTicketsByEventId(eventId).stream()
-                .map(this::convertToResponse)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TicketResponse> filterAvailable(List<TicketResponse> responses) {
+        return responses.stream()
+                .filter(response -> Boolean.TRUE.equals(response.getAvailable()))
                 .toList();
     }
 
@@ -98,8 +183,7 @@ public class TicketService {
         ticketRepository.save(ticket);
 
         // Redis 재고도 증가
-        String stockKey = STOCK_KEY_PREFIX + ticketId;
-        redisTemplate.opsForValue().increment(stockKey);
+        ticketStockService.increment(ticket);
 
         log.info("Stock restored: ticketId={}, newStock={}", ticketId, ticket.getStock());
     }
@@ -107,7 +191,7 @@ public class TicketService {
     /**
      * Entity -> Response 변환
      */
-    private TicketResponse convertToResponse(Ticket ticket) {
+    public TicketResponse convertToResponse(Ticket ticket) {
         return TicketResponse.builder()
                 .id(ticket.getId())
                 .eventId(ticket.getEvent().getId())
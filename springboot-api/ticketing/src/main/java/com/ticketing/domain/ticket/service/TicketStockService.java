@@ -0,0 +1,298 @@
+package com.ticketing.domain.ticket.service;
+
+import com.ticketing.domain.event.entity.Event;
+import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.ticket.entity.Ticket;
+import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.global.util.RedisKeyUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 티켓 실시간 재고(ticket:stock:{ticketId})와 이벤트별 재고 집계(event:availability:{eventId}) 관리
+ *
+ * 집계 해시는 필드마다 티켓별 재고, "total" 필드에 이벤트 전체 재고를 가지며
+ * 재고 키 변경과 같은 Lua 스크립트 안에서 함께 갱신된다.
+ * 해시는 rebuild로 전체 티켓을 반영해 만든 경우에만 존재하고, 없으면 호출 측이 DB 값으로 대체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketStockService {
+
+    public static final Duration STOCK_TTL = Duration.ofMinutes(30);
+
+    private static final String TOTAL_FIELD = "total";
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    /**
+     * KEYS[1]: 재고 키, KEYS[2]: 이벤트 집계 해시
+     * ARGV[1]: ticketId, ARGV[2]: 증감량, ARGV[3]: 캐시 미스 시 적재할 재고(빈 값이면 적재하지 않음), ARGV[4]: TTL(초)
+     */
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>(
+            "local hasSummary = redis.call('exists', KEYS[2]) == 1 " +
+            "if redis.call('exists', KEYS[1]) == 0 then " +
+            "  if ARGV[3] == '' then return nil end " +
+            "  redis.call('set', KEYS[1], ARGV[3], 'EX', ARGV[4]) " +
+            "  if hasSummary then " +
+            "    local previous = tonumber(redis.call('hget', KEYS[2], ARGV[1]) or '0') " +
+            "    redis.call('hset', KEYS[2], ARGV[1], ARGV[3]) " +
+            "    redis.call('hincrby', KEYS[2], 'total', tonumber(ARGV[3]) - previous) " +
+            "  end " +
+            "elseif hasSummary and redis.call('hexists', KEYS[2], ARGV[1]) == 0 then " +
+            "  local current = tonumber(redis.call('get', KEYS[1])) " +
+            "  redis.call('hset', KEYS[2], ARGV[1], current) " +
+            "  redis.call('hincrby', KEYS[2], 'total', current) " +
+            "end " +
+            "local remaining = redis.call('incrby', KEYS[1], ARGV[2]) " +
+            "if hasSummary then " +
+            "  redis.call('hincrby', KEYS[2], ARGV[1], ARGV[2]) " +
+            "  redis.call('hincrby', KEYS[2], 'total', ARGV[2]) " +
+            "end " +
+            "return remaining",
+            Long.class);
+
+    /**
+     * KEYS[1]: 재고 키, KEYS[2]: 이벤트 집계 해시
+     * ARGV[1]: ticketId, ARGV[2]: 재고, ARGV[3]: TTL(초)
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "if redis.call('exists', KEYS[2]) == 1 then " +
+            "  local previous = tonumber(redis.call('hget', KEYS[2], ARGV[1]) or '0') " +
+            "  redis.call('hset', KEYS[2], ARGV[1], ARGV[2]) " +
+            "  redis.call('hincrby', KEYS[2], 'total', tonumber(ARGV[2]) - previous) " +
+            "end " +
+            "return tonumber(ARGV[2])",
+            Long.class);
+
+    /**
+     * KEYS[1]: 이벤트 집계 해시, KEYS[2..n+1]: 티켓별 재고 키
+     * ARGV[2i-1]: ticketId, ARGV[2i]: DB 재고 (재고 키가 없을 때 사용)
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) " +
+            "local total = 0 " +
+            "for i = 2, #KEYS do " +
+            "  local live = redis.call('get', KEYS[i]) " +
+            "  local stock = tonumber(live or ARGV[(i - 1) * 2]) " +
+            "  redis.call('hset', KEYS[1], ARGV[(i - 1) * 2 - 1], stock) " +
+            "  total = total + stock " +
+            "end " +
+            "redis.call('hset', KEYS[1], 'total', total) " +
+            "return total",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+
+    /**
+     * 재고 차감 (캐시 미스 시 DB 재고로 적재 후 차감), 남은 재고 반환
+     */
+    public Long decrement(Ticket ticket) {
+        return redisTemplate.execute(ADJUST_SCRIPT, keys(ticket),
+                String.valueOf(ticket.getId()), "-1",
+                String.valueOf(ticket.getStock()), String.valueOf(STOCK_TTL.toSeconds()));
+    }
+
+    /**
+     * 재고 증가 (복구/취소/만료)
+     * 재고 키가 없으면 아무것도 하지 않는다 (다음 차감 시 DB 재고로 다시 적재됨)
+     */
+    public Long increment(Ticket ticket) {
+        return redisTemplate.execute(ADJUST_SCRIPT, keys(ticket),
+                String.valueOf(ticket.getId()), "1",
+                "", String.valueOf(STOCK_TTL.toSeconds()));
+    }
+
+    /**
+     * 신규 티켓 재고 적재
+     */
+    public void initialize(Ticket ticket) {
+        redisTemplate.execute(INITIALIZE_SCRIPT, keys(ticket),
+                String.valueOf(ticket.getId()), String.valueOf(ticket.getStock()),
+                String.valueOf(STOCK_TTL.toSeconds()));
+    }
+
+    /**
+     * 재고 키 일괄 적재 (파이프라인 SET NX, 이미 있는 실시간 재고는 덮어쓰지 않음)
+     */
+    public void warmUp(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Ticket ticket : tickets) {
+                    ops.opsForValue().setIfAbsent(RedisKeyUtil.stockKey(ticket.getId()),
+                            String.valueOf(ticket.getStock()), STOCK_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 티켓별 실시간 재고 (MGET 1회, 재고 키가 없는 티켓은 결과에서 제외)
+     */
+    public Map<Long, Long> getStocks(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> keys = ticketIds.stream()
+                .map(RedisKeyUtil::stockKey)
+                .toList();
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, Long> stocks = new HashMap<>(ticketIds.size() * 2);
+        for (int i = 0; i < ticketIds.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                stocks.put(ticketIds.get(i), Long.parseLong(value));
+            }
+        }
+        return stocks;
+    }
+
+    /**
+     * 이벤트 전체 재고 (집계 해시가 없으면 null)
+     */
+    public Long getTotalStock(Long eventId) {
+        Object total = redisTemplate.opsForHash().get(RedisKeyUtil.eventAvailabilityKey(eventId), TOTAL_FIELD);
+        return total != null ? Long.parseLong(total.toString()) : null;
+    }
+
+    /**
+     * 여러 이벤트의 전체 재고 (파이프라인 HGET, 집계 해시가 없는 이벤트는 결과에서 제외)
+     */
+    public Map<Long, Long> getTotalStocks(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long eventId : eventIds) {
+                    ops.opsForHash().get(RedisKeyUtil.eventAvailabilityKey(eventId), TOTAL_FIELD);
+                }
+                return null;
+            }
+        });
+
+        Map<Long, Long> totals = new HashMap<>(eventIds.size() * 2);
+        for (int i = 0; i < eventIds.size(); i++) {
+            Object total = results.get(i);
+            if (total != null) {
+                totals.put(eventIds.get(i), Long.parseLong(total.toString()));
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * 이벤트의 티켓별 재고 (HGETALL 한 번, 집계 해시가 없으면 DB에서 재구성)
+     */
+    public Map<Long, Long> getTicketStocks(Long eventId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(RedisKeyUtil.eventAvailabilityKey(eventId));
+
+        if (entries.isEmpty()) {
+            rebuild(eventId);
+            entries = redisTemplate.opsForHash().entries(RedisKeyUtil.eventAvailabilityKey(eventId));
+        }
+
+        Map<Long, Long> stocks = new LinkedHashMap<>();
+        entries.forEach((field, value) -> {
+            if (!TOTAL_FIELD.equals(field)) {
+                stocks.put(Long.parseLong(field.toString()), Long.parseLong(value.toString()));
+            }
+        });
+        return stocks;
+    }
+
+    /**
+     * 이벤트 집계 해시 재구성 (DB 티켓 목록 + 살아있는 재고 키)
+     */
+    public Long rebuild(Long eventId) {
+        return rebuild(eventId, ticketRepository.findByEventId(eventId));
+    }
+
+    /**
+     * 전체 이벤트 집계 해시 재구성 (이벤트 keyset 배치)
+     */
+    public long rebuildAll() {
+        long lastId = 0L;
+        long rebuilt = 0;
+
+        while (true) {
+            List<Long> eventIds = eventRepository
+                    .findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE))
+                    .stream()
+                    .map(Event::getId)
+                    .toList();
+
+            if (eventIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, List<Ticket>> ticketsByEvent = ticketRepository.findByEventIdIn(eventIds).stream()
+                    .collect(Collectors.groupingBy(t -> t.getEvent().getId()));
+
+            for (Long eventId : eventIds) {
+                rebuild(eventId, ticketsByEvent.getOrDefault(eventId, Collections.emptyList()));
+            }
+
+            rebuilt += eventIds.size();
+            lastId = eventIds.get(eventIds.size() - 1);
+        }
+
+        log.info("Event availability rebuilt: events={}", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 이미 조회한 티켓 목록으로 이벤트 집계 해시 재구성
+     */
+    public Long rebuild(Long eventId, List<Ticket> tickets) {
+        List<String> keys = new ArrayList<>(tickets.size() + 1);
+        List<String> args = new ArrayList<>(tickets.size() * 2);
+
+        keys.add(RedisKeyUtil.eventAvailabilityKey(eventId));
+        for (Ticket ticket : tickets) {
+            keys.add(RedisKeyUtil.stockKey(ticket.getId()));
+            args.add(String.valueOf(ticket.getId()));
+            args.add(String.valueOf(ticket.getStock()));
+        }
+
+        return redisTemplate.execute(REBUILD_SCRIPT, keys, args.toArray());
+    }
+
+    private List<String> keys(Ticket ticket) {
+        return List.of(
+                RedisKeyUtil.stockKey(ticket.getId()),
+                RedisKeyUtil.eventAvailabilityKey(ticket.getEvent().getId()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.ticketing.domain.user.entity;
 
 import com.ticketing.domain.reservation.entity.Reservation;
+import com.ticketing.global.entity.PersistableEntity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class User {
+public class User extends PersistableEntity {
 
     @Id
     private Long id;
@@ -1,8 +1,12 @@
 package com.ticketing.domain.user.repository;
 
 import com.ticketing.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,4 +16,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일 중복 확인
     boolean existsByEmail(String email);
+
+    // ID만 keyset 조회 (존재 필터 적재용)
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
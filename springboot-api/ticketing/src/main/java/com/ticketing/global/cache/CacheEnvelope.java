@@ -0,0 +1,21 @@
+package com.ticketing.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 값 + 조기 갱신(XFetch) 판단용 메타데이터
+ *
+ * deltaMillis: 값을 다시 계산하는 데 걸린 시간
+ * expiresAtMillis: L2 만료 시각 (epoch millis)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope<T> {
+
+    private T value;
+    private long deltaMillis;
+    private long expiresAtMillis;
+}
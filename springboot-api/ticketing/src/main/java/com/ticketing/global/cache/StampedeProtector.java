@@ -0,0 +1,243 @@
+package com.ticketing.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 폭주(stampede) 방지
+ *
+ * - 노드 내: 같은 키의 로더는 하나만 실행하고 나머지 요청은 그 결과를 기다린다 (single-flight)
+ * - 노드 간(선택): Redis 짧은 락을 잡은 노드만 로드하고, 나머지는 캐시가 채워질 때까지 잠깐 기다린다
+ * - 조기 갱신: 만료가 가까울수록 높은 확률로 한 요청이 미리 다시 계산한다 (XFetch)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StampedeProtector {
+
+    private static final String LOCK_KEY_PREFIX = "cache:lock:";
+    private static final long LOCK_POLL_NANOS = Duration.ofMillis(20).toNanos();
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) " +
+                    "else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.stampede.redis-lock.enabled:false}")
+    private boolean redisLockEnabled;
+
+    @Value("${cache.stampede.redis-lock.ttl-ms:3000}")
+    private long lockTtlMillis;
+
+    // 1.0이 기본값, 클수록 더 일찍 갱신
+    @Value("${cache.stampede.xfetch-beta:1.0}")
+    private double xfetchBeta;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 미스 로드 (같은 키는 노드당 한 번만 실행)
+     *
+     * @param loader  값을 계산하고 캐시에 저장까지 하는 로더
+     * @param recheck Redis 락을 다른 노드가 가진 동안 캐시를 다시 확인 (없으면 null 반환)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String cacheName, String key, Callable<T> loader, Supplier<ValueWrapper> recheck) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(cacheName, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(cacheName, "leader").increment();
+        try {
+            T value = redisLockEnabled
+                    ? loadWithRedisLock(cacheName, flightKey, loader, recheck)
+                    : loader.call();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // 기다리는 요청도 같은 예외를 받는다
+            flight.completeExceptionally(e);
+            throw rethrow(e);
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * 비동기 캐시 미스 로드 (같은 키는 노드당 한 번만 실행, 기다리는 요청도 스레드를 잡지 않음)
+     * 노드 간 Redis 락 대기는 스레드를 잡아야 하므로 적용하지 않는다.
+     *
+     * @param loader 값을 계산하고 캐시에 저장까지 하는 비동기 로더
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> loadAsync(String cacheName, String key, Supplier<CompletableFuture<T>> loader) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(cacheName, "coalesced").increment();
+            return existing.thenApply(value -> (T) value);
+        }
+
+        counter(cacheName, "leader").increment();
+        CompletableFuture<T> loaded;
+        try {
+            loaded = loader.get();
+        } catch (Throwable e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((value, error) -> {
+            inFlight.remove(flightKey, flight);
+            if (error != null) {
+                flight.completeExceptionally(error);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 조기 갱신 시도 (이미 같은 키를 로드 중이면 기다리지 않고 null 반환)
+     */
+    public ValueWrapper tryRefresh(String cacheName, String key, Callable<?> loader) {
+        String flightKey = cacheName + "::" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+
+        if (inFlight.putIfAbsent(flightKey, flight) != null) {
+            return null;
+        }
+
+        meterRegistry.counter("cache.stampede.early.refresh", "cache", cacheName).increment();
+        try {
+            Object value = loader.call();
+            flight.complete(value);
+            return new SimpleValueWrapper(value);
+        } catch (Exception e) {
+            // 조기 갱신 실패는 기존 값을 그대로 쓰면 되므로 전파하지 않는다
+            flight.completeExceptionally(e);
+            log.warn("Early cache refresh failed: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+            return null;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * XFetch: now - delta * beta * ln(rand) >= expiry 이면 만료 전에 다시 계산
+     */
+    public boolean shouldRefreshEarly(long deltaMillis, long expiresAtMillis) {
+        if (deltaMillis <= 0 || expiresAtMillis <= 0) {
+            return false;
+        }
+
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1]
+        double gap = -deltaMillis * xfetchBeta * Math.log(random);
+        return System.currentTimeMillis() + gap >= expiresAtMillis;
+    }
+
+    private <T> T loadWithRedisLock(String cacheName, String flightKey, Callable<T> loader,
+                                    Supplier<ValueWrapper> recheck) throws Exception {
+        String lockKey = LOCK_KEY_PREFIX + flightKey;
+        String owner = UUID.randomUUID().toString();
+
+        if (tryLock(lockKey, owner)) {
+            meterRegistry.counter("cache.stampede.lock", "cache", cacheName, "result", "acquired").increment();
+            try {
+                return loader.call();
+            } finally {
+                unlock(lockKey, owner);
+            }
+        }
+
+        // 다른 노드가 로드 중: 락 TTL 동안 캐시가 채워지기를 기다림
+        meterRegistry.counter("cache.stampede.lock", "cache", cacheName, "result", "contended").increment();
+        long deadline = System.nanoTime() + Duration.ofMillis(lockTtlMillis).toNanos();
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(LOCK_POLL_NANOS);
+
+            ValueWrapper wrapper = recheck.get();
+            if (wrapper != null) {
+                @SuppressWarnings("unchecked")
+                T value = (T) wrapper.get();
+                return value;
+            }
+        }
+
+        // 락 보유 노드가 실패했거나 느린 경우 직접 로드
+        return loader.call();
+    }
+
+    private boolean tryLock(String lockKey, String owner) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, owner, Duration.ofMillis(lockTtlMillis)));
+        } catch (Exception e) {
+            // Redis 장애 시 노드 내 single-flight만으로 진행
+            log.warn("Failed to acquire cache lock: key={}, error={}", lockKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String owner) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release cache lock: key={}, error={}", lockKey, e.getMessage());
+        }
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Cache load failed", e);
+    }
+
+    private Counter counter(String cacheName, String result) {
+        return meterRegistry.counter("cache.stampede.requests", "cache", cacheName, "result", result);
+    }
+}
@@ -0,0 +1,295 @@
+package com.ticketing.global.cache;
+
+import com.ticketing.global.service.CacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine, 로컬) + L2(Redis) 2단계 캐시
+ *
+ * 조회: L1 → L2 → (miss)
+ * 저장/삭제: L2에 반영한 뒤 L1을 갱신하고, 다른 노드의 L1은 pub/sub으로 무효화한다.
+ * L2 키에는 캐시 이름 네임스페이스 버전(v{n}:)이 붙어 clear는 버전 INCR 한 번으로 끝난다 (이전 키는 TTL로 정리).
+ * 값은 CacheEnvelope(계산 시간, L2 만료 시각)로 감싸 저장하고,
+ * get(key, valueLoader)(@Cacheable(sync = true)) 경로에서 stampede 방지와 조기 갱신에 사용한다.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final RedisCache remote;
+    private final TwoLevelCacheManager manager;
+    private final StampedeProtector stampedeProtector;
+    private final CacheService cacheService;
+    private final Duration remoteTtl;
+
+    // L1 항목이 만들어진 네임스페이스 버전 (바뀌면 L1 전체 폐기)
+    private volatile long localVersion = -1;
+
+    private final Counter l1Hit;
+    private final Counter l1Miss;
+    private final Counter l2Hit;
+    private final Counter l2Miss;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+                         RedisCache remote,
+                         TwoLevelCacheManager manager,
+                         StampedeProtector stampedeProtector,
+                         CacheService cacheService,
+                         Duration remoteTtl,
+                         MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+        this.stampedeProtector = stampedeProtector;
+        this.cacheService = cacheService;
+        this.remoteTtl = remoteTtl;
+
+        this.l1Hit = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Miss = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hit = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Miss = tierCounter(meterRegistry, "l2", "miss");
+
+        Gauge.builder("cache.tier.hit.ratio", this, c -> ratio(c.l1Hit, c.l1Miss))
+                .tag("cache", name).tag("tier", "l1")
+                .register(meterRegistry);
+        Gauge.builder("cache.tier.hit.ratio", this, c -> ratio(c.l2Hit, c.l2Miss))
+                .tag("cache", name).tag("tier", "l2")
+                .register(meterRegistry);
+        Gauge.builder("cache.l1.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return unwrap(lookup(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = lookup(key);
+
+        if (wrapper != null) {
+            // 만료가 가까우면 한 요청만 미리 다시 계산 (나머지는 기존 값 사용)
+            if (wrapper.get() instanceof CacheEnvelope<?> envelope
+                    && stampedeProtector.shouldRefreshEarly(envelope.getDeltaMillis(), envelope.getExpiresAtMillis())) {
+                ValueWrapper refreshed = stampedeProtector.tryRefresh(name, localKey,
+                        () -> loadAndPut(key, valueLoader));
+                if (refreshed != null) {
+                    return (T) refreshed.get();
+                }
+            }
+            return (T) unwrap(wrapper).get();
+        }
+
+        // 미스: 같은 키는 노드당 하나의 로더만 실행
+        return stampedeProtector.load(name, localKey,
+                () -> loadAndPut(key, valueLoader),
+                () -> unwrap(remote.get(remoteKey(currentVersion(), key))));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        store(key, new CacheEnvelope<>(value, 0L, expiresAt()));
+    }
+
+    /**
+     * 여러 항목 일괄 저장 (워밍업용)
+     *
+     * L2 쓰기와 다른 노드의 L1 무효화 전파를 파이프라인 한 번으로 보낸다.
+     * 키 접두사와 값 직렬화는 L2 RedisCache 설정을 그대로 써서 put과 같은 형식으로 저장된다.
+     */
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        RedisCacheConfiguration config = remote.getCacheConfiguration();
+        String prefix = config.getKeyPrefixFor(name);
+        long version = currentVersion();
+        long expiresAt = expiresAt();
+
+        List<byte[][]> remoteEntries = new ArrayList<>(entries.size());
+        List<String> localKeys = new ArrayList<>(entries.size());
+        entries.forEach((key, value) -> {
+            String localKey = toLocalKey(key);
+            CacheEnvelope<?> envelope = new CacheEnvelope<>(value, 0L, expiresAt);
+            remoteEntries.add(new byte[][]{
+                    ByteUtils.getBytes(config.getKeySerializationPair().write(prefix + remoteKey(version, key))),
+                    ByteUtils.getBytes(config.getValueSerializationPair().write(envelope))});
+            localKeys.add(localKey);
+        });
+
+        manager.writeAndPublishEvicts(name, remoteEntries, remoteTtl, localKeys);
+        // 대량 적재로 L1이 밀려나지 않도록 L1에는 넣지 않고 이전 값만 제거
+        local.invalidateAll(localKeys);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+
+        remote.evict(remoteKey(currentVersion(), key));
+        local.invalidate(localKey);
+        manager.publishEvict(name, localKey);
+    }
+
+    /**
+     * 전체 삭제: 네임스페이스 버전만 올림 (키 스캔 없음)
+     */
+    @Override
+    public void clear() {
+        cacheService.invalidateNamespace(name);
+        local.invalidateAll();
+        manager.publishClear(name);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지 반영 (L1만)
+     */
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        cacheService.forgetNamespaceVersion(name);
+        local.invalidateAll();
+    }
+
+    /**
+     * L1 → L2 순서로 조회 (CacheEnvelope 그대로 반환)
+     */
+    private ValueWrapper lookup(Object key) {
+        long version = currentVersion();
+        String localKey = toLocalKey(key);
+
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            l1Hit.increment();
+            return wrapper;
+        }
+        l1Miss.increment();
+
+        wrapper = remote.get(remoteKey(version, key));
+        if (wrapper != null) {
+            l2Hit.increment();
+            local.put(localKey, wrapper);
+        } else {
+            l2Miss.increment();
+        }
+        return wrapper;
+    }
+
+    private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+        long startedAt = System.currentTimeMillis();
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        long deltaMillis = System.currentTimeMillis() - startedAt;
+        store(key, new CacheEnvelope<>(value, deltaMillis, expiresAt()));
+        return value;
+    }
+
+    private void store(Object key, CacheEnvelope<?> envelope) {
+        String localKey = toLocalKey(key);
+
+        remote.put(remoteKey(currentVersion(), key), envelope);
+        local.put(localKey, new SimpleValueWrapper(envelope));
+        manager.publishEvict(name, localKey);
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + remoteTtl.toMillis();
+    }
+
+    /**
+     * CacheEnvelope를 벗겨 실제 값만 반환 (감싸지 않은 이전 형식도 그대로 허용)
+     */
+    private static ValueWrapper unwrap(ValueWrapper wrapper) {
+        if (wrapper != null && wrapper.get() instanceof CacheEnvelope<?> envelope) {
+            return new SimpleValueWrapper(envelope.getValue());
+        }
+        return wrapper;
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * 현재 네임스페이스 버전 (무효화 알림을 놓쳐도 버전 확인 주기 안에 L1이 정리됨)
+     */
+    private long currentVersion() {
+        long version = cacheService.getNamespaceVersion(name);
+        if (version != localVersion) {
+            localVersion = version;
+            local.invalidateAll();
+        }
+        return version;
+    }
+
+    private String remoteKey(long version, Object key) {
+        return "v" + version + ":" + toLocalKey(key);
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static double ratio(Counter hit, Counter miss) {
+        double total = hit.count() + miss.count();
+        return total == 0 ? 0 : hit.count() / total;
+    }
+}
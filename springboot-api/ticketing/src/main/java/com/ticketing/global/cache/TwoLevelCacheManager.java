@@ -0,0 +1,166 @@
+package com.ticketing.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketing.global.service.CacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caffeine L1 + Redis L2 캐시 매니저
+ *
+ * 캐시 변경은 Redis pub/sub 채널로 전파되어 모든 노드의 L1에서 제거된다.
+ * 메시지를 놓치더라도 L1 TTL이 지나면 L2에서 다시 읽으므로 불일치 시간은 TTL로 제한된다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private static final String DELIMITER = "|";
+    private static final String EVICT = "EVICT";
+    private static final String CLEAR = "CLEAR";
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StampedeProtector stampedeProtector;
+    private final CacheService cacheService;
+    private final MeterRegistry meterRegistry;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final Duration remoteTtl;
+
+    // 자신이 보낸 메시지는 무시하기 위한 노드 식별자
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                RedisTemplate<String, String> redisTemplate,
+                                StampedeProtector stampedeProtector,
+                                CacheService cacheService,
+                                MeterRegistry meterRegistry,
+                                long maximumSize,
+                                Duration ttl,
+                                Duration remoteTtl) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.stampedeProtector = stampedeProtector;
+        this.cacheService = cacheService;
+        this.meterRegistry = meterRegistry;
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.remoteTtl = remoteTtl;
+    }
+
+    @Override
+    public TwoLevelCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoLevelCache createCache(String name) {
+        if (!(redisCacheManager.getCache(name) instanceof RedisCache remote)) {
+            throw new IllegalStateException("Redis cache를 생성할 수 없습니다: " + name);
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+
+        return new TwoLevelCache(name, local, remote, this, stampedeProtector, cacheService, remoteTtl,
+                meterRegistry);
+    }
+
+    /**
+     * 키 단위 무효화 전파
+     */
+    void publishEvict(String cacheName, String key) {
+        publish(String.join(DELIMITER, nodeId, EVICT, cacheName, key));
+    }
+
+    /**
+     * 캐시 전체 무효화 전파
+     */
+    void publishClear(String cacheName) {
+        publish(String.join(DELIMITER, nodeId, CLEAR, cacheName));
+    }
+
+    /**
+     * L2 항목 일괄 쓰기 + 키 단위 무효화 전파 (파이프라인 한 번, 같은 연결이라 쓰기 후 전파 순서 유지)
+     */
+    void writeAndPublishEvicts(String cacheName, List<byte[][]> remoteEntries, Duration remoteTtl,
+                               List<String> keys) {
+        byte[] channel = INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+        Expiration expiration = Expiration.from(remoteTtl);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[][] entry : remoteEntries) {
+                connection.stringCommands().set(entry[0], entry[1], expiration,
+                        RedisStringCommands.SetOption.upsert());
+            }
+            for (String key : keys) {
+                connection.publish(channel,
+                        String.join(DELIMITER, nodeId, EVICT, cacheName, key).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 TTL 만료로 정리된다
+            log.warn("Failed to publish cache invalidation: message={}, error={}", message, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER, 4);
+
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+
+        log.debug("Cache invalidation received: {}", body);
+    }
+}
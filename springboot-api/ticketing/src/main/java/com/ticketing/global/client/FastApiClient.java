@@ -1,82 +1,184 @@
 package com.ticketing.global.client;
 
+import com.ticketing.domain.recommendation.dto.BatchRecommendationRequest;
+import com.ticketing.domain.recommendation.dto.BatchRecommendationResponse;
 import com.ticketing.domain.recommendation.dto.RecommendationRequest;
 import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+/**
+ * FastAPI 호출 (논블로킹)
+ *
+ * 모든 메서드는 CompletableFuture를 바로 반환하고 I/O는 Reactor Netty 이벤트 루프에서 처리한다.
+ * 완료 콜백은 이벤트 루프 스레드에서 실행되므로 호출 측에서 DB/Redis 같은 블로킹 작업을 이어 붙일 때는
+ * 별도 executor(...Async)를 써야 한다.
+ *
+ * 추천 호출은 Resilience4j로 감싼다 (바깥부터 CircuitBreaker -> TimeLimiter -> Bulkhead).
+ * 실패/타임아웃/서킷 열림/동시 호출 초과는 예외로 완료되며, 대체 추천은 호출 측(RecommendationService)이 만든다.
+ * 사용자별 추천은 몇 ms 동안 모아 배치 엔드포인트 한 번으로 보낸다 (RecommendationBatcher).
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FastApiClient {
 
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
     private final WebClient fastApiWebClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${fastapi.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${fastapi.batch.max-size:64}")
+    private int batchMaxSize;
+
+    @Value("${fastapi.batch.max-wait-ms:5}")
+    private long batchMaxWaitMillis;
+
+    @Value("${fastapi.batch.max-in-flight:8}")
+    private int batchMaxInFlight;
+
+    @Value("${fastapi.batch.timeout-ms:3000}")
+    private long batchTimeoutMillis;
+
+    @Value("${fastapi.timeout.train-minutes:5}")
+    private long trainTimeoutMinutes;
 
-    public RecommendationResponse getRecommendations(Long userId, Integer limit) {
+    @Value("${fastapi.timeout.health-ms:3000}")
+    private long healthTimeoutMillis;
+
+    private RecommendationBatcher recommendationBatcher;
+
+    @PostConstruct
+    public void init() {
+        if (batchEnabled) {
+            recommendationBatcher = new RecommendationBatcher(this::postBatchRecommendations,
+                    batchMaxSize, Duration.ofMillis(batchMaxWaitMillis), batchMaxInFlight, meterRegistry);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (recommendationBatcher != null) {
+            recommendationBatcher.shutdown();
+        }
+    }
+
+    /**
+     * 사용자 추천 (실패는 예외로 완료, 응답 본문이 없으면 빈 추천)
+     */
+    @CircuitBreaker(name = "recommendationService")
+    @TimeLimiter(name = "recommendationService")
+    @Bulkhead(name = "recommendationService", type = Bulkhead.Type.SEMAPHORE)
+    public CompletableFuture<RecommendationResponse> getRecommendations(Long userId, Integer limit) {
+
+        if (recommendationBatcher != null) {
+            return recommendationBatcher.submit(userId, limit != null ? limit : 10);
+        }
 
         RecommendationRequest request = RecommendationRequest.builder()
                 .userId(userId)
                 .limit(limit)
                 .build();
 
-        try {
-            RecommendationResponse response = fastApiWebClient.post()
-                    .uri("/api/v1/recommendations")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(RecommendationResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+        return fastApiWebClient.post()
+                .uri("/api/v1/recommendations")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(RecommendationResponse.class)
+                .defaultIfEmpty(createEmptyResponse(userId))
+                .toFuture();
+    }
+
+    /**
+     * 여러 사용자 추천을 한 번에 요청 (응답 순서는 보장하지 않으며 userId로 매칭)
+     * 사전 계산 같은 백그라운드 작업용으로 서킷 브레이커를 거치지 않는다 (호출 측에서 상태 확인)
+     */
+    public CompletableFuture<List<RecommendationResponse>> getBatchRecommendations(List<RecommendationRequest> requests) {
+        return postBatchRecommendations(requests);
+    }
 
-            return response != null ? response : createEmptyResponse(userId);
+    private CompletableFuture<List<RecommendationResponse>> postBatchRecommendations(List<RecommendationRequest> requests) {
 
-        } catch (Exception e) {
-            log.error("FastAPI call failed: {}", e.getMessage());
-            return createEmptyResponse(userId);
-        }
+        return fastApiWebClient.post()
+                .uri("/api/v1/recommendations/batch")
+                .bodyValue(BatchRecommendationRequest.builder().requests(requests).build())
+                .retrieve()
+                .bodyToMono(BatchRecommendationResponse.class)
+                // 호출자가 타임아웃돼도 동시 배치 슬롯은 이 시간 안에 반환
+                .timeout(Duration.ofMillis(batchTimeoutMillis))
+                .map(BatchRecommendationResponse::getResults)
+                .defaultIfEmpty(List.of())
+                .toFuture();
     }
 
-    public Map<String, Object> trainModel(boolean forceRetrain) {
-
-        try {
-            return fastApiWebClient.post()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/api/v1/recommendations/train")
-                            .queryParam("force_retrain", forceRetrain)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofMinutes(5))
-                    .block();
-        } catch (Exception e) {
-            log.error("Model training failed: {}", e.getMessage());
-            throw new RuntimeException("모델 학습 실패: " + e.getMessage());
-        }
+    /**
+     * 모델 학습 (수 분 걸릴 수 있음, 실패는 예외로 완료)
+     * 백그라운드 작업이므로 연결 실패만 재시도한다 (사용자 요청 경로의 추천 호출은 재시도하지 않음)
+     */
+    @Retry(name = "fastApiTraining")
+    public CompletableFuture<Map<String, Object>> trainModel(boolean forceRetrain) {
+
+        Duration timeout = Duration.ofMinutes(trainTimeoutMinutes);
+        return fastApiWebClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/recommendations/train")
+                        .queryParam("force_retrain", forceRetrain)
+                        .build())
+                // 기본 응답 타임아웃(read)보다 길게 기다린다
+                .httpRequest(httpRequest -> {
+                    HttpClientRequest reactorRequest = httpRequest.getNativeRequest();
+                    reactorRequest.responseTimeout(timeout);
+                })
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .timeout(timeout)
+                .defaultIfEmpty(Map.of())
+                .doOnError(e -> log.error("Model training failed: {}", e.getMessage()))
+                .toFuture();
     }
 
-    public boolean checkHealth() {
-        try {
-            Map<String, Object> response = fastApiWebClient.get()
-                    .uri("/health")
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(3))
-                    .block();
-
-            boolean isHealthy = response != null && "healthy".equals(response.get("status"));
-            log.info("FastAPI health: {}", isHealthy ? "healthy" : "unhealthy");
-            return isHealthy;
-
-        } catch (Exception e) {
-            log.warn("Health check failed: {}", e.getMessage());
-            return false;
-        }
+    /**
+     * 상태 확인 (실패 시 false)
+     */
+    public CompletableFuture<Boolean> checkHealth() {
+
+        return fastApiWebClient.get()
+                .uri("/health")
+                .retrieve()
+                .bodyToMono(MAP_TYPE)
+                .timeout(Duration.ofMillis(healthTimeoutMillis))
+                .map(response -> "healthy".equals(response.get("status")))
+                .defaultIfEmpty(false)
+                .doOnNext(isHealthy -> log.info("FastAPI health: {}", isHealthy ? "healthy" : "unhealthy"))
+                .onErrorResume(e -> {
+                    log.warn("Health check failed: {}", e.getMessage());
+                    return Mono.just(false);
+                })
+                .toFuture();
     }
 
     private RecommendationResponse createEmptyResponse(Long userId) {
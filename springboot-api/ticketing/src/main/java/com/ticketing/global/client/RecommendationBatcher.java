@@ -0,0 +1,278 @@
+package com.ticketing.global.client;
+
+import com.ticketing.domain.recommendation.dto.RecommendationRequest;
+import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자별 추천 요청 마이크로 배칭
+ *
+ * 동시에 들어온 요청을 최대 maxWait 동안 모아 한 번의 배치 요청으로 보내고, 결과를 사용자별로 나눠 돌려준다.
+ * maxBatchSize가 차면 기다리지 않고 바로 보낸다. 동시에 보내는 배치 수는 maxInFlight로 제한하고,
+ * 초과분은 앞선 배치가 끝나는 대로 이어서 보낸다.
+ * 같은 사용자의 요청은 한 항목으로 합친다 (가장 큰 limit으로 요청 후 호출자별 limit만큼 잘라 반환).
+ * 배치 안에서 실패했거나 응답에 빠진 사용자는 예외로 완료해 호출 측 폴백이 동작하게 한다 (빈 추천을 성공으로 캐시하지 않음).
+ */
+@Slf4j
+public class RecommendationBatcher {
+
+    private final Function<List<RecommendationRequest>, CompletableFuture<List<RecommendationResponse>>> sender;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int maxInFlight;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "recommendation-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private final Map<Long, Entry> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> flushTask;
+    // 대기 시간이 지났지만 동시 배치 한도 때문에 아직 못 보낸 상태
+    private boolean overdue;
+    private int inFlight;
+
+    private final DistributionSummary batchSize;
+    private final Timer waitTimer;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public RecommendationBatcher(Function<List<RecommendationRequest>, CompletableFuture<List<RecommendationResponse>>> sender,
+                                 int maxBatchSize, Duration maxWait, int maxInFlight, MeterRegistry meterRegistry) {
+        this.sender = sender;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxInFlight = Math.max(1, maxInFlight);
+
+        this.batchSize = DistributionSummary.builder("recommendation.batch.size")
+                .description("배치 요청 1건에 담긴 사용자 수")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("recommendation.batch.wait")
+                .description("요청이 배치에 실려 전송되기까지 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.successTimer = Timer.builder("recommendation.batch.latency")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("recommendation.batch.latency")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("recommendation.batch.pending", this, RecommendationBatcher::pendingSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 추천 요청 (다음 배치에 실림)
+     */
+    public CompletableFuture<RecommendationResponse> submit(Long userId, int limit) {
+        CompletableFuture<RecommendationResponse> future = new CompletableFuture<>();
+        Waiter waiter = new Waiter(limit, System.nanoTime(), future);
+
+        List<Batch> ready;
+        synchronized (lock) {
+            boolean first = pending.isEmpty();
+            pending.computeIfAbsent(userId, id -> new Entry()).waiters.add(waiter);
+            if (first && flushTask == null && !overdue) {
+                flushTask = scheduler.schedule(this::flushOnTimer, maxWaitNanos, TimeUnit.NANOSECONDS);
+            }
+            ready = drainReady();
+        }
+        send(ready);
+        return future;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    int pendingSize() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private void flushOnTimer() {
+        List<Batch> ready;
+        synchronized (lock) {
+            flushTask = null;
+            overdue = !pending.isEmpty();
+            ready = drainReady();
+        }
+        send(ready);
+    }
+
+    private void onBatchDone() {
+        List<Batch> ready;
+        synchronized (lock) {
+            inFlight--;
+            ready = drainReady();
+        }
+        send(ready);
+    }
+
+    // lock 안에서 호출: 보낼 수 있는 배치를 꺼냄
+    private List<Batch> drainReady() {
+        List<Batch> ready = null;
+        while (!pending.isEmpty() && inFlight < maxInFlight && (overdue || pending.size() >= maxBatchSize)) {
+            Batch batch = take();
+            if (batch.userIds.isEmpty()) {
+                continue;
+            }
+            if (ready == null) {
+                ready = new ArrayList<>(1);
+            }
+            ready.add(batch);
+            inFlight++;
+        }
+
+        if (pending.isEmpty()) {
+            overdue = false;
+            if (flushTask != null) {
+                flushTask.cancel(false);
+                flushTask = null;
+            }
+        } else if (!overdue && flushTask == null) {
+            flushTask = scheduler.schedule(this::flushOnTimer, maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+        return ready != null ? ready : List.of();
+    }
+
+    // 앞에서부터 maxBatchSize명 (호출자가 모두 취소/타임아웃된 사용자는 보내지 않음)
+    private Batch take() {
+        Batch batch = new Batch();
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Long, Entry>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext() && batch.userIds.size() < maxBatchSize) {
+            Map.Entry<Long, Entry> next = iterator.next();
+            iterator.remove();
+
+            Entry entry = next.getValue();
+            entry.waiters.removeIf(waiter -> waiter.future.isDone());
+            if (entry.waiters.isEmpty()) {
+                continue;
+            }
+            int limit = 0;
+            for (Waiter waiter : entry.waiters) {
+                limit = Math.max(limit, waiter.limit);
+                waitTimer.record(now - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+            }
+            batch.userIds.add(next.getKey());
+            batch.requests.add(RecommendationRequest.builder().userId(next.getKey()).limit(limit).build());
+            batch.entries.add(entry);
+        }
+        return batch;
+    }
+
+    private void send(List<Batch> batches) {
+        for (Batch batch : batches) {
+            batchSize.record(batch.userIds.size());
+            long startedAt = System.nanoTime();
+
+            CompletableFuture<List<RecommendationResponse>> result;
+            try {
+                result = sender.apply(batch.requests);
+            } catch (Exception e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+
+            result.whenComplete((responses, error) -> {
+                try {
+                    (error == null ? successTimer : failureTimer)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    if (error != null) {
+                        log.warn("Recommendation batch failed: users={}, cause={}", batch.userIds.size(), error.toString());
+                        batch.entries.forEach(entry -> entry.waiters.forEach(w -> w.future.completeExceptionally(error)));
+                    } else {
+                        fanOut(batch, responses);
+                    }
+                } finally {
+                    onBatchDone();
+                }
+            });
+        }
+    }
+
+    // 배치 응답을 호출자별로 나눔 (실패했거나 응답에 없는 사용자는 예외로 완료)
+    private static void fanOut(Batch batch, List<RecommendationResponse> responses) {
+        Map<Long, RecommendationResponse> byUser = new HashMap<>(batch.userIds.size() * 2);
+        if (responses != null) {
+            for (RecommendationResponse response : responses) {
+                if (response != null && response.getUserId() != null) {
+                    byUser.put(response.getUserId(), response);
+                }
+            }
+        }
+
+        for (int i = 0; i < batch.userIds.size(); i++) {
+            Long userId = batch.userIds.get(i);
+            RecommendationResponse response = byUser.get(userId);
+            if (response == null || response.getError() != null) {
+                IllegalStateException error = new IllegalStateException(response == null
+                        ? "Recommendation missing from batch response: userId=" + userId
+                        : "Recommendation failed in batch: userId=" + userId + ", cause=" + response.getError());
+                batch.entries.get(i).waiters.forEach(waiter -> waiter.future.completeExceptionally(error));
+                continue;
+            }
+            for (Waiter waiter : batch.entries.get(i).waiters) {
+                waiter.future.complete(copyFor(userId, response, waiter.limit));
+            }
+        }
+    }
+
+    // 호출자마다 별도 객체 (호출 측에서 추천 목록을 보강/수정하므로 공유하지 않음)
+    private static RecommendationResponse copyFor(Long userId, RecommendationResponse response, int limit) {
+        List<EventRecommendation> recommendations = new ArrayList<>();
+        if (response.getRecommendations() != null) {
+            List<EventRecommendation> source = response.getRecommendations();
+            for (int i = 0; i < source.size() && i < limit; i++) {
+                EventRecommendation recommendation = source.get(i);
+                recommendations.add(EventRecommendation.builder()
+                        .eventId(recommendation.getEventId())
+                        .title(recommendation.getTitle())
+                        .score(recommendation.getScore())
+                        .reason(recommendation.getReason())
+                        .build());
+            }
+        }
+        return RecommendationResponse.builder()
+                .userId(userId)
+                .recommendations(recommendations)
+                .generatedAt(response.getGeneratedAt())
+                .build();
+    }
+
+    private static final class Entry {
+        private final List<Waiter> waiters = new ArrayList<>(1);
+    }
+
+    private record Waiter(int limit, long enqueuedAt, CompletableFuture<RecommendationResponse> future) {
+    }
+
+    private static final class Batch {
+        private final List<Long> userIds = new ArrayList<>();
+        private final List<RecommendationRequest> requests = new ArrayList<>();
+        private final List<Entry> entries = new ArrayList<>();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.global.cache.CacheEnvelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 직렬화 (등록된 DTO는 바이너리, 나머지는 JSON)
+ *
+ * 바이너리 형식: [MAGIC][typeId][version][필드...]
+ * CacheEnvelope: [MAGIC][ENVELOPE][version][deltaMillis][expiresAtMillis][typeId][version][필드...]
+ *
+ * JSON은 '{', '[', '"' 등 ASCII 문자로 시작하므로 첫 바이트로 두 형식을 구분하고,
+ * 배포 중 섞여 있는 기존 JSON 값도 그대로 읽는다.
+ * 알 수 없는 typeId/version(새 버전 노드가 쓴 값)은 캐시 미스(null)로 처리한다.
+ */
+@Slf4j
+public class BinaryCacheSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xB1;
+    static final int ENVELOPE_TYPE_ID = 0;
+    static final int ENVELOPE_VERSION = 1;
+
+    private final RedisSerializer<Object> fallback;
+    private final Map<Class<?>, BinaryCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, BinaryCodec<?>> codecsById = new HashMap<>();
+
+    public BinaryCacheSerializer(RedisSerializer<Object> fallback) {
+        this(fallback, List.of(
+                new EventResponseCodec(),
+                new TicketResponseCodec(),
+                new RecommendationResponseCodec(),
+                new ReservationResponseCodec(),
+                new CachedRecommendationsCodec()));
+    }
+
+    public BinaryCacheSerializer(RedisSerializer<Object> fallback, List<BinaryCodec<?>> codecs) {
+        this.fallback = fallback;
+        for (BinaryCodec<?> codec : codecs) {
+            if (codec.typeId() == ENVELOPE_TYPE_ID || codecsById.put(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("Duplicate or reserved typeId: " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof CacheEnvelope<?> envelope) {
+            BinaryCodec<?> codec = codecFor(envelope.getValue());
+            if (codec == null) {
+                return fallback.serialize(value);
+            }
+
+            BinaryWriter writer = new BinaryWriter();
+            writer.writeByte(MAGIC);
+            writer.writeByte(ENVELOPE_TYPE_ID);
+            writer.writeByte(ENVELOPE_VERSION);
+            writer.writeVarLong(envelope.getDeltaMillis());
+            writer.writeVarLong(envelope.getExpiresAtMillis());
+            writeValue(writer, codec, envelope.getValue());
+            return writer.toByteArray();
+        }
+
+        BinaryCodec<?> codec = codecFor(value);
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        BinaryWriter writer = new BinaryWriter();
+        writer.writeByte(MAGIC);
+        writeValue(writer, codec, value);
+        return writer.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            BinaryReader reader = new BinaryReader(bytes, 1);
+            int typeId = reader.readByte();
+            int version = reader.readByte();
+
+            if (typeId == ENVELOPE_TYPE_ID) {
+                if (version > ENVELOPE_VERSION) {
+                    return unknown(typeId, version);
+                }
+                long deltaMillis = reader.readVarLong();
+                long expiresAtMillis = reader.readVarLong();
+                Object value = readValue(reader, reader.readByte(), reader.readByte());
+                return value != null ? new CacheEnvelope<>(value, deltaMillis, expiresAtMillis) : null;
+            }
+
+            return readValue(reader, typeId, version);
+
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to decode binary cache value", e);
+        }
+    }
+
+    private BinaryCodec<?> codecFor(Object value) {
+        return value != null ? codecsByType.get(value.getClass()) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void writeValue(BinaryWriter writer, BinaryCodec<T> codec, Object value) {
+        writer.writeByte(codec.typeId());
+        writer.writeByte(codec.version());
+        codec.encode(writer, (T) value);
+    }
+
+    private Object readValue(BinaryReader reader, int typeId, int version) {
+        BinaryCodec<?> codec = codecsById.get(typeId);
+        if (codec == null || version > codec.version()) {
+            return unknown(typeId, version);
+        }
+        return codec.decode(reader, version);
+    }
+
+    private Object unknown(int typeId, int version) {
+        log.debug("Unknown binary cache schema, treating as miss: typeId={}, version={}", typeId, version);
+        return null;
+    }
+}
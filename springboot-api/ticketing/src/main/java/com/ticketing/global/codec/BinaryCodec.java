@@ -0,0 +1,41 @@
+package com.ticketing.global.codec;
+
+/**
+ * 캐시 DTO 하나의 바이너리 스키마
+ *
+ * 필드는 정해진 순서로 기록하고, 앞에 null이 아닌 필드의 비트마스크를 둔다.
+ * 필드를 추가/변경하면 version을 올리고 decode에서 이전 버전도 계속 읽을 수 있게 유지한다.
+ * typeId는 한 번 정하면 바꾸지 않는다.
+ */
+public interface BinaryCodec<T> {
+
+    int typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void encode(BinaryWriter writer, T value);
+
+    /**
+     * @param version 값을 기록할 때의 스키마 버전 (현재 version() 이하)
+     */
+    T decode(BinaryReader reader, int version);
+
+    /**
+     * null이 아닌 필드의 비트마스크 (인자 순서 = 비트 순서)
+     */
+    static long presence(Object... fields) {
+        long mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1L << i;
+            }
+        }
+        return mask;
+    }
+
+    static boolean has(long mask, int field) {
+        return (mask & (1L << field)) != 0;
+    }
+}
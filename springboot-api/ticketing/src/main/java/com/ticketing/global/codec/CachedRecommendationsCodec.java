@@ -0,0 +1,69 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.domain.recommendation.dto.CachedRecommendations;
+
+/**
+ * 추천 캐시 항목: [fetchLimit][generatedAt][size][eventId delta...][score(float32)...][reason code...]
+ *
+ * eventId는 앞 항목과의 차이를 zigzag varint로 쓴다 (가까운 시기의 Snowflake ID는 상위 비트가 같음).
+ */
+public class CachedRecommendationsCodec implements BinaryCodec<CachedRecommendations> {
+
+    @Override
+    public int typeId() {
+        return 5;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<CachedRecommendations> type() {
+        return CachedRecommendations.class;
+    }
+
+    @Override
+    public void encode(BinaryWriter writer, CachedRecommendations value) {
+        writer.writeVarLong(value.getFetchLimit());
+        writer.writeVarLong(value.getGeneratedAtMillis());
+
+        long[] eventIds = value.getEventIds();
+        writer.writeVarLong(eventIds.length);
+        long previous = 0;
+        for (long eventId : eventIds) {
+            writer.writeSignedVarLong(eventId - previous);
+            previous = eventId;
+        }
+        for (float score : value.getScores()) {
+            writer.writeFloat(score);
+        }
+        for (byte reasonCode : value.getReasonCodes()) {
+            writer.writeByte(reasonCode);
+        }
+    }
+
+    @Override
+    public CachedRecommendations decode(BinaryReader reader, int version) {
+        int fetchLimit = (int) reader.readVarLong();
+        long generatedAtMillis = reader.readVarLong();
+
+        int size = (int) reader.readVarLong();
+        long[] eventIds = new long[size];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += reader.readSignedVarLong();
+            eventIds[i] = previous;
+        }
+        float[] scores = new float[size];
+        for (int i = 0; i < size; i++) {
+            scores[i] = reader.readFloat();
+        }
+        byte[] reasonCodes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            reasonCodes[i] = (byte) reader.readByte();
+        }
+        return new CachedRecommendations(eventIds, scores, reasonCodes, fetchLimit, generatedAtMillis);
+    }
+}
@@ -0,0 +1,108 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.ticket.dto.TicketResponse;
+import com.ticketing.global.enums.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ticketing.global.codec.BinaryCodec.has;
+import static com.ticketing.global.codec.BinaryCodec.presence;
+
+public class EventResponseCodec implements BinaryCodec<EventResponse> {
+
+    private final TicketResponseCodec ticketCodec = new TicketResponseCodec();
+
+    @Override
+    public int typeId() {
+        return 1;
+    }
+
+    @Override
+    public int version() {
+        // v2: updatedAt 추가, v3: 티켓 목록 앞에 티켓 코덱 버전 기록
+        return 3;
+    }
+
+    @Override
+    public Class<EventResponse> type() {
+        return EventResponse.class;
+    }
+
+    @Override
+    public void encode(BinaryWriter writer, EventResponse value) {
+        writer.writeVarLong(presence(value.getId(), value.getTitle(), value.getDescription(), value.getCategory(),
+                value.getVenue(), value.getEventDate(), value.getImageUrl(), value.getTotalStock(),
+                value.getCreatedAt(), value.getTickets(), value.getUpdatedAt()));
+
+        if (value.getId() != null) {
+            writer.writeSignedVarLong(value.getId());
+        }
+        if (value.getTitle() != null) {
+            writer.writeString(value.getTitle());
+        }
+        if (value.getDescription() != null) {
+            writer.writeString(value.getDescription());
+        }
+        if (value.getCategory() != null) {
+            // ordinal 대신 이름을 기록해 enum 순서가 바뀌어도 안전하게 유지
+            writer.writeString(value.getCategory().name());
+        }
+        if (value.getVenue() != null) {
+            writer.writeString(value.getVenue());
+        }
+        if (value.getEventDate() != null) {
+            writer.writeDateTime(value.getEventDate());
+        }
+        if (value.getImageUrl() != null) {
+            writer.writeString(value.getImageUrl());
+        }
+        if (value.getTotalStock() != null) {
+            writer.writeSignedVarLong(value.getTotalStock());
+        }
+        if (value.getCreatedAt() != null) {
+            writer.writeDateTime(value.getCreatedAt());
+        }
+        if (value.getTickets() != null) {
+            writer.writeVarLong(ticketCodec.version());
+            writer.writeVarLong(value.getTickets().size());
+            for (TicketResponse ticket : value.getTickets()) {
+                ticketCodec.encode(writer, ticket);
+            }
+        }
+        if (value.getUpdatedAt() != null) {
+            writer.writeDateTime(value.getUpdatedAt());
+        }
+    }
+
+    @Override
+    public EventResponse decode(BinaryReader reader, int version) {
+        long mask = reader.readVarLong();
+
+        return EventResponse.builder()
+                .id(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .title(has(mask, 1) ? reader.readString() : null)
+                .description(has(mask, 2) ? reader.readString() : null)
+                .category(has(mask, 3) ? Category.valueOf(reader.readString()) : null)
+                .venue(has(mask, 4) ? reader.readString() : null)
+                .eventDate(has(mask, 5) ? reader.readDateTime() : null)
+                .imageUrl(has(mask, 6) ? reader.readString() : null)
+                .totalStock(has(mask, 7) ? reader.readSignedVarLong() : null)
+                .createdAt(has(mask, 8) ? reader.readDateTime() : null)
+                .tickets(has(mask, 9) ? decodeTickets(reader, version) : null)
+                .updatedAt(version >= 2 && has(mask, 10) ? reader.readDateTime() : null)
+                .build();
+    }
+
+    // v2 이하는 티켓 코덱 버전을 기록하지 않았음 (당시 티켓 코덱은 v1)
+    private List<TicketResponse> decodeTickets(BinaryReader reader, int version) {
+        int ticketVersion = version >= 3 ? (int) reader.readVarLong() : 1;
+        int size = (int) reader.readVarLong();
+        List<TicketResponse> tickets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tickets.add(ticketCodec.decode(reader, ticketVersion));
+        }
+        return tickets;
+    }
+}
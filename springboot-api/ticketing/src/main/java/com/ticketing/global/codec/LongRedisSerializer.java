@@ -0,0 +1,46 @@
+package com.ticketing.global.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 카운터용 long 직렬화 (10진수 ASCII)
+ *
+ * Redis INCR/DECR/INCRBY가 그대로 동작하는 형식이며 JSON 타입 정보가 붙지 않는다.
+ */
+public class LongRedisSerializer implements RedisSerializer<Long> {
+
+    @Override
+    public byte[] serialize(Long value) throws SerializationException {
+        return value != null ? Long.toString(value).getBytes(StandardCharsets.US_ASCII) : null;
+    }
+
+    @Override
+    public Long deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        long result = 0;
+        int i = 0;
+        boolean negative = bytes[0] == '-';
+        if (negative) {
+            i = 1;
+        }
+        for (; i < bytes.length; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new SerializationException("Not a long counter: " + new String(bytes, StandardCharsets.US_ASCII));
+            }
+            result = result * 10 + digit;
+        }
+        return negative ? -result : result;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return Long.class;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ticketing.global.codec.BinaryCodec.has;
+import static com.ticketing.global.codec.BinaryCodec.presence;
+
+public class RecommendationResponseCodec implements BinaryCodec<RecommendationResponse> {
+
+    @Override
+    public int typeId() {
+        return 3;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<RecommendationResponse> type() {
+        return RecommendationResponse.class;
+    }
+
+    @Override
+    public void encode(BinaryWriter writer, RecommendationResponse value) {
+        writer.writeVarLong(presence(value.getUserId(), value.getRecommendations(), value.getGeneratedAt()));
+
+        if (value.getUserId() != null) {
+            writer.writeSignedVarLong(value.getUserId());
+        }
+        if (value.getRecommendations() != null) {
+            writer.writeVarLong(value.getRecommendations().size());
+            for (EventRecommendation recommendation : value.getRecommendations()) {
+                encodeRecommendation(writer, recommendation);
+            }
+        }
+        if (value.getGeneratedAt() != null) {
+            writer.writeDateTime(value.getGeneratedAt());
+        }
+    }
+
+    @Override
+    public RecommendationResponse decode(BinaryReader reader, int version) {
+        long mask = reader.readVarLong();
+
+        return RecommendationResponse.builder()
+                .userId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .recommendations(has(mask, 1) ? decodeRecommendations(reader) : null)
+                .generatedAt(has(mask, 2) ? reader.readDateTime() : null)
+                .build();
+    }
+
+    private void encodeRecommendation(BinaryWriter writer, EventRecommendation recommendation) {
+        writer.writeVarLong(presence(recommendation.getEventId(), recommendation.getTitle(),
+                recommendation.getScore(), recommendation.getReason()));
+
+        if (recommendation.getEventId() != null) {
+            writer.writeSignedVarLong(recommendation.getEventId());
+        }
+        if (recommendation.getTitle() != null) {
+            writer.writeString(recommendation.getTitle());
+        }
+        if (recommendation.getScore() != null) {
+            writer.writeDouble(recommendation.getScore());
+        }
+        if (recommendation.getReason() != null) {
+            writer.writeString(recommendation.getReason());
+        }
+    }
+
+    private List<EventRecommendation> decodeRecommendations(BinaryReader reader) {
+        int size = (int) reader.readVarLong();
+        List<EventRecommendation> recommendations = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            long mask = reader.readVarLong();
+            recommendations.add(EventRecommendation.builder()
+                    .eventId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                    .title(has(mask, 1) ? reader.readString() : null)
+                    .score(has(mask, 2) ? reader.readDouble() : null)
+                    .reason(has(mask, 3) ? reader.readString() : null)
+                    .build());
+        }
+        return recommendations;
+    }
+}
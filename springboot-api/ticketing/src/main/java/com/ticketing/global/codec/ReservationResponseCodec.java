@@ -0,0 +1,85 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.domain.reservation.dto.ReservationResponse;
+import com.ticketing.global.enums.ReservationStatus;
+
+import static com.ticketing.global.codec.BinaryCodec.has;
+import static com.ticketing.global.codec.BinaryCodec.presence;
+
+public class ReservationResponseCodec implements BinaryCodec<ReservationResponse> {
+
+    @Override
+    public int typeId() {
+        return 4;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<ReservationResponse> type() {
+        return ReservationResponse.class;
+    }
+
+    @Override
+    public void encode(BinaryWriter writer, ReservationResponse value) {
+        writer.writeVarLong(presence(value.getId(), value.getTicketId(), value.getTicketName(), value.getUserId(),
+                value.getUserEmail(), value.getStatus(), value.getPrice(), value.getCreatedAt(),
+                value.getConfirmedAt(), value.getCancelledAt(), value.getExpired()));
+
+        if (value.getId() != null) {
+            writer.writeSignedVarLong(value.getId());
+        }
+        if (value.getTicketId() != null) {
+            writer.writeSignedVarLong(value.getTicketId());
+        }
+        if (value.getTicketName() != null) {
+            writer.writeString(value.getTicketName());
+        }
+        if (value.getUserId() != null) {
+            writer.writeSignedVarLong(value.getUserId());
+        }
+        if (value.getUserEmail() != null) {
+            writer.writeString(value.getUserEmail());
+        }
+        if (value.getStatus() != null) {
+            writer.writeString(value.getStatus().name());
+        }
+        if (value.getPrice() != null) {
+            writer.writeSignedVarLong(value.getPrice());
+        }
+        if (value.getCreatedAt() != null) {
+            writer.writeDateTime(value.getCreatedAt());
+        }
+        if (value.getConfirmedAt() != null) {
+            writer.writeDateTime(value.getConfirmedAt());
+        }
+        if (value.getCancelledAt() != null) {
+            writer.writeDateTime(value.getCancelledAt());
+        }
+        if (value.getExpired() != null) {
+            writer.writeByte(value.getExpired() ? 1 : 0);
+        }
+    }
+
+    @Override
+    public ReservationResponse decode(BinaryReader reader, int version) {
+        long mask = reader.readVarLong();
+
+        return ReservationResponse.builder()
+                .id(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .ticketId(has(mask, 1) ? reader.readSignedVarLong() : null)
+                .ticketName(has(mask, 2) ? reader.readString() : null)
+                .userId(has(mask, 3) ? reader.readSignedVarLong() : null)
+                .userEmail(has(mask, 4) ? reader.readString() : null)
+                .status(has(mask, 5) ? ReservationStatus.valueOf(reader.readString()) : null)
+                .price(has(mask, 6) ? reader.readSignedVarLong() : null)
+                .createdAt(has(mask, 7) ? reader.readDateTime() : null)
+                .confirmedAt(has(mask, 8) ? reader.readDateTime() : null)
+                .cancelledAt(has(mask, 9) ? reader.readDateTime() : null)
+                .expired(has(mask, 10) ? reader.readByte() == 1 : null)
+                .build();
+    }
+}
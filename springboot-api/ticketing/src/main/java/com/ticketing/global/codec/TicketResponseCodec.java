@@ -0,0 +1,71 @@
+package com.ticketing.global.codec;
+
+import com.ticketing.domain.ticket.dto.TicketResponse;
+
+import static com.ticketing.global.codec.BinaryCodec.has;
+import static com.ticketing.global.codec.BinaryCodec.presence;
+
+public class TicketResponseCodec implements BinaryCodec<TicketResponse> {
+
+    @Override
+    public int typeId() {
+        return 2;
+    }
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public Class<TicketResponse> type() {
+        return TicketResponse.class;
+    }
+
+    @Override
+    public void encode(BinaryWriter writer, TicketResponse value) {
+        writer.writeVarLong(presence(value.getId(), value.getEventId(), value.getEventTitle(), value.getName(),
+                value.getStock(), value.getPrice(), value.getAvailable(), value.getCreatedAt()));
+
+        if (value.getId() != null) {
+            writer.writeSignedVarLong(value.getId());
+        }
+        if (value.getEventId() != null) {
+            writer.writeSignedVarLong(value.getEventId());
+        }
+        if (value.getEventTitle() != null) {
+            writer.writeString(value.getEventTitle());
+        }
+        if (value.getName() != null) {
+            writer.writeString(value.getName());
+        }
+        if (value.getStock() != null) {
+            writer.writeSignedVarLong(value.getStock());
+        }
+        if (value.getPrice() != null) {
+            writer.writeSignedVarLong(value.getPrice());
+        }
+        if (value.getAvailable() != null) {
+            writer.writeByte(value.getAvailable() ? 1 : 0);
+        }
+        if (value.getCreatedAt() != null) {
+            writer.writeDateTime(value.getCreatedAt());
+        }
+    }
+
+    @Override
+    public TicketResponse decode(BinaryReader reader, int version) {
+        long mask = reader.readVarLong();
+
+        return TicketResponse.builder()
+                .id(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .eventId(has(mask, 1) ? reader.readSignedVarLong() : null)
+                .eventTitle(has(mask, 2) ? reader.readString() : null)
+                .name(has(mask, 3) ? reader.readString() : null)
+                .stock(has(mask, 4) ? reader.readSignedVarLong() : null)
+                .price(has(mask, 5) ? reader.readSignedVarLong() : null)
+                .available(has(mask, 6) ? reader.readByte() == 1 : null)
+                .createdAt(has(mask, 7) ? reader.readDateTime() : null)
+                .build();
+    }
+}
@@ -1,14 +1,26 @@
 package com.ticketing.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${recommendation.executor.core-size:8}")
+    private int recommendationCoreSize;
+
+    @Value("${recommendation.executor.max-size:32}")
+    private int recommendationMaxSize;
+
+    @Value("${recommendation.executor.queue-capacity:1000}")
+    private int recommendationQueueCapacity;
+
     @Override
     public Executor getAsyncExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -19,4 +31,22 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * FastAPI 응답 이후의 블로킹 작업(DB 보강, Redis 저장)용
+     * WebClient 완료 콜백은 Netty 이벤트 루프에서 실행되므로 여기로 넘겨서 처리한다.
+     * 큐가 가득 차면 거절 (호출 스레드 실행은 이벤트 루프에서 블로킹 작업을 돌리게 되므로 쓰지 않음)
+     * 거절된 작업의 future는 RejectedExecutionException으로 실패하고, 호출 측은 대체 응답으로 즉시 처리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor recommendationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(recommendationCoreSize);
+        executor.setMaxPoolSize(recommendationMaxSize);
+        executor.setQueueCapacity(recommendationQueueCapacity);
+        executor.setThreadNamePrefix("recommendation-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,68 @@
+package com.ticketing.global.config;
+
+import com.ticketing.domain.event.service.EventCatalog;
+import com.ticketing.global.cache.StampedeProtector;
+import com.ticketing.global.cache.TwoLevelCacheManager;
+import com.ticketing.global.existence.ExistenceFilter;
+import com.ticketing.global.service.CacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${cache.local.maximum-size:10000}")
+    private long localMaximumSize;
+
+    @Value("${cache.local.ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${cache.remote.ttl-seconds:3600}")
+    private long remoteTtlSeconds;
+
+    /**
+     * 캐시 매니저 (Caffeine L1 + Redis L2)
+     */
+    @Bean
+    @Primary
+    public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             StampedeProtector stampedeProtector,
+                                             CacheService cacheService,
+                                             MeterRegistry meterRegistry) {
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, stampedeProtector, cacheService,
+                meterRegistry, localMaximumSize, Duration.ofSeconds(localTtlSeconds), Duration.ofSeconds(remoteTtlSeconds));
+    }
+
+    /**
+     * 캐시 무효화 메시지 구독 (모든 노드의 L1 동기화)
+     * 존재 필터의 생성 ID 전파, 이벤트 카탈로그 변경 알림도 같은 컨테이너에서 구독
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager,
+            ExistenceFilter existenceFilter,
+            EventCatalog eventCatalog) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager,
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        container.addMessageListener(existenceFilter,
+                new ChannelTopic(ExistenceFilter.CREATED_CHANNEL));
+        container.addMessageListener(eventCatalog,
+                new ChannelTopic(EventCatalog.CHANGED_CHANNEL));
+        return container;
+    }
+}
@@ -1,7 +1,6 @@
 package com.ticketing.global.config;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -30,12 +29,12 @@ public class WebClientConfig {
 
     @Bean
     public WebClient fastApiWebClient() {
+        // 읽기 타임아웃은 responseTimeout으로만 건다 (요청별로 늘릴 수 있도록 채널 ReadTimeoutHandler는 두지 않음)
         HttpClient httpClient = HttpClient.create()
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
                 .responseTimeout(Duration.ofMillis(readTimeout))
                 .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(readTimeout, TimeUnit.MILLISECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS)));
+                        conn.addHandlerLast(new WriteTimeoutHandler(writeTimeout, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
                 .baseUrl(fastApiBaseUrl)
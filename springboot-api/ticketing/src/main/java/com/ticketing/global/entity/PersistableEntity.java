@@ -0,0 +1,32 @@
+package com.ticketing.global.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Snowflake로 ID를 직접 할당하는 엔티티의 공통 부모
+ *
+ * ID가 할당된 엔티티는 Spring Data가 기존 엔티티로 판단해 save() 시 merge(SELECT 후 INSERT)를 수행한다.
+ * 새로 생성한 객체는 isNew() == true로 persist 경로를 타게 하고,
+ * 저장/조회 이후에는 false로 바꿔 일반적인 변경 감지 흐름을 따른다.
+ */
+@MappedSuperclass
+public abstract class PersistableEntity implements Persistable<Long> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+}
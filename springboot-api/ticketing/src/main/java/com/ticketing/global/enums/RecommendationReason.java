@@ -0,0 +1,43 @@
+package com.ticketing.global.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 추천 이유 (캐시에는 code 1바이트만 저장하고 응답 시 message로 복원)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RecommendationReason {
+
+    UNKNOWN(0, null),
+    // FastAPI 협업 필터링 (점수 구간별)
+    SIMILAR_USERS_STRONG(1, "비슷한 취향의 사용자들이 매우 선호하는 이벤트입니다"),
+    SIMILAR_USERS(2, "당신과 유사한 사용자들이 좋아하는 이벤트입니다"),
+    RELATED(3, "관심 있을 만한 이벤트입니다"),
+    NEW_CATEGORY(4, "새로운 카테고리의 이벤트를 경험해보세요"),
+    // 로컬 대체 추천
+    CO_RESERVED(5, "함께 예약된 이벤트"),
+    POPULAR(6, "인기 이벤트"),
+    TRENDING(7, "지금 뜨는 이벤트");
+
+    private static final RecommendationReason[] BY_CODE = values();
+
+    private final int code;
+    private final String message;
+
+    public static RecommendationReason of(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : UNKNOWN;
+    }
+
+    public static RecommendationReason fromMessage(String message) {
+        if (message != null) {
+            for (RecommendationReason reason : BY_CODE) {
+                if (message.equals(reason.message)) {
+                    return reason;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ticketing.global.enums;
+
+public enum TrainingJobStatus {
+
+    RUNNING,    // 학습 중
+    SUCCEEDED,  // 학습 완료
+    FAILED      // 학습 실패 (타임아웃 / 작업 노드 중단 포함)
+}
@@ -0,0 +1,363 @@
+package com.ticketing.global.existence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.domain.user.repository.UserRepository;
+import com.ticketing.global.snowflake.Snowflake;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자/티켓/이벤트 ID 존재 필터 (Bloom filter + 짧은 TTL 네거티브 캐시)
+ *
+ * 없는 ID는 DB/Redis I/O 없이 JVM 안에서 거절한다.
+ * - Bloom filter: 기동 시 ID keyset 순회로 적재, 생성 시 추가 (Redis pub/sub으로 모든 노드에 전파)
+ * - 네거티브 캐시: 필터를 통과했지만 DB에 없던 ID (오탐)를 짧게 기억
+ * - 최근 발급 ID: Snowflake 시각이 recent-grace 안이면 필터/네거티브 캐시를 건너뛰고 DB로 보낸다.
+ *   커밋 전 조회나 pub/sub 전파 지연 때문에 방금 만든 엔티티가 거절되지 않도록 하기 위함.
+ * 적재가 끝나기 전에는 모든 ID를 통과시킨다.
+ */
+@Slf4j
+@Component
+public class ExistenceFilter implements MessageListener {
+
+    public static final String CREATED_CHANNEL = "existence:created";
+
+    private static final String DELIMITER = ":";
+    private static final String REBUILD = "REBUILD";
+
+    public enum Kind {
+        USER, TICKET, EVENT
+    }
+
+    private final Map<Kind, BiFunction<Long, Pageable, List<Long>>> idLoaders = new EnumMap<>(Kind.class);
+    private final Map<Kind, LongSupplier> counters = new EnumMap<>(Kind.class);
+    private final Map<Kind, Slot> slots = new EnumMap<>(Kind.class);
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "existence-filter-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${existence.enabled:true}")
+    private boolean enabled;
+
+    // 필터 최소 크기 (실제 크기는 max(이 값, 현재 건수 x growth-factor))
+    @Value("${existence.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${existence.growth-factor:2.0}")
+    private double growthFactor;
+
+    @Value("${existence.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${existence.negative-cache.ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    @Value("${existence.negative-cache.maximum-size:100000}")
+    private long negativeMaximumSize;
+
+    @Value("${existence.recent-grace-ms:10000}")
+    private long recentGraceMillis;
+
+    @Value("${existence.load-batch-size:10000}")
+    private int loadBatchSize;
+
+    public ExistenceFilter(UserRepository userRepository,
+                           TicketRepository ticketRepository,
+                           EventRepository eventRepository,
+                           RedisTemplate<String, String> redisTemplate,
+                           MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+
+        idLoaders.put(Kind.USER, userRepository::findIdsAfter);
+        idLoaders.put(Kind.TICKET, ticketRepository::findIdsAfter);
+        idLoaders.put(Kind.EVENT, eventRepository::findIdsAfter);
+        counters.put(Kind.USER, userRepository::count);
+        counters.put(Kind.TICKET, ticketRepository::count);
+        counters.put(Kind.EVENT, eventRepository::count);
+    }
+
+    @PostConstruct
+    public void init() {
+        for (Kind kind : Kind.values()) {
+            Slot slot = new Slot(Caffeine.newBuilder()
+                    .maximumSize(negativeMaximumSize)
+                    .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                    .build());
+            slots.put(kind, slot);
+            registerMetrics(kind, slot);
+        }
+    }
+
+    /**
+     * 기동 직후 백그라운드 적재 (적재 전에는 모두 통과)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (enabled) {
+            loader.execute(this::rebuildAll);
+        }
+    }
+
+    /**
+     * ID가 존재할 수 있으면 true, 확실히 없으면 false
+     */
+    public boolean mightExist(Kind kind, Long id) {
+        Slot slot = slots.get(kind);
+        if (!enabled || id == null || isRecent(id)) {
+            return true;
+        }
+
+        if (slot.negative.getIfPresent(id) != null) {
+            slot.negativeHits.increment();
+            return false;
+        }
+
+        IdBloomFilter filter = slot.filter;
+        if (filter == null || filter.mightContain(id)) {
+            return true;
+        }
+
+        slot.rejected.increment();
+        return false;
+    }
+
+    /**
+     * DB 조회 결과 없음 (필터 오탐이면 집계 후 네거티브 캐시에 기록)
+     */
+    public void recordMissing(Kind kind, Long id) {
+        Slot slot = slots.get(kind);
+        if (!enabled || id == null || isRecent(id)) {
+            return;
+        }
+
+        IdBloomFilter filter = slot.filter;
+        if (filter != null && filter.mightContain(id)) {
+            slot.falsePositives.increment();
+        }
+        slot.negative.put(id, Boolean.TRUE);
+    }
+
+    /**
+     * 생성된 ID 등록 (트랜잭션 안이면 커밋 후 반영 + 다른 노드로 전파)
+     */
+    public void recordCreated(Kind kind, Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addAndPublish(kind, id);
+                }
+            });
+        } else {
+            addAndPublish(kind, id);
+        }
+    }
+
+    /**
+     * 모든 노드에서 필터 재구성 (대량 적재처럼 생성 경로를 거치지 않은 데이터 반영용)
+     */
+    public void requestRebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            // 자신도 구독 중이므로 메시지를 받아 재구성한다
+            redisTemplate.convertAndSend(CREATED_CHANNEL, REBUILD);
+        } catch (Exception e) {
+            log.warn("Failed to publish existence filter rebuild, rebuilding locally: {}", e.getMessage());
+            loader.execute(this::rebuildAll);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (REBUILD.equals(body)) {
+            loader.execute(this::rebuildAll);
+            return;
+        }
+
+        int index = body.indexOf(DELIMITER);
+        if (index < 0) {
+            return;
+        }
+
+        try {
+            add(Kind.valueOf(body.substring(0, index)), Long.parseLong(body.substring(index + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid existence filter message: {}", body);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    private void addAndPublish(Kind kind, Long id) {
+        add(kind, id);
+        try {
+            redisTemplate.convertAndSend(CREATED_CHANNEL, kind.name() + DELIMITER + id);
+        } catch (Exception e) {
+            // 다른 노드는 recent-grace 동안 DB로 확인하고, 이후에는 다음 재구성 전까지 거절할 수 있다
+            log.warn("Failed to publish created id: kind={}, id={}, error={}", kind, id, e.getMessage());
+        }
+    }
+
+    private void add(Kind kind, long id) {
+        Slot slot = slots.get(kind);
+
+        // 재구성 중이면 새 필터에도 추가 (pending을 먼저 읽어야 교체 직후에도 누락되지 않음)
+        IdBloomFilter pending = slot.pending;
+        IdBloomFilter filter = slot.filter;
+        if (pending != null) {
+            pending.put(id);
+        }
+        if (filter != null) {
+            filter.put(id);
+        }
+        slot.negative.invalidate(id);
+    }
+
+    private void rebuildAll() {
+        for (Kind kind : Kind.values()) {
+            try {
+                rebuild(kind);
+            } catch (Exception e) {
+                // 기존 필터(또는 적재 전 전체 통과 상태)를 그대로 유지
+                slots.get(kind).pending = null;
+                log.error("Existence filter rebuild failed: kind={}", kind, e);
+            }
+        }
+    }
+
+    private void rebuild(Kind kind) {
+        long startedAt = System.currentTimeMillis();
+        Slot slot = slots.get(kind);
+
+        long count = counters.get(kind).getAsLong();
+        long capacity = Math.max(expectedInsertions, (long) (count * growthFactor));
+        IdBloomFilter filter = new IdBloomFilter(capacity, falsePositiveRate);
+        slot.pending = filter;
+
+        BiFunction<Long, Pageable, List<Long>> idLoader = idLoaders.get(kind);
+        long lastId = 0L;
+        long loaded = 0;
+
+        while (true) {
+            List<Long> ids = idLoader.apply(lastId, PageRequest.of(0, loadBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            for (Long id : ids) {
+                filter.put(id);
+            }
+            loaded += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+
+        slot.filter = filter;
+        slot.pending = null;
+        log.info("Existence filter loaded: kind={}, ids={}, capacity={}, memoryBytes={}, hashes={}, elapsedMs={}",
+                kind, loaded, capacity, filter.memoryBytes(), filter.hashCount(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean isRecent(long id) {
+        long issuedAt = Snowflake.timestampMillis(id);
+        long now = System.currentTimeMillis();
+        // 미래 시각 ID는 발급될 수 없으므로 최근 ID로 보지 않는다 (시계 차이 1초 허용)
+        return issuedAt >= now - recentGraceMillis && issuedAt <= now + 1000L;
+    }
+
+    private void registerMetrics(Kind kind, Slot slot) {
+        String tag = kind.name().toLowerCase();
+
+        slot.rejected = checkCounter(tag, "rejected");
+        slot.negativeHits = checkCounter(tag, "negative_cached");
+        slot.falsePositives = checkCounter(tag, "false_positive");
+
+        Gauge.builder("existence.filter.memory.bytes", slot,
+                        s -> s.filter != null ? s.filter.memoryBytes() : 0)
+                .tag("kind", tag)
+                .register(meterRegistry);
+        Gauge.builder("existence.filter.fpp.expected", slot,
+                        s -> s.filter != null ? s.filter.expectedFalsePositiveRate() : 0)
+                .description("채워진 비트 비율로 계산한 오탐률")
+                .tag("kind", tag)
+                .register(meterRegistry);
+        Gauge.builder("existence.filter.fpp.observed", slot, Slot::observedFalsePositiveRate)
+                .description("없는 ID 중 필터를 통과한 비율")
+                .tag("kind", tag)
+                .register(meterRegistry);
+        Gauge.builder("existence.negative.cache.size", slot, s -> s.negative.estimatedSize())
+                .tag("kind", tag)
+                .register(meterRegistry);
+    }
+
+    private Counter checkCounter(String kind, String result) {
+        return Counter.builder("existence.filter.checks")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static class Slot {
+        private final Cache<Long, Boolean> negative;
+        private volatile IdBloomFilter filter;
+        private volatile IdBloomFilter pending;
+        private Counter rejected;
+        private Counter negativeHits;
+        private Counter falsePositives;
+
+        Slot(Cache<Long, Boolean> negative) {
+            this.negative = negative;
+        }
+
+        double observedFalsePositiveRate() {
+            double fp = falsePositives.count();
+            double negatives = fp + rejected.count();
+            return negatives == 0 ? 0 : fp / negatives;
+        }
+    }
+}
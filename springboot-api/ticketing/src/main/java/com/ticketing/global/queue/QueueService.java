@@ -2,6 +2,7 @@ package com.ticketing.global.queue;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -15,6 +16,11 @@ import java.util.UUID;
 public class QueueService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ShardedWaitingQueue shardedQueue;
+
+    // 샤딩 대기열 사용 여부 (운영 중 전환 시 기존 대기열은 이관되지 않음)
+    @Value("${queue.sharding.enabled:false}")
+    private boolean shardingEnabled;
 
     private static final String QUEUE_KEY_PREFIX = "queue:ticket:";
     private static final int PROCESS_RATE_PER_SECOND = 100;  // 초당 처리량
@@ -27,12 +33,21 @@ public class QueueService {
         String token = generateToken(userId);
         double timestamp = System.currentTimeMillis();
 
-        // Sorted Set에 추가 (timestamp 기준 정렬)
-        redisTemplate.opsForZSet().add(queueKey, token, timestamp);
+        Long position;
+        Long totalWaiting;
+
+        if (shardingEnabled) {
+            shardedQueue.add(ticketId, token, timestamp);
+            position = shardedQueue.rank(ticketId, token);
+            totalWaiting = shardedQueue.size(ticketId);
+        } else {
+            // Sorted Set에 추가 (timestamp 기준 정렬)
+            redisTemplate.opsForZSet().add(queueKey, token, timestamp);
 
-        // 현재 대기 순번 조회
-        Long position = redisTemplate.opsForZSet().rank(queueKey, token);
-        Long totalWaiting = redisTemplate.opsForZSet().size(queueKey);
+            // 현재 대기 순번 조회
+            position = redisTemplate.opsForZSet().rank(queueKey, token);
+            totalWaiting = redisTemplate.opsForZSet().size(queueKey);
+        }
 
         // 예상 대기 시간 계산 (초 단위)
         Integer estimatedWaitTime = position != null
@@ -57,12 +72,16 @@ public class QueueService {
     public QueueStatusResponse getQueueStatus(Long ticketId, String token) {
         String queueKey = QUEUE_KEY_PREFIX + ticketId;
 
-        Long position = redisTemplate.opsForZSet().rank(queueKey, token);
+        Long position = shardingEnabled
+                ? shardedQueue.rank(ticketId, token)
+                : redisTemplate.opsForZSet().rank(queueKey, token);
         if (position == null) {
             throw new IllegalArgumentException("대기열에서 토큰을 찾을 수 없습니다");
         }
 
-        Long totalWaiting = redisTemplate.opsForZSet().size(queueKey);
+        Long totalWaiting = shardingEnabled
+                ? shardedQueue.size(ticketId)
+                : redisTemplate.opsForZSet().size(queueKey);
         Integer estimatedWaitTime = (int) (position / PROCESS_RATE_PER_SECOND);
 
         return QueueStatusResponse.builder()
@@ -77,8 +96,12 @@ public class QueueService {
      * 대기열에서 제거 (예약 완료 또는 이탈 시)
      */
     public void removeFromQueue(Long ticketId, String token) {
-        String queueKey = QUEUE_KEY_PREFIX + ticketId;
-        redisTemplate.opsForZSet().remove(queueKey, token);
+        if (shardingEnabled) {
+            shardedQueue.remove(ticketId, token);
+        } else {
+            String queueKey = QUEUE_KEY_PREFIX + ticketId;
+            redisTemplate.opsForZSet().remove(queueKey, token);
+        }
 
         log.info("User removed from queue: ticketId={}, token={}", ticketId, token);
     }
@@ -87,6 +110,10 @@ public class QueueService {
      * 처리 가능한 대기자 N명 가져오기
      */
     public Set<Object> pollFromQueue(Long ticketId, int count) {
+        if (shardingEnabled) {
+            return shardedQueue.poll(ticketId, count);
+        }
+
         String queueKey = QUEUE_KEY_PREFIX + ticketId;
 
         // 가장 앞에 있는 N명 조회
@@ -111,6 +138,10 @@ public class QueueService {
      * 대기열 크기 조회
      */
     public Long getQueueSize(Long ticketId) {
+        if (shardingEnabled) {
+            return shardedQueue.size(ticketId);
+        }
+
         String queueKey = QUEUE_KEY_PREFIX + ticketId;
         return redisTemplate.opsForZSet().size(queueKey);
     }
@@ -0,0 +1,197 @@
+package com.ticketing.global.queue;
+
+import com.ticketing.global.util.RedisKeyUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 초대형 인기 티켓용 샤딩 대기열
+ *
+ * 티켓 하나의 대기열을 K개의 ZSET(queue:ticket:{id}:{shard})으로 나눠
+ * 진입/순번/입장 트래픽을 여러 Redis 키(클러스터 슬롯)로 분산한다.
+ * 모든 샤드가 같은 timestamp score를 쓰므로 전역 순서는 근사적으로 유지된다.
+ */
+@Slf4j
+@Component
+public class ShardedWaitingQueue {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int shardCount;
+
+    public ShardedWaitingQueue(RedisTemplate<String, Object> redisTemplate,
+                               @Value("${queue.sharding.shards:8}") int shardCount) {
+        // 0 이하면 샤드 계산(floorMod)이 실패하거나 모든 조회가 빈 결과가 되므로 시작 시 거절
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("queue.sharding.shards는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.redisTemplate = redisTemplate;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * 대기열 진입 (토큰 해시로 샤드 결정)
+     */
+    public void add(Long ticketId, String token, double score) {
+        redisTemplate.opsForZSet().add(shardKey(ticketId, token), token, score);
+    }
+
+    /**
+     * 근사 전역 순번 (0부터 시작, 없으면 null)
+     * 자신의 샤드는 ZRANK, 나머지 샤드는 자신의 score 미만 ZCOUNT 합산
+     */
+    public Long rank(Long ticketId, String token) {
+        int ownShard = shardOf(token);
+        String ownKey = RedisKeyUtil.queueShardKey(ticketId, ownShard);
+
+        Double score = redisTemplate.opsForZSet().score(ownKey, token);
+        if (score == null) {
+            return null;
+        }
+
+        double below = Math.nextDown(score);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (int shard = 0; shard < shardCount; shard++) {
+                    String key = RedisKeyUtil.queueShardKey(ticketId, shard);
+                    if (shard == ownShard) {
+                        ops.opsForZSet().rank(key, token);
+                    } else {
+                        ops.opsForZSet().count(key, Double.NEGATIVE_INFINITY, below);
+                    }
+                }
+                return null;
+            }
+        });
+
+        long position = 0;
+        for (Object result : results) {
+            if (result instanceof Number number) {
+                position += number.longValue();
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 전체 대기자 수 (샤드별 ZCARD 합산)
+     */
+    public long size(Long ticketId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (int shard = 0; shard < shardCount; shard++) {
+                    ops.opsForZSet().zCard(RedisKeyUtil.queueShardKey(ticketId, shard));
+                }
+                return null;
+            }
+        });
+
+        long total = 0;
+        for (Object result : results) {
+            if (result instanceof Number number) {
+                total += number.longValue();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 대기열에서 제거
+     */
+    public void remove(Long ticketId, String token) {
+        redisTemplate.opsForZSet().remove(shardKey(ticketId, token), token);
+    }
+
+    /**
+     * 모든 샤드의 앞부분을 score 순으로 병합해 N명 입장
+     * ZREM에 성공한 토큰만 반환하므로 동시에 poll 해도 중복 입장이 없다.
+     */
+    public Set<Object> poll(Long ticketId, int count) {
+        if (count <= 0) {
+            return Collections.emptySet();
+        }
+
+        // 1. 샤드별 선두 count명 조회 (파이프라인)
+        List<Object> heads = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (int shard = 0; shard < shardCount; shard++) {
+                    ops.opsForZSet().rangeWithScores(RedisKeyUtil.queueShardKey(ticketId, shard), 0, count - 1);
+                }
+                return null;
+            }
+        });
+
+        // 2. score 기준 병합
+        PriorityQueue<ShardEntry> merged = new PriorityQueue<>(Comparator.comparingDouble(ShardEntry::score));
+        for (int shard = 0; shard < heads.size(); shard++) {
+            if (!(heads.get(shard) instanceof Set<?> tuples)) {
+                continue;
+            }
+            for (Object tuple : tuples) {
+                if (tuple instanceof TypedTuple<?> typed && typed.getValue() != null && typed.getScore() != null) {
+                    merged.add(new ShardEntry(shard, typed.getValue(), typed.getScore()));
+                }
+            }
+        }
+
+        List<ShardEntry> winners = new ArrayList<>(count);
+        while (winners.size() < count && !merged.isEmpty()) {
+            winners.add(merged.poll());
+        }
+
+        if (winners.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        // 3. 선정된 토큰 제거 (파이프라인)
+        List<Object> removed = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (ShardEntry winner : winners) {
+                    ops.opsForZSet().remove(RedisKeyUtil.queueShardKey(ticketId, winner.shard()), winner.token());
+                }
+                return null;
+            }
+        });
+
+        Set<Object> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < winners.size(); i++) {
+            if (removed.get(i) instanceof Number number && number.longValue() > 0) {
+                tokens.add(winners.get(i).token());
+            }
+        }
+
+        log.debug("Sharded queue polled: ticketId={}, requested={}, admitted={}",
+                ticketId, count, tokens.size());
+        return tokens;
+    }
+
+    private String shardKey(Long ticketId, String token) {
+        return RedisKeyUtil.queueShardKey(ticketId, shardOf(token));
+    }
+
+    private int shardOf(String token) {
+        return Math.floorMod(token.hashCode(), shardCount);
+    }
+
+    private record ShardEntry(int shard, Object token, double score) {
+    }
+}
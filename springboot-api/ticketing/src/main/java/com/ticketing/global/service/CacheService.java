@@ -2,18 +2,58 @@ package com.ticketing.global.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
-import java.util.Set;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CacheService {
 
+    private static final String NAMESPACE_VERSION_PREFIX = "cache:ns:version:";
+    private static final String SCAN_START = "0";
+
+    /**
+     * SCAN 한 단계 + 찾은 키 UNLINK (unpack 인자 수 제한 때문에 1000개씩)
+     * ARGV[1]: 커서, ARGV[2]: 패턴, ARGV[3]: COUNT
+     * 반환: {다음 커서, 삭제 요청 키 수}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SCAN_UNLINK_SCRIPT = new DefaultRedisScript<>(
+            "redis.replicate_commands() " +
+            "local result = redis.call('scan', ARGV[1], 'match', ARGV[2], 'count', ARGV[3]) " +
+            "local keys = result[2] " +
+            "for i = 1, #keys, 1000 do " +
+            "  redis.call('unlink', unpack(keys, i, math.min(i + 999, #keys))) " +
+            "end " +
+            "return {result[1], #keys}",
+            List.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, Long> counterRedisTemplate;
+
+    // SCAN 한 단계의 COUNT (한 단계에서 찾은 키를 바로 UNLINK)
+    @Value("${cache.invalidation.scan-batch-size:500}")
+    private int scanBatchSize;
+
+    // deleteByPattern 1회 호출의 최대 실행 시간
+    @Value("${cache.invalidation.time-budget-ms:200}")
+    private long timeBudgetMillis;
+
+    // 다른 노드가 올린 네임스페이스 버전을 다시 읽는 주기
+    @Value("${cache.invalidation.version-refresh-ms:1000}")
+    private long versionRefreshMillis;
+
+    private final ConcurrentMap<String, NamespaceVersion> namespaceVersions = new ConcurrentHashMap<>();
 
     /**
      * 캐시 저장
@@ -37,14 +77,62 @@ public class CacheService {
     }
 
     /**
-     * 패턴 매칭으로 캐시 삭제
+     * 패턴 매칭으로 캐시 삭제 (SCAN + UNLINK, 처음부터)
      */
-    public void deleteByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
-            log.info("Deleted {} cache keys with pattern: {}", keys.size(), pattern);
+    public PatternDeleteResult deleteByPattern(String pattern) {
+        return deleteByPattern(pattern, SCAN_START);
+    }
+
+    /**
+     * 패턴 매칭으로 캐시 삭제 (SCAN + UNLINK, 주어진 커서부터)
+     *
+     * KEYS처럼 키 공간 전체를 한 번에 훑지 않고 SCAN 한 단계(COUNT scan-batch-size)씩 조회/삭제한다.
+     * 단계마다 시간 예산을 확인해 넘기면 중단하고, 반환한 커서로 다시 호출하면 그 위치부터 이어서 지운다.
+     */
+    public PatternDeleteResult deleteByPattern(String pattern, String cursor) {
+        long deadline = System.nanoTime() + Duration.ofMillis(timeBudgetMillis).toNanos();
+        String next = cursor != null && !cursor.isEmpty() ? cursor : SCAN_START;
+        long deleted = 0;
+
+        do {
+            List<?> result = stringRedisTemplate.execute(SCAN_UNLINK_SCRIPT, List.of(),
+                    next, pattern, String.valueOf(scanBatchSize));
+            if (result == null || result.size() < 2) {
+                break;
+            }
+            next = String.valueOf(result.get(0));
+            deleted += result.get(1) instanceof Number count ? count.longValue() : 0L;
+        } while (!SCAN_START.equals(next) && System.nanoTime() - deadline < 0);
+
+        boolean completed = SCAN_START.equals(next);
+        if (completed) {
+            log.info("Deleted {} cache keys with pattern: {}", deleted, pattern);
+        } else {
+            log.info("Deleted {} cache keys with pattern: {} (time budget exceeded, resume from cursor {})",
+                    deleted, pattern, next);
         }
+        return new PatternDeleteResult(deleted, completed, next);
+    }
+
+    /**
+     * 네임스페이스 버전이 포함된 키 (cache:{namespace}:v{version}:{key})
+     * 버전을 올리면 이전 키는 더 이상 조회되지 않고 TTL로 정리된다 (TTL 없이 저장하면 안 됨).
+     */
+    public String namespacedKey(String namespace, String key) {
+        return "cache:" + namespace + ":v" + getNamespaceVersion(namespace) + ":" + key;
+    }
+
+    /**
+     * 네임스페이스 전체 무효화 (버전 INCR 1회, 키 스캔 없음)
+     * 다른 노드는 최대 version-refresh-ms 이후 새 버전을 사용한다 (forgetNamespaceVersion으로 즉시 반영 가능).
+     */
+    public long invalidateNamespace(String namespace) {
+        Long version = counterRedisTemplate.opsForValue().increment(NAMESPACE_VERSION_PREFIX + namespace);
+        long current = version != null ? version : 0L;
+
+        namespaceVersions.put(namespace, new NamespaceVersion(current, System.nanoTime()));
+        log.info("Cache namespace invalidated: namespace={}, version={}", namespace, current);
+        return current;
     }
 
     /**
@@ -53,4 +141,38 @@ public class CacheService {
     public Long getTTL(String key) {
         return redisTemplate.getExpire(key);
     }
-}
\ No newline at end of file
+
+    /**
+     * 네임스페이스 현재 버전 (노드 로컬에 version-refresh-ms 동안 캐시)
+     */
+    public long getNamespaceVersion(String namespace) {
+        long now = System.nanoTime();
+        NamespaceVersion cached = namespaceVersions.get(namespace);
+
+        if (cached != null && now - cached.loadedAtNanos() < Duration.ofMillis(versionRefreshMillis).toNanos()) {
+            return cached.version();
+        }
+
+        Long value = counterRedisTemplate.opsForValue().get(NAMESPACE_VERSION_PREFIX + namespace);
+        long version = value != null ? value : 0L;
+
+        namespaceVersions.put(namespace, new NamespaceVersion(version, now));
+        return version;
+    }
+
+    /**
+     * 로컬에 캐시한 버전 폐기 (다른 노드의 무효화 알림을 받았을 때, 다음 조회에서 Redis 값을 다시 읽음)
+     */
+    public void forgetNamespaceVersion(String namespace) {
+        namespaceVersions.remove(namespace);
+    }
+
+    private record NamespaceVersion(long version, long loadedAtNanos) {
+    }
+
+    /**
+     * @param cursor 다음 호출에 넘길 SCAN 커서 ("0"이면 완료)
+     */
+    public record PatternDeleteResult(long deleted, boolean completed, String cursor) {
+    }
+}
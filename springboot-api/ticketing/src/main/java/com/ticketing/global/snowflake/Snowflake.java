@@ -1,6 +1,9 @@
 package com.ticketing.global.snowflake;
 
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 public class Snowflake {
     private static final int UNUSED_BITS = 1;
@@ -11,60 +14,145 @@ public class Snowflake {
     private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
     private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
 
+    // 이 범위 안의 시계 역행은 마지막 timestamp를 빌려 써서 흡수 (초과 시 예외)
+    private static final long MAX_BACKWARD_MILLIS = 1000L;
+    // 시퀀스 소진으로 timestamp를 앞당길 때 실제 시각보다 앞설 수 있는 최대치 (nodeId 임대 인계 시 대기 기준)
+    static final long MAX_BORROW_AHEAD_MILLIS = 1000L;
+    private static final long PARK_NANOS = 100_000L;
+
+    // UTC = 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1704067200000L;
+
     // RandomGenerator.getDefault() 대신 Random 사용
     private final long nodeId;
-    // UTC = 2024-01-01T00:00:00Z
-    private final long startTimeMillis = 1704067200000L;
+    private final long startTimeMillis = EPOCH_MILLIS;
+
+    // 마지막으로 발급한 (epoch 기준 timestamp << SEQUENCE_BITS | sequence)
+    // 하나의 AtomicLong에 묶어 CAS로 갱신하므로 synchronized가 필요 없다
+    private final AtomicLong state = new AtomicLong(0L);
 
-    private long lastTimeMillis = startTimeMillis;
-    private long sequence = 0L;
+    // nodeId 임대가 유효한 동안만 발급 (임대 없이 생성하면 항상 true)
+    private final BooleanSupplier leaseGuard;
 
     // 생성자에서 nodeId 초기화
     public Snowflake() {
         Random random = new Random();
         this.nodeId = random.nextInt((int) maxNodeId + 1);
+        this.leaseGuard = () -> true;
     }
 
     // nodeId를 지정할 수 있는 생성자 추가 (선택사항)
     public Snowflake(long nodeId) {
+        this(nodeId, () -> true);
+    }
+
+    // 임대받은 nodeId로 생성 (임대가 끊기면 발급 중단)
+    public Snowflake(long nodeId, BooleanSupplier leaseGuard) {
         if (nodeId < 0 || nodeId > maxNodeId) {
             throw new IllegalArgumentException("NodeId must be between 0 and " + maxNodeId);
         }
         this.nodeId = nodeId;
+        this.leaseGuard = leaseGuard;
+    }
+
+    public long nextId() {
+        return toId(reserve(1));
     }
 
-    public synchronized long nextId() {
-        long currentTimeMillis = System.currentTimeMillis();
+    /**
+     * ID n개 일괄 발급
+     * 한 번의 CAS로 같은 timestamp 안의 연속된 시퀀스 구간을 예약하므로 반환되는 ID는 1씩 증가한다.
+     * n이 한 밀리초의 시퀀스 수(4096)를 넘으면 4096개 단위 구간으로 나눠 예약한다.
+     */
+    public long[] nextIds(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Count must be positive: " + n);
+        }
+
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int chunk = (int) Math.min(n - filled, maxSequence + 1);
+            long last = reserve(chunk);
+            long first = toId(last) - (chunk - 1);
+            for (int i = 0; i < chunk; i++) {
+                ids[filled++] = first + i;
+            }
+        }
+        return ids;
+    }
 
-        if (currentTimeMillis < lastTimeMillis) {
-            throw new IllegalStateException("Invalid Time");
+    /**
+     * 시퀀스 count개를 예약하고 마지막으로 예약된 state를 반환
+     */
+    private long reserve(int count) {
+        if (!leaseGuard.getAsBoolean()) {
+            // 다른 인스턴스가 같은 nodeId를 쓸 수 있으므로 충돌 위험 대신 발급을 거부
+            throw new IllegalStateException("Snowflake nodeId lease is not held: nodeId=" + nodeId);
         }
 
-        if (currentTimeMillis == lastTimeMillis) {
-            sequence = (sequence + 1) & maxSequence;
-            if (sequence == 0) {
-                currentTimeMillis = waitNextMillis(currentTimeMillis);
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+            long lastSequence = current & maxSequence;
+            long now = System.currentTimeMillis() - startTimeMillis;
+
+            long timestamp;
+            long sequence;
+
+            if (now > lastTimestamp) {
+                timestamp = now;
+                sequence = count - 1;
+            } else {
+                if (lastTimestamp - now > MAX_BACKWARD_MILLIS) {
+                    throw new IllegalStateException(
+                            "Clock moved backwards by " + (lastTimestamp - now) + "ms");
+                }
+
+                // 같은 밀리초이거나 작은 시계 역행: 마지막 timestamp를 이어서 사용
+                if (lastSequence + count <= maxSequence) {
+                    timestamp = lastTimestamp;
+                    sequence = lastSequence + count;
+                } else {
+                    timestamp = lastTimestamp + 1;
+                    sequence = count - 1;
+                }
+
+                // 너무 앞서 나가면 실제 시각이 따라올 때까지 잠깐 양보 (busy-spin 대신 park)
+                if (timestamp - now > MAX_BORROW_AHEAD_MILLIS) {
+                    LockSupport.parkNanos(PARK_NANOS);
+                    continue;
+                }
+            }
+
+            long next = (timestamp << SEQUENCE_BITS) | sequence;
+            if (state.compareAndSet(current, next)) {
+                return next;
             }
-        } else {
-            sequence = 0;
         }
+    }
 
-        lastTimeMillis = currentTimeMillis;
+    private long toId(long packed) {
+        long timestamp = packed >>> SEQUENCE_BITS;
+        long sequence = packed & maxSequence;
 
-        return ((currentTimeMillis - startTimeMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS))
                 | (nodeId << SEQUENCE_BITS)
                 | sequence;
     }
 
-    private long waitNextMillis(long currentTimestamp) {
-        while (currentTimestamp <= lastTimeMillis) {
-            currentTimestamp = System.currentTimeMillis();
-        }
-        return currentTimestamp;
+    // ID에 담긴 발급 시각 (epoch millis)
+    public static long timestampMillis(long id) {
+        return (id >>> (NODE_ID_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    // 해당 시각 이후 발급된 ID의 하한 (ID keyset 조회의 시작점)
+    public static long minIdAt(long epochMillis) {
+        return Math.max(0L, epochMillis - EPOCH_MILLIS) << (NODE_ID_BITS + SEQUENCE_BITS);
     }
 
     // nodeId getter 추가 (디버깅용)
     public long getNodeId() {
         return nodeId;
     }
-}
\ No newline at end of file
+}
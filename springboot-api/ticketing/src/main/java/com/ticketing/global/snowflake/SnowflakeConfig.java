@@ -1,13 +1,26 @@
 package com.ticketing.global.snowflake;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class SnowflakeConfig {
 
+    @Value("${snowflake.node-lease.enabled:true}")
+    private boolean leaseEnabled;
+
+    /**
+     * Redis 임대로 인스턴스 간 겹치지 않는 nodeId 사용
+     * (비활성화 시 기존처럼 임의의 nodeId)
+     */
     @Bean
-    public Snowflake snowflake() {
-        return new Snowflake();
+    public Snowflake snowflake(SnowflakeNodeLease nodeLease) {
+        if (!leaseEnabled) {
+            return new Snowflake();
+        }
+
+        long nodeId = nodeLease.acquire();
+        return new Snowflake(nodeId, nodeLease::isValid);
     }
 }
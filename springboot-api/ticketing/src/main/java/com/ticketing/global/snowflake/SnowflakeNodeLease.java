@@ -0,0 +1,227 @@
+package com.ticketing.global.snowflake;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Snowflake nodeId 임대 (Redis SET NX + TTL + heartbeat)
+ *
+ * 인스턴스마다 겹치지 않는 nodeId(0~1023)를 점유하고 주기적으로 TTL을 연장한다.
+ * 마지막 연장 성공 후 TTL이 지나면 다른 인스턴스가 같은 nodeId를 가져갈 수 있으므로
+ * 그 전에 ID 발급을 멈춘다(isValid() == false).
+ *
+ * 이전 보유자는 시계보다 최대 1초 앞선 timestamp를 빌려 썼을 수 있고 호스트 간 시계도 다르므로,
+ * 보유자는 자신이 발급했을 수 있는 timestamp 상한(high-water mark)을 연장/반납 때마다 기록하고
+ * 새 보유자는 자기 시계가 그 상한 + clock-skew-tolerance를 지날 때까지 발급을 시작하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnowflakeNodeLease {
+
+    private static final String LEASE_KEY_PREFIX = "snowflake:node:";
+    private static final String HIGH_WATER_MARK_SUFFIX = ":hwm";
+    // 상한 키 보관 기간 (상한 + 시계 오차가 지나면 의미가 없으므로 넉넉히)
+    private static final long HIGH_WATER_MARK_TTL_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int NODE_ID_COUNT = 1024;
+    // Redis 서버와 로컬 시계 오차 여유분
+    private static final long SAFETY_MARGIN_MILLIS = 2000L;
+
+    // 소유자일 때만 TTL 연장 + 발급 상한을 올림 (KEYS: 임대, 상한 / ARGV: 소유자, TTL, 상한, 상한 TTL)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+                    "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "local current = tonumber(redis.call('get', KEYS[2]) or '0') " +
+                    "if tonumber(ARGV[3]) > current then " +
+                    "  redis.call('set', KEYS[2], ARGV[3], 'PX', ARGV[4]) " +
+                    "end " +
+                    "return 1",
+            Long.class);
+
+    // 소유자일 때만 반납: 발급을 멈췄으므로 상한을 실제 값(지금 + 빌려 쓸 수 있는 최대치)으로 낮춘 뒤 임대 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " +
+                    "redis.call('set', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+                    "return redis.call('del', KEYS[1])",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${snowflake.node-lease.ttl-ms:30000}")
+    private long ttlMillis;
+
+    // 인스턴스 간 시계 차이 허용치 (이전 보유자 상한에 더해 기다림)
+    @Value("${snowflake.node-lease.clock-skew-tolerance-ms:1000}")
+    private long clockSkewToleranceMillis;
+
+    private final String ownerId = UUID.randomUUID().toString();
+
+    private volatile long nodeId = -1;
+    private volatile boolean leased = false;
+    private volatile long validFromNanos;
+    private volatile long validUntilNanos;
+
+    /**
+     * 비어 있는 nodeId 점유 (임의 위치부터 순회)
+     */
+    public long acquire() {
+        int offset = ThreadLocalRandom.current().nextInt(NODE_ID_COUNT);
+
+        for (int i = 0; i < NODE_ID_COUNT; i++) {
+            long candidate = (offset + i) % NODE_ID_COUNT;
+
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(candidate), ownerId, Duration.ofMillis(ttlMillis));
+            if (!Boolean.TRUE.equals(acquired)) {
+                continue;
+            }
+
+            // 이전 보유자가 발급했을 수 있는 timestamp를 지날 때까지 대기 (시작 시 한 번, 보통 0~2초)
+            long waitMillis = handoverWaitMillis(candidate);
+            if (waitMillis > 0) {
+                log.info("Waiting for previous Snowflake nodeId holder: nodeId={}, waitMs={}", candidate, waitMillis);
+                try {
+                    Thread.sleep(waitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Snowflake nodeId 임대 대기 중 인터럽트", e);
+                }
+            }
+
+            // 대기 중 TTL이 줄었으므로 연장하면서 이번 임대의 발급 상한을 기록
+            long requestedAt = System.nanoTime();
+            if (renewLease(candidate)) {
+                nodeId = candidate;
+                validFromNanos = requestedAt;
+                extendValidity(requestedAt);
+                log.info("Snowflake nodeId leased: nodeId={}, owner={}", candidate, ownerId);
+                return candidate;
+            }
+            log.warn("Snowflake nodeId lease lost while waiting for handover: nodeId={}", candidate);
+        }
+
+        throw new IllegalStateException("사용 가능한 Snowflake nodeId가 없습니다");
+    }
+
+    /**
+     * 임대 연장 (heartbeat)
+     */
+    @Scheduled(fixedDelayString = "${snowflake.node-lease.heartbeat-ms:10000}")
+    public void renew() {
+        if (nodeId < 0) {
+            return;
+        }
+
+        long requestedAt = System.nanoTime();
+        try {
+            if (renewLease(nodeId)) {
+                extendValidity(requestedAt);
+                return;
+            }
+
+            // 소유권 상실: 즉시 발급 중단 후 같은 nodeId 재점유 시도
+            leased = false;
+            log.error("Snowflake nodeId lease lost: nodeId={}", nodeId);
+
+            Boolean reacquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(nodeId), ownerId, Duration.ofMillis(ttlMillis));
+            if (Boolean.TRUE.equals(reacquired)) {
+                // 그 사이 다른 인스턴스가 썼을 수 있으므로 그 상한을 지난 뒤부터 발급 (스케줄러는 막지 않음)
+                long waitMillis = handoverWaitMillis(nodeId);
+                long reacquiredAt = System.nanoTime();
+                if (renewLease(nodeId)) {
+                    validFromNanos = reacquiredAt + Duration.ofMillis(Math.max(0, waitMillis)).toNanos();
+                    extendValidity(reacquiredAt);
+                    log.info("Snowflake nodeId lease reacquired: nodeId={}, waitMs={}", nodeId, Math.max(0, waitMillis));
+                }
+            }
+
+        } catch (Exception e) {
+            // 남은 TTL 동안은 계속 발급, 만료되면 isValid()가 false가 된다
+            log.warn("Failed to renew Snowflake nodeId lease: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 nodeId 반납
+     */
+    @PreDestroy
+    public void release() {
+        if (nodeId < 0) {
+            return;
+        }
+
+        leased = false;
+        try {
+            // 발급을 멈춘 뒤 남은 발급분은 지금 + 빌려 쓸 수 있는 최대치 이하
+            long highWaterMark = System.currentTimeMillis() + Snowflake.MAX_BORROW_AHEAD_MILLIS;
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(nodeId), highWaterMarkKey(nodeId)),
+                    ownerId, String.valueOf(highWaterMark), String.valueOf(HIGH_WATER_MARK_TTL_MILLIS));
+            log.info("Snowflake nodeId lease released: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to release Snowflake nodeId lease: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 임대가 유효한지 (ID 발급 가능 여부)
+     */
+    public boolean isValid() {
+        long now = System.nanoTime();
+        return leased && now - validFromNanos >= 0 && now - validUntilNanos < 0;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    private void extendValidity(long requestedAtNanos) {
+        // 요청을 보낸 시점부터 TTL이 시작된다고 보수적으로 계산
+        validUntilNanos = requestedAtNanos + Duration.ofMillis(ttlMillis - SAFETY_MARGIN_MILLIS).toNanos();
+        leased = true;
+    }
+
+    /**
+     * TTL 연장 + 이번 임대로 발급할 수 있는 timestamp 상한 기록 (소유자가 아니면 false)
+     * 상한 = 발급을 멈추는 시각(연장 시각 + TTL - 여유분) + 빌려 쓸 수 있는 최대치 (비정상 종료에도 유효)
+     */
+    private boolean renewLease(long id) {
+        long highWaterMark = System.currentTimeMillis() + ttlMillis - SAFETY_MARGIN_MILLIS
+                + Snowflake.MAX_BORROW_AHEAD_MILLIS;
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(id), highWaterMarkKey(id)),
+                ownerId, String.valueOf(ttlMillis), String.valueOf(highWaterMark),
+                String.valueOf(HIGH_WATER_MARK_TTL_MILLIS));
+        return renewed != null && renewed > 0;
+    }
+
+    /**
+     * 이전 보유자의 발급 상한 + 시계 오차 허용치까지 남은 시간 (기록이 없으면 0 이하)
+     */
+    private long handoverWaitMillis(long id) {
+        String value = redisTemplate.opsForValue().get(highWaterMarkKey(id));
+        if (value == null) {
+            return 0;
+        }
+        return Long.parseLong(value) + clockSkewToleranceMillis - System.currentTimeMillis();
+    }
+
+    private String leaseKey(long id) {
+        return LEASE_KEY_PREFIX + id;
+    }
+
+    private String highWaterMarkKey(long id) {
+        return LEASE_KEY_PREFIX + id + HIGH_WATER_MARK_SUFFIX;
+    }
+}
@@ -14,6 +14,14 @@ public class RedisKeyUtil {
         return "queue:ticket:" + ticketId;
     }
 
+    public static String queueShardKey(Long ticketId, int shard) {
+        return "queue:ticket:" + ticketId + ":" + shard;
+    }
+
+    public static String eventAvailabilityKey(Long eventId) {
+        return "event:availability:" + eventId;
+    }
+
     public static String eventCacheKey(Long eventId) {
         return "event:" + eventId;
     }
@@ -25,4 +33,8 @@ public class RedisKeyUtil {
     public static String userRecommendationKey(Long userId) {
         return "recommendation:user:" + userId;
     }
+
+    public static String userRecommendationStaleKey(Long userId) {
+        return "recommendation:user:" + userId + ":stale";
+    }
 }
\ No newline at end of file
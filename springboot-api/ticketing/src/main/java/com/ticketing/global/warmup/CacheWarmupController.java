@@ -0,0 +1,43 @@
+package com.ticketing.global.warmup;
+
+import com.ticketing.global.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Warmup", description = "캐시 워밍업 API")
+@RestController
+@RequestMapping("/api/v1/warmup")
+@RequiredArgsConstructor
+public class CacheWarmupController {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Operation(summary = "전체 워밍업", description = "예정 이벤트의 캐시와 재고를 지금 적재합니다")
+    @PostMapping
+    public ApiResponse<CacheWarmupService.WarmupResult> warmUp() {
+        CacheWarmupService.WarmupResult result = cacheWarmupService.warmUpUpcoming();
+        return ApiResponse.success("워밍업이 완료되었습니다", result);
+    }
+
+    @Operation(summary = "이벤트 워밍업", description = "이벤트 하나의 캐시와 재고를 지금 적재합니다")
+    @PostMapping("/events/{eventId}")
+    public ApiResponse<CacheWarmupService.WarmupResult> warmUpEvent(@PathVariable Long eventId) {
+        CacheWarmupService.WarmupResult result = cacheWarmupService.warmUpEvent(eventId);
+        return ApiResponse.success("워밍업이 완료되었습니다", result);
+    }
+
+    @Operation(summary = "판매 시작 전 워밍업 예약", description = "판매 시작 시각보다 일정 시간 앞서 이벤트를 워밍업합니다")
+    @PostMapping("/events/{eventId}/schedule")
+    public ApiResponse<LocalDateTime> schedule(
+            @PathVariable Long eventId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime saleOpenAt) {
+
+        LocalDateTime runAt = cacheWarmupService.schedule(eventId, saleOpenAt);
+        return ApiResponse.success("워밍업이 예약되었습니다", runAt);
+    }
+}
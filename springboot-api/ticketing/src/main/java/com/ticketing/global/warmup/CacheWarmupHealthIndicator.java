@@ -0,0 +1,35 @@
+package com.ticketing.global.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캐시 워밍업 상태 (readiness 그룹에 포함, 완료 전까지 DOWN)
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public Health health() {
+        if (!cacheWarmupService.isReady()) {
+            return Health.down()
+                    .withDetail("status", "warming up")
+                    .build();
+        }
+
+        CacheWarmupService.WarmupResult result = cacheWarmupService.getLastResult();
+        if (result == null) {
+            return Health.up().build();
+        }
+        return Health.up()
+                .withDetail("events", result.events())
+                .withDetail("tickets", result.tickets())
+                .withDetail("elapsedMillis", result.elapsedMillis())
+                .build();
+    }
+}
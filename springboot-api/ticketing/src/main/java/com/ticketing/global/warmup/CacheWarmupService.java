@@ -0,0 +1,270 @@
+package com.ticketing.global.warmup;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.event.entity.Event;
+import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.event.service.EventService;
+import com.ticketing.domain.ticket.dto.TicketResponse;
+import com.ticketing.domain.ticket.entity.Ticket;
+import com.ticketing.domain.ticket.repository.TicketRepository;
+import com.ticketing.domain.ticket.service.TicketService;
+import com.ticketing.domain.ticket.service.TicketStockService;
+import com.ticketing.global.cache.TwoLevelCacheManager;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 판매 시작 전 캐시/재고 워밍업
+ *
+ * 예정 이벤트와 티켓을 ID keyset 배치로 읽어
+ * 재고 키(SET NX), 이벤트 재고 집계, events/tickets 캐시 항목을 파이프라인으로 적재한다.
+ * 캐시 항목은 2단계 캐시(TwoLevelCache.putAll)로 써서 다른 노드의 L1도 함께 무효화된다.
+ * 기동 시 워밍업이 끝날 때까지 readiness는 DOWN (CacheWarmupHealthIndicator).
+ */
+@Slf4j
+@Service
+public class CacheWarmupService {
+
+    private static final String EVENT_CACHE = "events";
+    private static final String TICKET_CACHE = "tickets";
+
+    private final EventRepository eventRepository;
+    private final TicketRepository ticketRepository;
+    private final EventService eventService;
+    private final TicketService ticketService;
+    private final TicketStockService ticketStockService;
+    private final TwoLevelCacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+
+    // 워밍업은 스케줄러 스레드(nodeId 임대 heartbeat 등)를 막지 않도록 별도 스레드에서 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "cache-warmup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${warmup.on-startup:true}")
+    private boolean onStartup;
+
+    @Value("${warmup.batch-size:500}")
+    private int batchSize;
+
+    @Value("${warmup.horizon-days:30}")
+    private long horizonDays;
+
+    @Value("${warmup.lead-minutes:10}")
+    private long leadMinutes;
+
+    private volatile boolean ready;
+    private volatile WarmupResult lastResult;
+
+    public CacheWarmupService(EventRepository eventRepository,
+                              TicketRepository ticketRepository,
+                              EventService eventService,
+                              TicketService ticketService,
+                              TicketStockService ticketStockService,
+                              TwoLevelCacheManager cacheManager,
+                              PlatformTransactionManager transactionManager,
+                              TaskScheduler taskScheduler) {
+        this.eventRepository = eventRepository;
+        this.ticketRepository = ticketRepository;
+        this.eventService = eventService;
+        this.ticketService = ticketService;
+        this.ticketStockService = ticketStockService;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.taskScheduler = taskScheduler;
+    }
+
+    /**
+     * 기동 직후 워밍업 (완료 전까지 readiness DOWN)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!onStartup) {
+            ready = true;
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                warmUpUpcoming();
+            } catch (Exception e) {
+                // 캐시가 비어 있어도 서비스는 가능하므로 트래픽은 받는다
+                log.error("Cache warm-up failed, accepting traffic with cold cache", e);
+            } finally {
+                ready = true;
+            }
+        });
+    }
+
+    /**
+     * 기간 내 예정 이벤트 전체 워밍업
+     */
+    public WarmupResult warmUpUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusDays(horizonDays);
+        long startedAt = System.currentTimeMillis();
+
+        long lastId = 0L;
+        int events = 0;
+        int tickets = 0;
+
+        while (true) {
+            long afterId = lastId;
+            Batch batch = transactionTemplate.execute(status -> loadBatch(
+                    eventRepository.findUpcomingEventsAfterId(now, until, afterId, PageRequest.of(0, batchSize))));
+
+            if (batch == null || batch.events().isEmpty()) {
+                break;
+            }
+
+            write(batch);
+            events += batch.events().size();
+            tickets += batch.tickets().size();
+            lastId = batch.events().get(batch.events().size() - 1).getId();
+        }
+
+        WarmupResult result = new WarmupResult(events, tickets, System.currentTimeMillis() - startedAt);
+        lastResult = result;
+        log.info("Cache warm-up completed: events={}, tickets={}, elapsedMs={}",
+                result.events(), result.tickets(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 이벤트 하나 워밍업
+     */
+    public WarmupResult warmUpEvent(Long eventId) {
+        long startedAt = System.currentTimeMillis();
+
+        Batch batch = transactionTemplate.execute(status ->
+                loadBatch(eventRepository.findById(eventId).map(List::of).orElse(List.of())));
+
+        if (batch == null || batch.events().isEmpty()) {
+            throw new IllegalArgumentException("이벤트를 찾을 수 없습니다: " + eventId);
+        }
+
+        write(batch);
+        WarmupResult result = new WarmupResult(1, batch.tickets().size(), System.currentTimeMillis() - startedAt);
+        log.info("Event warm-up completed: eventId={}, tickets={}, elapsedMs={}",
+                eventId, result.tickets(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * 판매 시작 전 워밍업 예약 (saleOpenAt - lead 시각에 실행, 이미 지났으면 즉시)
+     * 예약은 인스턴스 메모리에만 있으므로 재기동 시 다시 등록해야 한다.
+     */
+    public LocalDateTime schedule(Long eventId, LocalDateTime saleOpenAt) {
+        LocalDateTime runAt = saleOpenAt.minusMinutes(leadMinutes);
+
+        taskScheduler.schedule(() -> executor.execute(() -> {
+            try {
+                warmUpEvent(eventId);
+            } catch (Exception e) {
+                log.error("Scheduled warm-up failed: eventId={}", eventId, e);
+            }
+        }), runAt.atZone(ZoneId.systemDefault()).toInstant());
+
+        log.info("Warm-up scheduled: eventId={}, saleOpenAt={}, runAt={}", eventId, saleOpenAt, runAt);
+        return runAt;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public WarmupResult getLastResult() {
+        return lastResult;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 이벤트 배치의 티켓 조회 + DTO 변환 (트랜잭션 안)
+     */
+    private Batch loadBatch(List<Event> events) {
+        if (events.isEmpty()) {
+            return new Batch(events, List.of(), List.of(), List.of());
+        }
+
+        List<Long> eventIds = events.stream()
+                .map(Event::getId)
+                .toList();
+        List<Ticket> tickets = ticketRepository.findByEventIdIn(eventIds);
+
+        List<EventResponse> eventResponses = events.stream()
+                .map(event -> eventService.convertToResponse(event, null))
+                .toList();
+        List<TicketResponse> ticketResponses = tickets.stream()
+                .map(ticketService::convertToResponse)
+                .toList();
+
+        return new Batch(events, tickets, eventResponses, ticketResponses);
+    }
+
+    /**
+     * 재고 키 → 이벤트 재고 집계 → 캐시 항목 순서로 적재
+     */
+    private void write(Batch batch) {
+        // 1. 재고 키 (파이프라인 SET NX)
+        ticketStockService.warmUp(batch.tickets());
+
+        // 2. 이벤트 재고 집계 (살아있는 재고 키 기준)
+        Map<Long, List<Ticket>> ticketsByEvent = batch.tickets().stream()
+                .collect(Collectors.groupingBy(t -> t.getEvent().getId()));
+        for (Event event : batch.events()) {
+            ticketStockService.rebuild(event.getId(), ticketsByEvent.getOrDefault(event.getId(), List.of()));
+        }
+
+        // 3. 캐시 항목 (캐시별 파이프라인 SET EX + L1 무효화 전파)
+        List<Long> eventIds = batch.events().stream()
+                .map(Event::getId)
+                .toList();
+        Map<Long, Long> totalStocks = ticketStockService.getTotalStocks(eventIds);
+
+        Map<Long, EventResponse> eventEntries = new LinkedHashMap<>();
+        for (EventResponse response : batch.eventResponses()) {
+            eventEntries.put(response.getId(), response.toBuilder()
+                    .totalStock(totalStocks.get(response.getId()))
+                    .build());
+        }
+        Map<Long, TicketResponse> ticketEntries = new LinkedHashMap<>();
+        for (TicketResponse response : batch.ticketResponses()) {
+            ticketEntries.put(response.getId(), response);
+        }
+
+        cacheManager.getCache(EVENT_CACHE).putAll(eventEntries);
+        cacheManager.getCache(TICKET_CACHE).putAll(ticketEntries);
+    }
+
+    private record Batch(List<Event> events,
+                         List<Ticket> tickets,
+                         List<EventResponse> eventResponses,
+                         List<TicketResponse> ticketResponses) {
+    }
+
+    public record WarmupResult(int events, int tickets, long elapsedMillis) {
+    }
+}
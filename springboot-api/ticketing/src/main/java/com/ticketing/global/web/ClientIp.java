@@ -0,0 +1,34 @@
+package com.ticketing.global.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 요청 클라이언트 IP
+ *
+ * X-Forwarded-For는 직접 읽지 않는다 (첫 주소는 클라이언트가 마음대로 넣을 수 있음).
+ * server.forward-headers-strategy=native로 Tomcat RemoteIpValve가 신뢰 프록시 체인이 붙인 주소 중
+ * 가장 오른쪽의 신뢰하지 않는 주소를 remoteAddr로 바꿔 두므로 그 값을 그대로 쓴다.
+ */
+public final class ClientIp {
+
+    private ClientIp() {
+    }
+
+    /**
+     * 현재 스레드의 HTTP 요청 IP (요청 밖이면 null)
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return resolve(servletAttributes.getRequest());
+        }
+        return null;
+    }
+
+    public static String resolve(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
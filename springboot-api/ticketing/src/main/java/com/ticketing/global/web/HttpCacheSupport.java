@@ -0,0 +1,101 @@
+package com.ticketing.global.web;
+
+import com.ticketing.global.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 조회 API의 조건부 GET (ETag / Cache-Control / Last-Modified)
+ *
+ * ETag는 캐시된 DTO의 버전 정보(ID, updatedAt)와 Redis 실시간 재고로만 만든다.
+ * If-None-Match가 일치하면 응답 DTO를 만들거나 직렬화하지 않고 304를 반환한다.
+ *
+ * 본문에 실시간 재고가 들어가므로 Last-Modified(메타데이터 변경 시각)는 정보로만 보내고
+ * 304 판단은 ETag로만 한다. If-Modified-Since만 보낸 요청은 항상 200.
+ */
+@Component
+public class HttpCacheSupport {
+
+    @Value("${http.cache.max-age-seconds:5}")
+    private long maxAgeSeconds;
+
+    @Value("${http.cache.stale-while-revalidate-seconds:30}")
+    private long staleWhileRevalidateSeconds;
+
+    public <T> ResponseEntity<ApiResponse<T>> respond(WebRequest request, Validator validator, Supplier<T> body) {
+        String etag = validator.etag();
+        CacheControl cacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+                .cachePublic()
+                .staleWhileRevalidate(staleWhileRevalidateSeconds, TimeUnit.SECONDS);
+
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl);
+        if (validator.lastModified != null) {
+            builder.lastModified(ZonedDateTime.of(validator.lastModified, ZoneId.systemDefault()));
+        }
+        return builder.body(ApiResponse.success(body.get()));
+    }
+
+    public static Validator validator(String resource) {
+        return new Validator(resource);
+    }
+
+    /**
+     * 응답 버전을 이루는 값들을 64비트 해시로 누적 (FNV-1a)
+     */
+    public static final class Validator {
+
+        private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private final String resource;
+        private long hash = FNV_OFFSET;
+        private LocalDateTime lastModified;
+
+        private Validator(String resource) {
+            this.resource = resource;
+        }
+
+        public Validator add(Long value) {
+            long v = value != null ? value : Long.MIN_VALUE;
+            for (int i = 0; i < Long.BYTES; i++) {
+                hash ^= (v >>> (i * 8)) & 0xff;
+                hash *= FNV_PRIME;
+            }
+            return this;
+        }
+
+        public Validator modifiedAt(LocalDateTime time) {
+            if (time == null) {
+                return add(null);
+            }
+            if (lastModified == null || time.isAfter(lastModified)) {
+                lastModified = time;
+            }
+            return add(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        // 본문은 매번 같은 바이트가 아닐 수 있으므로 weak ETag
+        public String etag() {
+            return "W/\"" + resource + "-" + Long.toHexString(hash) + "\"";
+        }
+    }
+}
@@ -54,6 +54,13 @@ public class InitProgress {
         return (completedCount.get() * 100.0) / targetCount;
     }
 
+    // 초당 처리 건수 (삽입 처리량 비교용)
+    public double getThroughputPerSecond() {
+        LocalDateTime endTime = completedAt != null ? completedAt : LocalDateTime.now();
+        long elapsedMillis = java.time.Duration.between(startedAt, endTime).toMillis();
+        return elapsedMillis > 0 ? completedCount.get() * 1000.0 / elapsedMillis : 0;
+    }
+
     public long getElapsedSeconds() {
         LocalDateTime endTime = completedAt != null ? completedAt : LocalDateTime.now();
         return java.time.Duration.between(startedAt, endTime).getSeconds();
@@ -69,6 +76,7 @@ public class InitProgress {
                 .errorCount(errorCount.get())
                 .progressPercent(getProgressPercent())
                 .elapsedSeconds(getElapsedSeconds())
+                .throughputPerSecond(getThroughputPerSecond())
                 .startedAt(startedAt)
                 .completedAt(completedAt)
                 .build();
@@ -22,6 +22,7 @@ public class DataInitResponse {
     private Double progressPercent;  // 진행률
     private Long elapsedSeconds;  // 경과 시간
     private Long estimatedSecondsRemaining;  // 예상 남은 시간
+    private Double throughputPerSecond;  // 초당 처리 건수
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
     private String message;
@@ -93,11 +93,12 @@ public class EventDataService {
             Instant batchStart = Instant.now();
 
             List<Event> events = new ArrayList<>(batchSize);
+            long[] ids = snowflake.nextIds(batchSize);
             for (int i = 0; i < batchSize; i++) {
                 Category category = getRandomCategory();
 
                 Event event = Event.builder()
-                        .id(snowflake.nextId())
+                        .id(ids[i])
                         .title(getRandomTitle(category) + " #" + (threadId * totalCount + batch * batchSize + i))
                         .description("테스트 이벤트 설명")
                         .category(category)
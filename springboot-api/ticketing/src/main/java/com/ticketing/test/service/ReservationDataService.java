@@ -100,6 +100,7 @@ public class ReservationDataService {
             Instant batchStart = Instant.now();
 
             List<Reservation> reservations = new ArrayList<>(batchSize);
+            long[] ids = snowflake.nextIds(batchSize);
             for (int i = 0; i < batchSize; i++) {
                 long ticketOffset = random.nextLong(Math.max(1, ticketCount - 1000));
                 long userOffset = random.nextLong(Math.max(1, userCount - 10000));
@@ -113,7 +114,7 @@ public class ReservationDataService {
                 LocalDateTime createdAt = LocalDateTime.now().minusDays(random.nextInt(90));
 
                 Reservation reservation = Reservation.builder()
-                        .id(snowflake.nextId())
+                        .id(ids[i])
                         .ticket(tickets.get(0))
                         .user(users.get(0))
                         .status(status)
@@ -1,6 +1,8 @@
 package com.ticketing.test.service;
 
 import com.ticketing.domain.event.repository.EventRepository;
+import com.ticketing.domain.event.service.EventCatalog;
+import com.ticketing.global.existence.ExistenceFilter;
 import com.ticketing.test.dto.data.DataInitRequest;
 import com.ticketing.test.dto.data.DataInitResponse;
 import com.ticketing.test.dto.InitProgress;
@@ -23,6 +25,8 @@ public class TestDataService {
     private final TicketDataService ticketDataService;
     private final ReservationDataService reservationDataService;
     private final EventRepository eventRepository;
+    private final ExistenceFilter existenceFilter;
+    private final EventCatalog eventCatalog;
 
     // 진행 상황을 저장하는 맵
     private final Map<String, InitProgress> progressMap = new ConcurrentHashMap<>();
@@ -34,6 +38,8 @@ public class TestDataService {
 
         CompletableFuture.runAsync(() -> {
             userDataService.generateUsers(request, progress);
+            // 생성 경로를 거치지 않은 대량 적재이므로 존재 필터 재구성
+            existenceFilter.requestRebuild();
         });
 
         return progress.toResponse();
@@ -46,6 +52,8 @@ public class TestDataService {
 
         CompletableFuture.runAsync(() -> {
             eventDataService.generateEvents(request, progress);
+            existenceFilter.requestRebuild();
+            eventCatalog.requestReload();
         });
 
         return progress.toResponse();
@@ -59,6 +67,7 @@ public class TestDataService {
 
         CompletableFuture.runAsync(() -> {
             ticketDataService.generateTickets(request, progress);
+            existenceFilter.requestRebuild();
         });
 
         return progress.toResponse();
@@ -91,6 +100,8 @@ public class TestDataService {
                 eventDataService.generateEvents(request, progress);
                 ticketDataService.generateTickets(request, progress);
                 reservationDataService.generateReservations(request, progress);
+                existenceFilter.requestRebuild();
+                eventCatalog.requestReload();
 
                 progress.complete();
                 log.info("전체 초기화 완료");
@@ -81,9 +81,10 @@ public class TicketDataService {
         Instant start = Instant.now();
 
         List<Ticket> tickets = new ArrayList<>(5);
+        long[] ids = snowflake.nextIds(5);
         for (int i = 0; i < 5; i++) {
             Ticket ticket = Ticket.builder()
-                    .id(snowflake.nextId())
+                    .id(ids[i])
                     .event(event)
                     .name(TICKET_TYPES[i])
                     .price((long) ((5 - i) * 20000 + random.nextInt(10000)))
@@ -72,8 +72,9 @@ public class UserDataService {
             Instant batchStart = Instant.now();
 
             List<User> users = new ArrayList<>(batchSize);
+            long[] ids = snowflake.nextIds(batchSize);
             for (int i = 0; i < batchSize; i++) {
-                long userId = snowflake.nextId();
+                long userId = ids[i];
                 User user = User.create(
                         userId,
                         String.format("user_%d_%d_%d@test.com", threadId, batch, i),
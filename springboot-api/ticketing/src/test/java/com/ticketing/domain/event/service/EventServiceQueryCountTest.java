@@ -0,0 +1,136 @@
+package com.ticketing.domain.event.service;
+
+import com.ticketing.domain.event.dto.EventResponse;
+import com.ticketing.domain.event.entity.Event;
+import com.ticketing.domain.ticket.entity.Ticket;
+import com.ticketing.domain.ticket.service.TicketStockService;
+import com.ticketing.global.enums.Category;
+import com.ticketing.global.existence.ExistenceFilter;
+import com.ticketing.global.snowflake.Snowflake;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ticketing;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EventService.class, EventServiceQueryCountTest.SnowflakeTestConfig.class})
+class EventServiceQueryCountTest {
+
+    private static final int EVENT_COUNT = 50;
+    private static final int TICKETS_PER_EVENT = 3;
+
+    @Autowired
+    private EventService eventService;
+
+    // Redis 재고 집계가 비어 있는 상태 (모든 재고 합계가 DB로 대체되는 경우)
+    @MockBean
+    private TicketStockService ticketStockService;
+
+    // 목록 조회는 존재 필터를 거치지 않음
+    @MockBean
+    private ExistenceFilter existenceFilter;
+
+    // 카탈로그 적재 전 (SQL 경로의 쿼리 수 검증)
+    @MockBean
+    private EventCatalog eventCatalog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        long id = 1;
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Event event = Event.builder()
+                    .id(id++)
+                    .title("이벤트 " + i)
+                    .category(i % 2 == 0 ? Category.CONCERT : Category.MUSICAL)
+                    .venue("KSPO DOME")
+                    .eventDate(LocalDateTime.now().plusDays(i + 1))
+                    .build();
+            entityManager.persist(event);
+
+            for (int j = 0; j < TICKETS_PER_EVENT; j++) {
+                entityManager.persist(Ticket.builder()
+                        .id(id++)
+                        .event(event)
+                        .name("R석")
+                        .stock(100L)
+                        .price(50000L)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 전체_이벤트_페이지는_페이지_크기와_무관하게_쿼리_3회() {
+        // content + count + 재고 합계
+        Page<EventResponse> small = eventService.getAllEvents(PageRequest.of(0, 5));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(small.getContent()).allMatch(e -> e.getTotalStock() == 100L * TICKETS_PER_EVENT);
+
+        statistics.clear();
+        eventService.getAllEvents(PageRequest.of(0, 20));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 카테고리별_조회도_쿼리_수가_고정() {
+        eventService.getEventsByCategory(Category.CONCERT, PageRequest.of(0, 20));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 검색도_쿼리_수가_고정() {
+        eventService.searchEvents("이벤트", PageRequest.of(0, 20));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void 예정된_이벤트는_전체_건수와_무관하게_쿼리_2회() {
+        List<EventResponse> events = eventService.getUpcomingEvents(PageRequest.of(0, EVENT_COUNT));
+
+        assertThat(events).hasSize(EVENT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @TestConfiguration
+    static class SnowflakeTestConfig {
+
+        @Bean
+        Snowflake snowflake() {
+            return new Snowflake(1);
+        }
+    }
+}
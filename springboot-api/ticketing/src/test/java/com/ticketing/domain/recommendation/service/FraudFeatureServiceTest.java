@@ -0,0 +1,36 @@
+package com.ticketing.domain.recommendation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FraudFeatureServiceTest {
+
+    @Test
+    void ipv4KeysAreTheAddressValueAndRoundTrip() {
+        assertThat(FraudFeatureService.ipKey("0.0.0.0")).isZero();
+        assertThat(FraudFeatureService.ipKey("10.0.0.1")).isEqualTo((10L << 24) | 1);
+        assertThat(FraudFeatureService.ipKey("255.255.255.255")).isEqualTo((1L << 32) - 1);
+
+        for (String ip : List.of("0.0.0.0", "127.0.0.1", "192.168.10.254", "255.255.255.255")) {
+            assertThat(FraudFeatureService.ipString(FraudFeatureService.ipKey(ip))).isEqualTo(ip);
+        }
+    }
+
+    @Test
+    void invalidAndIpv6KeysAreHashedOutsideIpv4RangeAndNeverEmpty() {
+        List<String> others = List.of("::1", "2001:db8::1", "256.0.0.1", "1.2.3", "1.2.3.4.5", "1..2.3",
+                "a.b.c.d", " 1.2.3.4", "", "unknown");
+
+        for (String ip : others) {
+            long key = FraudFeatureService.ipKey(ip);
+            // 최상위 비트가 선 음수라 IPv4 키(0 ~ 2^32-1)와 겹치지 않고, 빈 슬롯 표시(Long.MIN_VALUE)도 아님
+            assertThat(key).as(ip).isNegative().isNotEqualTo(Long.MIN_VALUE);
+            assertThat(FraudFeatureService.ipString(key)).as(ip).startsWith("hash:");
+        }
+        assertThat(FraudFeatureService.ipKey("::1")).isEqualTo(FraudFeatureService.ipKey("::1"))
+                .isNotEqualTo(FraudFeatureService.ipKey("::2"));
+    }
+}
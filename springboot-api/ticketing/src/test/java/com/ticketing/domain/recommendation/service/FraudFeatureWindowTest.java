@@ -0,0 +1,109 @@
+package com.ticketing.domain.recommendation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FraudFeatureWindowTest {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final long NOON = LocalDateTime.of(2024, 5, 1, 12, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+    @Test
+    void burstOfEvenlySpacedReservationsLooksLikeBot() {
+        FraudFeatureWindow window = new FraudFeatureWindow(100, 32, 600_000L, 0, 6, ZONE);
+        for (int i = 0; i < 10; i++) {
+            window.record(1L, 100L + i, NOON + i * 2_000L);
+        }
+
+        FraudFeatureWindow.Features features = window.features(1L, NOON + 20_000L);
+
+        assertThat(features.reservationsLastMinute()).isEqualTo(10);
+        assertThat(features.reservationsInWindow()).isEqualTo(10);
+        assertThat(features.distinctTickets()).isEqualTo(10);
+        assertThat(features.nightRatio()).isZero();
+        assertThat(features.interArrivalMeanSeconds()).isCloseTo(2.0, within(1e-9));
+        assertThat(features.interArrivalVarianceSeconds()).isCloseTo(0.0, within(1e-9));
+        assertThat(features.saturated()).isFalse();
+    }
+
+    @Test
+    void onlyReservationsInsideWindowCount() {
+        FraudFeatureWindow window = new FraudFeatureWindow(100, 32, 600_000L, 0, 6, ZONE);
+        long night = NOON - 10 * 3_600_000L;  // 02:00
+        window.record(1L, 1L, night);
+        window.record(1L, 1L, NOON - 120_000L);
+        window.record(1L, 2L, NOON - 30_000L);
+
+        FraudFeatureWindow.Features features = window.features(1L, NOON);
+
+        assertThat(features.reservationsInWindow()).isEqualTo(2);
+        assertThat(features.reservationsLastMinute()).isEqualTo(1);
+        assertThat(features.distinctTickets()).isEqualTo(2);
+        assertThat(features.interArrivalMeanSeconds()).isCloseTo(90.0, within(1e-9));
+        assertThat(window.features(1L, NOON + 3_600_000L)).isNull();
+        assertThat(window.features(2L, NOON)).isNull();
+
+        FraudFeatureWindow.Features nightOnly = window.features(1L, night + 1_000L);
+        assertThat(nightOnly.nightRatio()).isEqualTo(1.0);
+    }
+
+    @Test
+    void ringKeepsOnlyLatestReservations() {
+        FraudFeatureWindow window = new FraudFeatureWindow(100, 4, 600_000L, 0, 6, ZONE);
+        for (int i = 0; i < 10; i++) {
+            window.record(1L, i, NOON + i * 1_000L);
+        }
+
+        FraudFeatureWindow.Features features = window.features(1L, NOON + 10_000L);
+
+        assertThat(features.reservationsInWindow()).isEqualTo(4);
+        assertThat(features.saturated()).isTrue();
+        assertThat(features.lastSeenMillis()).isEqualTo(NOON + 9_000L);
+    }
+
+    @Test
+    void fullWindowEvictsQuietKeysAndKeepsLookupsConsistent() {
+        int maxKeys = 64;
+        FraudFeatureWindow window = new FraudFeatureWindow(maxKeys, 4, 600_000L, 0, 6, ZONE);
+        for (long key = 0; key < 1_000; key++) {
+            window.record(key, 1L, NOON + key);
+        }
+
+        assertThat(window.size()).isEqualTo(maxKeys);
+        assertThat(window.evictions()).isEqualTo(1_000 - maxKeys);
+        assertThat(window.features(999L, NOON + 1_000L)).isNotNull();
+        assertThat(window.features(0L, NOON + 1_000L)).isNull();
+
+        int found = 0;
+        for (long key = 0; key < 1_000; key++) {
+            FraudFeatureWindow.Features features = window.features(key, NOON + 1_000L);
+            if (features != null) {
+                assertThat(features.key()).isEqualTo(key);
+                found++;
+            }
+        }
+        assertThat(found).isEqualTo(maxKeys);
+    }
+
+    @Test
+    void topRanksByReservationsInLastMinute() {
+        FraudFeatureWindow window = new FraudFeatureWindow(100, 32, 600_000L, 0, 6, ZONE);
+        for (long key = 1; key <= 5; key++) {
+            for (int i = 0; i < key; i++) {
+                window.record(key, i, NOON + i);
+            }
+        }
+        window.record(6L, 1L, NOON - 300_000L);
+
+        List<FraudFeatureWindow.Features> top = window.top(3, NOON + 1_000L);
+
+        assertThat(top).extracting(FraudFeatureWindow.Features::key).containsExactly(5L, 4L, 3L);
+    }
+}
@@ -0,0 +1,170 @@
+package com.ticketing.global.client;
+
+import com.ticketing.domain.recommendation.dto.RecommendationRequest;
+import com.ticketing.domain.recommendation.dto.RecommendationResponse;
+import com.ticketing.domain.recommendation.entity.EventRecommendation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 배치 엔드포인트 대신 로컬 stub으로 마이크로 배칭 동작 검증
+ */
+class RecommendationBatcherTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<RecommendationRequest>> sentBatches = new CopyOnWriteArrayList<>();
+    private RecommendationBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentRequestsAreSentAsFewBatchesAndFannedOutPerUser() throws Exception {
+        batcher = new RecommendationBatcher(stub(), 64, Duration.ofMillis(20), 4, meterRegistry);
+        int users = 200;
+
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<RecommendationResponse>> futures = new CopyOnWriteArrayList<>();
+        for (long userId = 1; userId <= users; userId++) {
+            long id = userId;
+            callers.execute(() -> {
+                await(start);
+                futures.add(batcher.submit(id, 3));
+            });
+        }
+        start.countDown();
+        callers.shutdown();
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(sentBatches).hasSizeLessThan(users / 10);
+        assertThat(sentBatches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(64));
+        assertThat(sentBatches.stream().mapToInt(List::size).sum()).isEqualTo(users);
+        for (CompletableFuture<RecommendationResponse> future : futures) {
+            RecommendationResponse response = future.join();
+            assertThat(response.getRecommendations()).hasSize(3)
+                    .allSatisfy(recommendation -> assertThat(recommendation.getEventId() / 1000)
+                            .isEqualTo(response.getUserId()));
+        }
+
+        assertThat(meterRegistry.get("recommendation.batch.size").summary().count()).isEqualTo(sentBatches.size());
+        assertThat(meterRegistry.get("recommendation.batch.wait").timer().count()).isEqualTo(users);
+    }
+
+    @Test
+    void sameUserIsRequestedOnceAndTrimmedToEachCallersLimit() {
+        batcher = new RecommendationBatcher(stub(), 64, Duration.ofMillis(20), 4, meterRegistry);
+
+        CompletableFuture<RecommendationResponse> small = batcher.submit(7L, 2);
+        CompletableFuture<RecommendationResponse> large = batcher.submit(7L, 5);
+
+        assertThat(small.join().getRecommendations()).hasSize(2);
+        assertThat(large.join().getRecommendations()).hasSize(5);
+        assertThat(sentBatches).hasSize(1);
+        assertThat(sentBatches.get(0)).singleElement()
+                .satisfies(request -> assertThat(request.getLimit()).isEqualTo(5));
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaiting() {
+        batcher = new RecommendationBatcher(stub(), 4, Duration.ofSeconds(10), 4, meterRegistry);
+
+        List<CompletableFuture<RecommendationResponse>> futures = LongStream.rangeClosed(1, 4)
+                .mapToObj(userId -> batcher.submit(userId, 1))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(1, TimeUnit.SECONDS).join();
+        assertThat(sentBatches).hasSize(1);
+    }
+
+    @Test
+    void batchFailureCompletesEveryCallerExceptionally() {
+        batcher = new RecommendationBatcher(requests -> CompletableFuture.failedFuture(new IllegalStateException("down")),
+                64, Duration.ofMillis(5), 4, meterRegistry);
+
+        CompletableFuture<RecommendationResponse> first = batcher.submit(1L, 3);
+        CompletableFuture<RecommendationResponse> second = batcher.submit(2L, 3);
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("recommendation.batch.latency").tag("result", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void failedOrMissingUsersCompleteExceptionallyWithoutFailingOthers() {
+        // 사용자 2는 FastAPI에서 실패, 사용자 3은 응답에서 빠짐
+        Function<List<RecommendationRequest>, CompletableFuture<List<RecommendationResponse>>> partial =
+                requests -> stub().apply(requests).thenApply(responses -> responses.stream()
+                        .filter(response -> response.getUserId() != 3L)
+                        .map(response -> response.getUserId() != 2L ? response : RecommendationResponse.builder()
+                                .userId(2L)
+                                .error("model not fitted")
+                                .build())
+                        .toList());
+        batcher = new RecommendationBatcher(partial, 64, Duration.ofMillis(5), 4, meterRegistry);
+
+        CompletableFuture<RecommendationResponse> ok = batcher.submit(1L, 3);
+        CompletableFuture<RecommendationResponse> failed = batcher.submit(2L, 3);
+        CompletableFuture<RecommendationResponse> missing = batcher.submit(3L, 3);
+
+        assertThat(ok.join().getRecommendations()).hasSize(3);
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("model not fitted");
+        assertThatThrownBy(missing::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(sentBatches).hasSize(1);
+    }
+
+    // 사용자 N에게 N*1000 + i 이벤트를 limit개 추천하는 배치 엔드포인트 stub
+    private Function<List<RecommendationRequest>, CompletableFuture<List<RecommendationResponse>>> stub() {
+        return requests -> {
+            sentBatches.add(List.copyOf(requests));
+            List<RecommendationResponse> responses = new ArrayList<>(requests.size());
+            for (RecommendationRequest request : requests) {
+                List<EventRecommendation> recommendations = new ArrayList<>();
+                for (int i = 0; i < request.getLimit(); i++) {
+                    recommendations.add(EventRecommendation.builder()
+                            .eventId(request.getUserId() * 1000 + i)
+                            .score(1.0 - i * 0.1)
+                            .build());
+                }
+                responses.add(RecommendationResponse.builder()
+                        .userId(request.getUserId())
+                        .recommendations(recommendations)
+                        .build());
+            }
+            return CompletableFuture.supplyAsync(() -> responses);
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
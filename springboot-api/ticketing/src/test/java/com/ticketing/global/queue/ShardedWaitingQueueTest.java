@@ -0,0 +1,135 @@
+package com.ticketing.global.queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Redis 없이 메모리 ZSET으로 샤드 라우팅과 전역 순번/크기 합산 검증
+ */
+class ShardedWaitingQueueTest {
+
+    private static final int SHARDS = 8;
+
+    private final Map<String, Map<Object, Double>> zsets = new HashMap<>();
+    // 파이프라인 실행 중이면 명령 결과를 모아 executePipelined 반환값으로 돌려줌
+    private List<Object> pipelined;
+
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        ZSetOperations<String, Object> zSet = mock(ZSetOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+
+        when(zSet.add(anyString(), any(), anyDouble())).thenAnswer(inv ->
+                reply(zset(inv.getArgument(0)).put(inv.getArgument(1), inv.getArgument(2)) == null));
+        when(zSet.score(anyString(), any())).thenAnswer(inv ->
+                reply(zset(inv.getArgument(0)).get(inv.getArgument(1))));
+        when(zSet.rank(anyString(), any())).thenAnswer(inv -> reply(rank(inv.getArgument(0), inv.getArgument(1))));
+        when(zSet.count(anyString(), anyDouble(), anyDouble())).thenAnswer(inv -> {
+            double min = inv.getArgument(1);
+            double max = inv.getArgument(2);
+            return reply(zset(inv.getArgument(0)).values().stream()
+                    .filter(score -> score >= min && score <= max)
+                    .count());
+        });
+        when(zSet.zCard(anyString())).thenAnswer(inv -> reply((long) zset(inv.getArgument(0)).size()));
+
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(inv -> {
+            pipelined = new ArrayList<>();
+            ((SessionCallback<Object>) inv.getArgument(0)).execute(redisTemplate);
+            List<Object> results = pipelined;
+            pipelined = null;
+            return results;
+        });
+    }
+
+    @Test
+    void rejectsNonPositiveShardCount() {
+        assertThatThrownBy(() -> new ShardedWaitingQueue(redisTemplate, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ShardedWaitingQueue(redisTemplate, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tokensAreRoutedToStableShardByHash() {
+        ShardedWaitingQueue queue = new ShardedWaitingQueue(redisTemplate, SHARDS);
+
+        for (int i = 0; i < 200; i++) {
+            queue.add(1L, "token-" + i, i);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String token = "token-" + i;
+            String expectedKey = "queue:ticket:1:" + Math.floorMod(token.hashCode(), SHARDS);
+            assertThat(zsets.entrySet())
+                    .filteredOn(entry -> entry.getValue().containsKey(token))
+                    .singleElement()
+                    .satisfies(entry -> assertThat(entry.getKey()).isEqualTo(expectedKey));
+        }
+        assertThat(zsets.keySet()).hasSizeGreaterThan(1)
+                .allSatisfy(key -> assertThat(key).startsWith("queue:ticket:1:"));
+    }
+
+    @Test
+    void rankAndSizeAggregateAcrossShards() {
+        ShardedWaitingQueue queue = new ShardedWaitingQueue(redisTemplate, SHARDS);
+        int users = 50;
+        for (int i = 0; i < users; i++) {
+            queue.add(1L, "token-" + i, 1_000 + i);
+        }
+        queue.add(2L, "other", 1_000);
+
+        for (int i = 0; i < users; i++) {
+            assertThat(queue.rank(1L, "token-" + i)).isEqualTo(i);
+        }
+        assertThat(queue.rank(1L, "missing")).isNull();
+        assertThat(queue.size(1L)).isEqualTo(users);
+        assertThat(queue.size(2L)).isEqualTo(1);
+        assertThat(queue.size(3L)).isZero();
+    }
+
+    private Map<Object, Double> zset(String key) {
+        return zsets.computeIfAbsent(key, k -> new HashMap<>());
+    }
+
+    // Redis ZRANK: score 오름차순, 같은 score는 멤버 사전순
+    private Long rank(String key, Object member) {
+        Map<Object, Double> zset = zset(key);
+        Double score = zset.get(member);
+        if (score == null) {
+            return null;
+        }
+        return zset.entrySet().stream()
+                .filter(entry -> entry.getValue() < score
+                        || (entry.getValue().equals(score) && entry.getKey().toString().compareTo(member.toString()) < 0))
+                .count();
+    }
+
+    private Object reply(Object value) {
+        if (pipelined != null) {
+            pipelined.add(value);
+            return null;
+        }
+        return value;
+    }
+}